@@ -0,0 +1,140 @@
+package com.example.AidLink.benchmark;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.AidLink.repository.DonationRepository;
+import com.example.AidLink.repository.EventRepository;
+import com.example.AidLink.repository.UserRepository;
+import com.example.AidLink.service.DonationAggregator;
+import com.example.AidLink.service.DonationMetrics;
+import com.example.AidLink.service.DonationService;
+import com.example.models.Donation;
+import com.example.models.Event;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// The ledger donation path: DonationService records each donation as a pending ledger entry and
+// DonationAggregator folds a batch of them into the event and user totals. The ledger and the totals are
+// kept in memory. Each invocation records one aggregator batch of donations and then aggregates, so the
+// score is the cost per donation of both halves. The contended variant sends every thread to the same event.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class DonationBenchmark {
+	private static final int EVENTS = 100;
+	private static final int BATCH = 500;
+	private static final String DONOR = "donor@example.org";
+
+	private final Map<Integer, Event> events = new ConcurrentHashMap<>();
+	private final Map<String, Integer> donatedAmounts = new ConcurrentHashMap<>();
+	private final Queue<Donation> pending = new ConcurrentLinkedQueue<>();
+	private final Map<String, List<Donation>> claimed = new ConcurrentHashMap<>();
+	private DonationService donationService;
+	private DonationAggregator donationAggregator;
+
+	@Setup
+	public void setUp() {
+		for (Event event : Fixtures.events(EVENTS)) events.put(event.getId(), event);
+		donatedAmounts.put(DONOR, 0);
+
+		DonationRepository donationRepository = StandIns.of(DonationRepository.class)
+				.on("insert", 1, args -> {
+					pending.add((Donation) args[0]);
+					return args[0];
+				})
+				.on("claimPending", 3, args -> claim((String) args[0], (Instant) args[1], (Integer) args[2]))
+				.on("findByBatchId", 1, args -> claimed.getOrDefault((String) args[0], List.of()))
+				.on("markApplied", 1, args -> claimed.remove((String) args[0]))
+				.build();
+		EventRepository eventRepository = StandIns.of(EventRepository.class)
+				// A fresh document per read like MongoDB returns, the service writes the expected total into it
+				.on("findFundingById", 1, args -> Optional.ofNullable(events.get((Integer) args[0])).map(event -> {
+					Event funding = new Event();
+					funding.setId(event.getId());
+					funding.setCurrentFunding(event.getCurrentFunding());
+					funding.setFundingGoal(event.getFundingGoal());
+					return funding;
+				}))
+				.on("applyFundingBatch", 2, args -> {
+					@SuppressWarnings("unchecked")
+					Map<Integer, Integer> deltas = (Map<Integer, Integer>) args[1];
+					deltas.forEach((id, delta) -> events.computeIfPresent(id, (key, event) -> {
+						event.setCurrentFunding(event.getCurrentFunding() + delta);
+						event.setFundingProgress((double) event.getCurrentFunding() / event.getFundingGoal());
+						return event;
+					}));
+					return null;
+				})
+				.build();
+		UserRepository userRepository = StandIns.of(UserRepository.class)
+				.on("applyDonationBatch", 2, args -> {
+					@SuppressWarnings("unchecked")
+					Map<String, Integer> deltas = (Map<String, Integer>) args[1];
+					deltas.forEach((email, delta) -> donatedAmounts.computeIfPresent(email, (key, total) -> total + delta));
+					return null;
+				})
+				.build();
+		donationService = new DonationService(donationRepository, eventRepository, Optional.empty(),
+				new DonationMetrics(new SimpleMeterRegistry(), "ledger"));
+		donationAggregator = new DonationAggregator(donationRepository, eventRepository, userRepository,
+				StandIns.NO_EVENTS, BATCH, 60_000);
+	}
+
+	private long claim(String batchId, Instant claimedAt, int limit) {
+		List<Donation> batch = new ArrayList<>(limit);
+		Donation donation;
+		while (batch.size() < limit && (donation = pending.poll()) != null) {
+			donation.setStatus("claimed");
+			donation.setBatchId(batchId);
+			donation.setClaimedAt(claimedAt);
+			batch.add(donation);
+		}
+		if (!batch.isEmpty()) claimed.put(batchId, batch);
+		return batch.size();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(BATCH)
+	public int donate() throws Exception {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		for (int i = 0; i < BATCH; i++) {
+			donationService.recordDonation(random.nextInt(1, EVENTS + 1), 1, DONOR);
+		}
+		return donationAggregator.aggregateBatch();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(BATCH)
+	@Threads(8)
+	public int donateToOneEventContended() throws Exception {
+		for (int i = 0; i < BATCH; i++) {
+			donationService.recordDonation(1, 1, DONOR);
+		}
+		return donationAggregator.aggregateBatch();
+	}
+}
@@ -0,0 +1,95 @@
+package com.example.AidLink.benchmark;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.AidLink.repository.CounterRepository;
+import com.example.AidLink.repository.EventRepository;
+import com.example.AidLink.service.EventIdAllocator;
+import com.example.AidLink.service.EventService;
+import com.example.models.Event;
+
+// EventService.addEvent: new events take their id from EventIdAllocator's reserved block, events sent with
+// an id replace the stored one. blockSize 1 is one counter round trip per event, as before blocks existed.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class EventIdBenchmark {
+	private static final int STORED = 100;
+
+	@Param({ "1", "20" })
+	int blockSize;
+
+	private final Map<String, Long> counters = new ConcurrentHashMap<>();
+	private final Map<Integer, Event> stored = new ConcurrentHashMap<>();
+	private EventService eventService;
+
+	@Setup
+	public void setUp() {
+		for (Event event : Fixtures.events(STORED)) stored.put(event.getId(), event);
+
+		CounterRepository counterRepository = StandIns.of(CounterRepository.class)
+				.on("incrementAndGet", 2, args -> counters.merge((String) args[0], (long) (Integer) args[1], Long::sum))
+				.on("raiseTo", 2, args -> counters.merge((String) args[0], (Long) args[1], Math::max))
+				.build();
+		EventRepository eventRepository = StandIns.of(EventRepository.class)
+				.on("findTopByOrderByIdDesc", 0, args -> Optional.of(stored.get(STORED)))
+				// New events aren't kept, a run inserts millions of them
+				.on("insert", 1, args -> args[0])
+				.on("findById", 1, args -> Optional.ofNullable(stored.get((Integer) args[0])))
+				.on("save", 1, args -> {
+					Event event = (Event) args[0];
+					stored.put(event.getId(), event);
+					return event;
+				})
+				.build();
+		EventIdAllocator allocator = new EventIdAllocator(counterRepository, eventRepository, blockSize);
+		eventService = new EventService(eventRepository, allocator, StandIns.NO_EVENTS, StandIns.NO_CACHES);
+	}
+
+	@Benchmark
+	public Event addNewEvent() {
+		return eventService.addEvent(newEvent(null));
+	}
+
+	@Benchmark
+	@Threads(4)
+	public Event addNewEventContended() {
+		return eventService.addEvent(newEvent(null));
+	}
+
+	@Benchmark
+	public Event replaceEvent() {
+		return eventService.addEvent(newEvent(STORED / 2));
+	}
+
+	// A fresh request body every call, addEvent assigns the id and progress on it
+	private static Event newEvent(Integer id) {
+		Event event = new Event();
+		event.setId(id);
+		event.setTitle("Wildfire");
+		event.setCategory("wildfire");
+		event.setOngoing(true);
+		event.setFundingGoal(100_000);
+		event.setCurrentFunding(0);
+		return event;
+	}
+}
@@ -0,0 +1,225 @@
+package com.example.AidLink.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+
+import com.example.models.Event;
+import com.example.models.Organization;
+
+// Documents shaped like production data, every nested section filled in
+final class Fixtures {
+	private Fixtures() {
+	}
+
+	static Event event(int id) {
+		Event event = new Event();
+		event.setId(id);
+		event.setTitle("Flooding in region " + id);
+		event.setDescription("Heavy monsoon rains have displaced thousands of families who need shelter, clean water "
+				+ "and medical care. Local partners are coordinating distribution points across the district.");
+		event.setCategory(id % 2 == 0 ? "flood" : "earthquake");
+		event.setOngoing(id % 3 != 0);
+		event.setEstimatedAffectedPeople(10_000 + id * 37);
+		event.setSeverity("high");
+		event.setLocation("District " + id + ", Country");
+		event.setStartDate("2025-07-01");
+		event.setEndDate("2025-12-31");
+		event.setCoverImage("https://res.cloudinary.com/aidlink/image/upload/v1/events/" + id + ".jpg");
+		event.setUrgencyLevel("critical");
+		event.setFundingGoal(500_000);
+		event.setCurrentFunding(125_000 + id);
+		event.setFundingProgress((125_000.0 + id) / 500_000);
+		event.setCoordinates(new GeoJsonPoint(85.3 + id % 10, 27.7 + id % 5));
+		return event;
+	}
+
+	static List<Event> events(int count) {
+		List<Event> events = new ArrayList<>(count);
+		for (int id = 1; id <= count; id++) events.add(event(id));
+		return events;
+	}
+
+	// An approved organization registered for the given events
+	static Organization organization(String id, List<Integer> eventIds) {
+		Organization org = new Organization();
+		org.setId(id);
+
+		Organization.OrganizationInfo info = new Organization.OrganizationInfo();
+		info.setLegalName("Relief Partners International " + id);
+		info.setCommonName("Relief Partners " + id);
+		info.setAcronym("RPI");
+		info.setOrganizationType("NGO");
+		info.setRegistrationNumber("REG-" + id);
+		info.setTaxId("TAX-" + id);
+		info.setEstablishedDate("1998-04-12");
+		info.setWebsite("https://relief.example.org");
+		info.setEmail("contact@relief.example.org");
+		info.setPhone("+1 555 0100");
+		info.setPassword("$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z5uL5VnO.wG9f8m6bU1aX1a.");
+		info.setLogo("https://res.cloudinary.com/aidlink/image/upload/v1/logos/" + id + ".png");
+		org.setOrganizationInfo(info);
+
+		Organization.AddressInfo address = new Organization.AddressInfo();
+		Organization.AddressInfo.Headquarters hq = new Organization.AddressInfo.Headquarters();
+		hq.setStreet("12 Harbour Road");
+		hq.setCity("Geneva");
+		hq.setState("GE");
+		hq.setZipCode("1201");
+		hq.setCountry("Switzerland");
+		hq.setCoordinates(new GeoJsonPoint(6.14, 46.2));
+		address.setHeadquarters(hq);
+		List<Organization.AddressInfo.OperationalRegion> regions = new ArrayList<>();
+		for (int i = 0; i < 3; i++) {
+			Organization.AddressInfo.OperationalRegion region = new Organization.AddressInfo.OperationalRegion();
+			region.setRegion("Region " + i);
+			region.setCountries(List.of("Nepal", "India", "Bangladesh"));
+			region.setActive(true);
+			regions.add(region);
+		}
+		address.setOperationalRegions(regions);
+		List<Organization.AddressInfo.FieldOffice> offices = new ArrayList<>();
+		for (int i = 0; i < 4; i++) {
+			Organization.AddressInfo.FieldOffice office = new Organization.AddressInfo.FieldOffice();
+			office.setName("Field office " + i);
+			office.setAddress("Camp road " + i);
+			office.setPhone("+977 1 555 010" + i);
+			office.setEmail("field" + i + "@relief.example.org");
+			office.setCoordinates(new GeoJsonPoint(85.3 + i, 27.7));
+			offices.add(office);
+		}
+		address.setFieldOffices(offices);
+		org.setAddressInfo(address);
+
+		Organization.LegalDocumentation legal = new Organization.LegalDocumentation();
+		legal.setIncorporationCertificate(certificate("INC"));
+		legal.setTaxExemptStatus(certificate("TAX"));
+		legal.setOperatingLicense(certificate("LIC"));
+		List<Organization.LegalDocumentation.AuditReport> audits = new ArrayList<>();
+		for (int year = 2021; year <= 2024; year++) {
+			Organization.LegalDocumentation.AuditReport audit = new Organization.LegalDocumentation.AuditReport();
+			audit.setYear(year);
+			audit.setAuditorName("Audit & Co");
+			audit.setAuditDate(year + "-06-30");
+			audit.setReportUrl("https://relief.example.org/audits/" + year + ".pdf");
+			audit.setVerified(true);
+			audit.setCleanOpinion(true);
+			audits.add(audit);
+		}
+		legal.setAuditReports(audits);
+		org.setLegalDocumentation(legal);
+
+		Organization.OrganizationDetails details = new Organization.OrganizationDetails();
+		details.setMission("Deliver emergency relief to communities hit by natural disasters.");
+		details.setVision("Every community recovers faster.");
+		details.setFocusAreas(List.of("shelter", "water", "health", "food"));
+		details.setTargetBeneficiaries(List.of("families", "children", "elderly"));
+		Organization.OrganizationDetails.OperationalCapacity capacity = new Organization.OrganizationDetails.OperationalCapacity();
+		capacity.setStaffCount(240);
+		capacity.setVolunteersCount(1800);
+		capacity.setEmergencyResponseTeams(12);
+		capacity.setLogisticalCapacity("Regional warehouses and 40 trucks");
+		capacity.setMobilizationTime("48 hours");
+		details.setOperationalCapacity(capacity);
+		org.setOrganizationDetails(details);
+
+		Organization.FinancialInformation financials = new Organization.FinancialInformation();
+		Organization.FinancialInformation.AnnualBudget budget = new Organization.FinancialInformation.AnnualBudget();
+		budget.setYear(2024);
+		budget.setTotalBudget(12_500_000);
+		budget.setProgramExpenses(10_000_000);
+		budget.setAdministrativeExpenses(1_500_000);
+		budget.setFundraisingExpenses(1_000_000);
+		budget.setProgramEfficiencyRatio(0.8);
+		financials.setAnnualBudget(budget);
+		List<Organization.FinancialInformation.FundingSource> sources = new ArrayList<>();
+		for (String source : List.of("individual donors", "foundations", "government grants")) {
+			Organization.FinancialInformation.FundingSource fundingSource = new Organization.FinancialInformation.FundingSource();
+			fundingSource.setSource(source);
+			fundingSource.setPercentage(33);
+			fundingSource.setAmount(4_100_000);
+			sources.add(fundingSource);
+		}
+		financials.setFundingSources(sources);
+		org.setFinancialInformation(financials);
+
+		Organization.Leadership leadership = new Organization.Leadership();
+		Organization.Leadership.ExecutiveDirector director = new Organization.Leadership.ExecutiveDirector();
+		director.setName("Amina Rahman");
+		director.setPosition("Executive Director");
+		director.setEmail("director@relief.example.org");
+		director.setPhone("+1 555 0101");
+		director.setBio("Twenty years of field coordination in humanitarian response.");
+		director.setLinkedIn("https://linkedin.com/in/example");
+		director.setPhoto("https://res.cloudinary.com/aidlink/image/upload/v1/people/director.jpg");
+		leadership.setExecutiveDirector(director);
+		org.setLeadership(leadership);
+
+		List<Organization.Program> programs = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			Organization.Program program = new Organization.Program();
+			program.setProgramId("P" + i);
+			program.setName("Program " + i);
+			program.setDescription("Emergency shelter and water purification for displaced families.");
+			program.setCategory("shelter");
+			program.setBudget(750_000);
+			program.setBeneficiariesReached(12_000);
+			program.setStatus("active");
+			program.setStartDate("2024-01-01");
+			program.setEndDate("2026-12-31");
+			program.setCoverImage("https://res.cloudinary.com/aidlink/image/upload/v1/programs/" + i + ".jpg");
+			programs.add(program);
+		}
+		org.setPrograms(programs);
+
+		List<Organization.ContactPerson> contacts = new ArrayList<>();
+		for (int i = 0; i < 3; i++) {
+			Organization.ContactPerson contact = new Organization.ContactPerson();
+			contact.setName("Contact " + i);
+			contact.setPosition("Coordinator");
+			contact.setEmail("contact" + i + "@relief.example.org");
+			contact.setPhone("+1 555 011" + i);
+			contact.setRole(i == 0 ? "primary" : "secondary");
+			contacts.add(contact);
+		}
+		org.setContactPersons(contacts);
+
+		List<Organization.EventRegistration> registrations = new ArrayList<>();
+		for (Integer eventId : eventIds) {
+			Organization.EventRegistration registration = new Organization.EventRegistration();
+			registration.setEventId(eventId);
+			registration.setEventTitle("Flooding in region " + eventId);
+			registration.setRegistrationDate("2025-07-03");
+			registration.setStatus("active");
+			registration.setRole("implementing partner");
+			registration.setServicesOffered(List.of("shelter", "water", "medical"));
+			registration.setEstimatedBudgetAllocated(150_000);
+			registration.setExpectedBeneficiaries(5_000);
+			registration.setResponseTime("24 hours");
+			registration.setNotes("Teams already deployed in the area.");
+			registrations.add(registration);
+		}
+		org.setEventRegistrations(registrations);
+
+		Organization.RegistrationStatus status = new Organization.RegistrationStatus();
+		status.setPlatformRegistrationDate("2025-01-15");
+		status.setVerificationStatus("verified");
+		status.setApprovalStatus("approved");
+		status.setActive(true);
+		status.setLastUpdated("2025-07-03");
+		org.setRegistrationStatus(status);
+		return org;
+	}
+
+	private static Organization.LegalDocumentation.Certificate certificate(String prefix) {
+		Organization.LegalDocumentation.Certificate certificate = new Organization.LegalDocumentation.Certificate();
+		certificate.setDocumentNumber(prefix + "-2019-0042");
+		certificate.setIssueDate("2019-03-01");
+		certificate.setExpiryDate("2029-03-01");
+		certificate.setIssuingAuthority("Registrar of Charities");
+		certificate.setStatus("valid");
+		certificate.setImageUrl("https://res.cloudinary.com/aidlink/image/upload/v1/docs/" + prefix + ".jpg");
+		return certificate;
+	}
+}
@@ -0,0 +1,75 @@
+package com.example.AidLink.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.mongodb.core.geo.GeoJsonModule;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.example.models.Event;
+import com.example.models.Organization;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// Request and response bodies: the full Organization document and event listings
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class JsonBenchmark {
+	private static final TypeReference<List<Event>> EVENT_LIST = new TypeReference<>() {
+	};
+
+	@Param({ "20", "200" })
+	int eventCount;
+
+	private ObjectMapper objectMapper;
+	private Organization organization;
+	private byte[] organizationJson;
+	private List<Event> events;
+	private byte[] eventsJson;
+
+	@Setup
+	public void setUp() throws Exception {
+		// Configured the way Spring Boot configures the application's mapper, GeoJSON included
+		objectMapper = Jackson2ObjectMapperBuilder.json().modulesToInstall(GeoJsonModule.deserializers()).build();
+		organization = Fixtures.organization("org-1", IntStream.rangeClosed(1, 10).boxed().toList());
+		organizationJson = objectMapper.writeValueAsBytes(organization);
+		events = Fixtures.events(eventCount);
+		eventsJson = objectMapper.writeValueAsBytes(events);
+	}
+
+	@Benchmark
+	public byte[] writeOrganization() throws Exception {
+		return objectMapper.writeValueAsBytes(organization);
+	}
+
+	@Benchmark
+	public Organization readOrganization() throws Exception {
+		return objectMapper.readValue(organizationJson, Organization.class);
+	}
+
+	@Benchmark
+	public byte[] writeEventList() throws Exception {
+		return objectMapper.writeValueAsBytes(events);
+	}
+
+	@Benchmark
+	public List<Event> readEventList() throws Exception {
+		return objectMapper.readValue(eventsJson, EVENT_LIST);
+	}
+}
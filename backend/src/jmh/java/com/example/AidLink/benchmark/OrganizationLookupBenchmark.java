@@ -0,0 +1,124 @@
+package com.example.AidLink.benchmark;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.AidLink.dto.OrganizationSummary;
+import com.example.AidLink.repository.EventOrganizationEntryRepository;
+import com.example.AidLink.repository.OrganizationRepository;
+import com.example.AidLink.service.ApprovedOrganizationIndex;
+import com.example.models.EventOrganizationEntry;
+import com.example.models.Organization;
+
+// The organizations-per-event lookup behind /organizations/approved-for-event/{eventId}: reading the
+// eventId index, building the summaries stored in it, and re-indexing an organization after approval
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class OrganizationLookupBenchmark {
+	private static final int ORGANIZATIONS = 500;
+	private static final int EVENTS = 200;
+	private static final int REGISTRATIONS_PER_ORGANIZATION = 5;
+
+	private final Map<String, Organization> organizations = new ConcurrentHashMap<>();
+	// The event_organizations collection through its eventId and organizationId indexes
+	private final Map<Integer, Map<String, EventOrganizationEntry>> entriesByEvent = new ConcurrentHashMap<>();
+	private final Map<String, List<EventOrganizationEntry>> entriesByOrganization = new ConcurrentHashMap<>();
+	private ApprovedOrganizationIndex index;
+	private Organization sample;
+
+	@Setup
+	public void setUp() {
+		for (int i = 0; i < ORGANIZATIONS; i++) {
+			int first = i % EVENTS;
+			List<Integer> eventIds = IntStream.range(0, REGISTRATIONS_PER_ORGANIZATION)
+					.mapToObj(n -> (first + n * 7) % EVENTS + 1).toList();
+			Organization org = Fixtures.organization("org-" + i, eventIds);
+			organizations.put(org.getId(), org);
+		}
+		sample = organizations.get("org-0");
+
+		EventOrganizationEntryRepository entryRepository = StandIns.of(EventOrganizationEntryRepository.class)
+				.on("findByEventId", 1, args -> {
+					Map<String, EventOrganizationEntry> forEvent = entriesByEvent.get((Integer) args[0]);
+					return forEvent == null ? List.of() : List.copyOf(forEvent.values());
+				})
+				.on("deleteByOrganizationIdIn", 1, args -> {
+					for (Object organizationId : (Collection<?>) args[0]) {
+						List<EventOrganizationEntry> removed = entriesByOrganization.remove((String) organizationId);
+						if (removed != null) {
+							for (EventOrganizationEntry entry : removed) entriesByEvent.get(entry.getEventId()).remove(entry.getId());
+						}
+					}
+					return null;
+				})
+				.on("upsertAll", 1, args -> {
+					save(args[0]);
+					return null;
+				})
+				.on("deleteIndexedBefore", 1, args -> 0L)
+				.on("deleteAll", 0, args -> {
+					entriesByEvent.clear();
+					entriesByOrganization.clear();
+					return null;
+				})
+				.build();
+		OrganizationRepository organizationRepository = StandIns.of(OrganizationRepository.class)
+				.on("findByIdIn", 1, args -> ((Collection<?>) args[0]).stream()
+						.map(organizations::get)
+						.filter(Objects::nonNull)
+						.toList())
+				.on("streamByRegistrationStatus_ApprovalStatus", 1, args -> organizations.values().stream()
+						.filter(org -> args[0].equals(org.getRegistrationStatus().getApprovalStatus())))
+				.build();
+		index = new ApprovedOrganizationIndex(entryRepository, organizationRepository);
+		index.rebuild();
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<EventOrganizationEntry> save(Object batch) {
+		List<EventOrganizationEntry> saved = new ArrayList<>();
+		for (EventOrganizationEntry entry : (Iterable<EventOrganizationEntry>) batch) {
+			entriesByOrganization.computeIfAbsent(entry.getOrganizationId(), k -> new ArrayList<>()).add(entry);
+			entriesByEvent.computeIfAbsent(entry.getEventId(), k -> new ConcurrentHashMap<>()).put(entry.getId(), entry);
+			saved.add(entry);
+		}
+		return saved;
+	}
+
+	@Benchmark
+	public List<OrganizationSummary> findForEvent() {
+		return index.findForEvent(ThreadLocalRandom.current().nextInt(1, EVENTS + 1));
+	}
+
+	@Benchmark
+	public OrganizationSummary summaryForEvent() {
+		return OrganizationSummary.forEvent(sample, sample.getEventRegistrations().get(0).getEventId());
+	}
+
+	@Benchmark
+	public void reindexOrganization() {
+		index.reindex(List.of(sample.getId()));
+	}
+}
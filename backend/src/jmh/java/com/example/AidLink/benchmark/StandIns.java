@@ -0,0 +1,59 @@
+package com.example.AidLink.benchmark;
+
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.support.NoOpCacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+
+// In-memory stand-ins for the Spring Data repositories, so the benchmarks run offline and measure our code
+// rather than MongoDB. Only the methods a benchmark registers are implemented, any other call fails loudly.
+final class StandIns {
+	static final ApplicationEventPublisher NO_EVENTS = event -> {
+	};
+	static final CacheManager NO_CACHES = new NoOpCacheManager();
+
+	private StandIns() {
+	}
+
+	static <T> Builder<T> of(Class<T> repositoryType) {
+		return new Builder<>(repositoryType);
+	}
+
+	static final class Builder<T> {
+		private final Class<T> type;
+		// Keyed by "name/argumentCount", repositories overload by arity
+		private final Map<String, Function<Object[], Object>> methods = new HashMap<>();
+
+		private Builder(Class<T> type) {
+			this.type = type;
+		}
+
+		Builder<T> on(String name, int arguments, Function<Object[], Object> body) {
+			methods.put(name + "/" + arguments, body);
+			return this;
+		}
+
+		T build() {
+			Object proxy = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, (self, method, args) -> {
+				if (method.getDeclaringClass() == Object.class) {
+					return switch (method.getName()) {
+						case "equals" -> self == args[0];
+						case "hashCode" -> System.identityHashCode(self);
+						default -> type.getSimpleName() + " stand-in";
+					};
+				}
+				Object[] arguments = args == null ? new Object[0] : args;
+				Function<Object[], Object> body = methods.get(method.getName() + "/" + arguments.length);
+				if (body == null) {
+					throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName() + " has no stand-in");
+				}
+				return body.apply(arguments);
+			});
+			return type.cast(proxy);
+		}
+	}
+}
@@ -0,0 +1,25 @@
+package com.example.AidLink.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// Read-through caches for hot lookups. Entries are evicted by CacheInvalidationListener on writes,
+// the TTL in the spec only bounds staleness for writes made by other instances.
+@Configuration
+@EnableCaching
+public class CacheConfig {
+    public static final String EVENTS = "events";
+    public static final String EVENT_LIST = "eventList";
+    public static final String ORGANIZATIONS = "organizations";
+
+    @Bean
+    public CacheManager cacheManager(@Value("${aidlink.cache.spec:maximumSize=1000,expireAfterWrite=30s,recordStats}") String spec) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(EVENTS, EVENT_LIST, ORGANIZATIONS);
+        cacheManager.setCacheSpecification(spec);
+        return cacheManager;
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.AidLink.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.observability.ContextProviderFactory;
+import org.springframework.data.mongodb.observability.MongoObservationCommandListener;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+
+// Additions to what Spring Boot Actuator already records (HTTP latency, repository timings, Mongo pool and
+// command metrics, JVM memory and GC), all scraped from /actuator/prometheus on the management port.
+// Percentiles are in application.properties.
+@Configuration
+public class MetricsConfig {
+
+    // Static, it post-processes the repository factory beans, which are created before most other beans
+    @Bean
+    static RepositoryResultMetrics repositoryResultMetrics(ObjectProvider<MeterRegistry> registry) {
+        return new RepositoryResultMetrics(registry::getObject);
+    }
+
+    // One span per Mongo command, children of the request span, so a trace shows each sequential round
+    // trip of a slow request. Applies to both the blocking and the reactive client.
+    @Bean
+    @ConditionalOnProperty(name = "aidlink.tracing.mongo-spans", havingValue = "true")
+    public MongoClientSettingsBuilderCustomizer mongoObservations(ObservationRegistry observationRegistry) {
+        return settings -> settings
+                .contextProvider(ContextProviderFactory.create(observationRegistry))
+                .addCommandListener(new MongoObservationCommandListener(observationRegistry));
+    }
+}
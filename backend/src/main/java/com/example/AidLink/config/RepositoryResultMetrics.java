@@ -0,0 +1,75 @@
+package com.example.AidLink.config;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// Records how many documents each repository method returns as aidlink.repository.results{repository,method}.
+// Timing comes from Spring Boot's spring.data.repository.invocations, this adds the size side so a slow
+// method can be told apart from one that reads too much. Streams and reactive results are consumed
+// lazily by the caller and are not counted.
+class RepositoryResultMetrics implements BeanPostProcessor {
+    private final Supplier<MeterRegistry> registry;
+
+    RepositoryResultMetrics(Supplier<MeterRegistry> registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+            factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                    (proxyFactory, repositoryInformation) -> proxyFactory.addAdvice(
+                            new ResultSizeInterceptor(repositoryInformation.getRepositoryInterface().getSimpleName()))));
+        }
+        return bean;
+    }
+
+    private class ResultSizeInterceptor implements MethodInterceptor {
+        private final String repository;
+        // Per repository, inherited methods like findById are the same Method on every repository
+        private final Map<Method, DistributionSummary> summaries = new ConcurrentHashMap<>();
+
+        ResultSizeInterceptor(String repository) {
+            this.repository = repository;
+        }
+
+        @Override
+        public Object invoke(MethodInvocation invocation) throws Throwable {
+            Object result = invocation.proceed();
+            long size = sizeOf(result);
+            if (size >= 0) {
+                summaries.computeIfAbsent(invocation.getMethod(), method -> DistributionSummary
+                        .builder("aidlink.repository.results")
+                        .description("Documents returned per repository call")
+                        .tag("repository", repository)
+                        .tag("method", method.getName())
+                        .register(registry.get()))
+                        .record(size);
+            }
+            return result;
+        }
+    }
+
+    // -1 when the result is not a document or a collection of them
+    static long sizeOf(Object result) {
+        if (result == null) return 0;
+        if (result instanceof Collection<?> collection) return collection.size();
+        if (result instanceof Slice<?> slice) return slice.getNumberOfElements();
+        if (result instanceof Optional<?> optional) return optional.isPresent() ? 1 : 0;
+        if (result.getClass().getPackageName().startsWith("com.example.models")) return 1;
+        return -1;
+    }
+}
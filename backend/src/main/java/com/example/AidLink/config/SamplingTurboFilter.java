@@ -0,0 +1,50 @@
+package com.example.AidLink.config;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.slf4j.Marker;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+
+// Lets through about one in `rate` INFO and lower events of one logger category, for categories that log on
+// every request such as aidlink.donations. WARN and ERROR always pass. Configured in logback-spring.xml.
+// Turbo filters run before the event is created, so a dropped event costs no formatting or allocation.
+public class SamplingTurboFilter extends TurboFilter {
+    private String category;
+    private int rate = 1;
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        // isInfoEnabled() and friends arrive without a format, only the log call itself is sampled
+        if (format == null || rate <= 1 || level.isGreaterOrEqual(Level.WARN) || !inCategory(logger.getName())) {
+            return FilterReply.NEUTRAL;
+        }
+        // Random rather than every n-th, a shared counter would be contended by every request thread
+        return ThreadLocalRandom.current().nextInt(rate) == 0 ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    private boolean inCategory(String loggerName) {
+        return loggerName.startsWith(category)
+                && (loggerName.length() == category.length() || loggerName.charAt(category.length()) == '.');
+    }
+
+    @Override
+    public void start() {
+        if (category == null || category.isBlank()) {
+            addError("No category set for SamplingTurboFilter " + getName());
+            return;
+        }
+        super.start();
+    }
+
+    public void setCategory(String category) {
+        this.category = category;
+    }
+
+    public void setRate(int rate) {
+        this.rate = rate;
+    }
+}
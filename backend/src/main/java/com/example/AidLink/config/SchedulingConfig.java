@@ -0,0 +1,10 @@
+package com.example.AidLink.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// Enables @Scheduled background jobs such as the donation aggregator
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,21 +1,33 @@
 package com.example.AidLink.controller;
 
-import com.example.AidLink.repository.AdminRepository;
-import com.example.models.Admin;
+import com.example.AidLink.service.JwtService;
+import com.example.AidLink.service.LoginService;
 import jakarta.servlet.http.HttpServletRequest;
-import jakarta.servlet.http.HttpSession;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.Map;
 
 @RestController
 @RequestMapping("/admin/auth")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class AdminAuthController {
-    private final AdminRepository adminRepository;
+    private static final Logger log = LoggerFactory.getLogger(AdminAuthController.class);
+    private static final SimpleGrantedAuthority ADMIN = new SimpleGrantedAuthority("ROLE_" + JwtService.ROLE_ADMIN);
 
-    public AdminAuthController(AdminRepository adminRepository) {
-        this.adminRepository = adminRepository;
+    private final LoginService loginService;
+    private final JwtService jwtService;
+
+    public AdminAuthController(LoginService loginService, JwtService jwtService) {
+        this.loginService = loginService;
+        this.jwtService = jwtService;
     }
    
     
@@ -28,35 +40,47 @@ public class AdminAuthController {
         public void setUsername(String username) { this.username = username; }
         public String getPassword() { return password; }
         public void setPassword(String password) { this.password = password; }
+
+        // Never render the password, wherever this ends up being logged
+        @Override
+        public String toString() { return "LoginRequest[username=" + username + "]"; }
     }
 
     @PostMapping("/login")
     public ResponseEntity<?> login(@RequestBody LoginRequest body, HttpServletRequest req) {
-        Admin admin = adminRepository.findByUsername(body.getUsername()).orElse(null);
-        System.out.println("Login endpoint called with username: " + body.getUsername());
-        System.out.println("Fetched admin from MongoDB: " + (admin != null ? admin.getUsername() + ", password: " + admin.getPassword() : "null"));
-        if (admin == null || !admin.getPassword().equals(body.getPassword())) {
-            return ResponseEntity.status(401).body(Map.of("message", "Invalid credentials"));
+        LoginService.Result result = loginService.loginAdmin(body.getUsername(), body.getPassword(), req.getRemoteAddr());
+        log.info("Admin login for {} from {}: {}", body.getUsername(), req.getRemoteAddr(), result);
+        switch (result) {
+            case INVALID:
+                return ResponseEntity.status(401).body(Map.of("message", "Invalid credentials"));
+            case THROTTLED:
+                return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(Map.of("message", "Too many failed attempts"));
+            case BUSY:
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "1")
+                        .body(Map.of("message", "Server is busy"));
+            default:
+                break;
         }
 
-        HttpSession session = req.getSession(true);
-        session.setAttribute("ADMIN_USERNAME", admin.getUsername());
-        return ResponseEntity.ok(Map.of("message", "ok", "username", admin.getUsername()));
+        String token = jwtService.issue(body.getUsername(), JwtService.ROLE_ADMIN);
+        return ResponseEntity.ok(Map.of("message", "ok", "username", body.getUsername(), "token", token));
     }
 
+    // Ends the login session behind the bearer token, on every instance
     @PostMapping("/logout")
-    public ResponseEntity<?> logout(HttpServletRequest req) {
-        HttpSession s = req.getSession(false);
-        if (s != null) s.invalidate();
+    public ResponseEntity<?> logout(Authentication authentication) {
+        if (authentication != null && authentication.getDetails() instanceof String sessionId) {
+            jwtService.revoke(sessionId);
+        }
         return ResponseEntity.ok(Map.of("message", "logged out"));
     }
 
+    // Identity from the bearer token checked by JwtAuthenticationFilter
     @GetMapping("/me")
-    public ResponseEntity<?> me(HttpServletRequest req) {
-        HttpSession s = req.getSession(false);
-        if (s == null || s.getAttribute("ADMIN_USERNAME") == null) {
+    public ResponseEntity<?> me(Authentication authentication) {
+        if (authentication == null || !authentication.getAuthorities().contains(ADMIN)) {
             return ResponseEntity.status(401).body(Map.of("message", "not authenticated"));
         }
-        return ResponseEntity.ok(Map.of("username", s.getAttribute("ADMIN_USERNAME")));
+        return ResponseEntity.ok(Map.of("username", authentication.getName()));
     }
 }
@@ -0,0 +1,89 @@
+package com.example.AidLink.controller;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.AidLink.dto.ImportReport;
+import com.example.AidLink.service.BulkTransferService;
+import com.example.AidLink.service.BulkTransferService.Format;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+// Bulk onboarding and backups. Request and response bodies are streamed, never read into memory whole.
+@RestController
+@RequestMapping("/api/admin/bulk")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class BulkTransferController {
+    private static final String NDJSON = "application/x-ndjson";
+    private static final String CSV = "text/csv";
+
+    private final BulkTransferService bulkTransferService;
+
+    public BulkTransferController(BulkTransferService bulkTransferService) {
+        this.bulkTransferService = bulkTransferService;
+    }
+
+    // One event per line (NDJSON) or a CSV file with a header row, chosen by Content-Type
+    @PostMapping("/events/import")
+    public ResponseEntity<ImportReport> importEvents(
+            @RequestHeader(value = HttpHeaders.CONTENT_TYPE, required = false) String contentType,
+            InputStream body) throws IOException {
+        Format format = contentType != null && contentType.startsWith(CSV) ? Format.CSV : Format.NDJSON;
+        return ResponseEntity.ok(bulkTransferService.importEvents(body, format));
+    }
+
+    // One organization per line (NDJSON), each registered as pending together with its eventRegistrations
+    @PostMapping("/organizations/import")
+    public ResponseEntity<ImportReport> importOrganizations(
+            @RequestHeader(value = HttpHeaders.CONTENT_TYPE, required = false) String contentType,
+            InputStream body) throws IOException {
+        if (contentType != null && contentType.startsWith(CSV)) {
+            return ResponseEntity.badRequest().build(); // nested documents, NDJSON only
+        }
+        return ResponseEntity.ok(bulkTransferService.importOrganizations(body));
+    }
+
+    // Written straight from a MongoDB cursor on the request thread, so no async timeout cuts long exports short
+    @GetMapping("/events/export")
+    public void exportEvents(@RequestParam(defaultValue = "ndjson") String format, HttpServletResponse response)
+            throws IOException {
+        Format exportFormat = parseFormat(format);
+        if (exportFormat == null) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST, "format must be ndjson or csv");
+            return;
+        }
+        boolean csv = exportFormat == Format.CSV;
+        start(response, csv ? CSV : NDJSON, csv ? "events.csv" : "events.ndjson");
+        bulkTransferService.exportEvents(response.getOutputStream(), exportFormat);
+    }
+
+    @GetMapping("/organizations/export")
+    public void exportOrganizations(HttpServletResponse response) throws IOException {
+        start(response, NDJSON, "organizations.ndjson");
+        bulkTransferService.exportOrganizations(response.getOutputStream());
+    }
+
+    private static void start(HttpServletResponse response, String contentType, String fileName) {
+        response.setContentType(contentType);
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"");
+    }
+
+    private static Format parseFormat(String format) {
+        return switch (format.toLowerCase()) {
+            case "ndjson" -> Format.NDJSON;
+            case "csv" -> Format.CSV;
+            default -> null;
+        };
+    }
+}
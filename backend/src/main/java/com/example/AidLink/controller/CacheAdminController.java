@@ -0,0 +1,39 @@
+package com.example.AidLink.controller;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin/cache")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class CacheAdminController {
+    private final CacheManager cacheManager;
+
+    public CacheAdminController(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    // Hit, miss and eviction counts per cache, for tuning the size and TTL
+    @GetMapping("/stats")
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        for (String name : cacheManager.getCacheNames()) {
+            if (!(cacheManager.getCache(name) instanceof CaffeineCache cache)) continue;
+            CacheStats s = cache.getNativeCache().stats();
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("size", cache.getNativeCache().estimatedSize());
+            entry.put("hits", s.hitCount());
+            entry.put("misses", s.missCount());
+            entry.put("hitRate", s.hitRate());
+            entry.put("evictions", s.evictionCount());
+            stats.put(name, entry);
+        }
+        return stats;
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.AidLink.controller;
+
+import com.example.AidLink.repository.DonationRepository;
+import com.example.AidLink.service.DonationAggregator;
+import com.example.AidLink.service.DonationCoalescer;
+import com.example.models.Donation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@RestController
+@RequestMapping("/api/admin/donations")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class DonationAdminController {
+    private final DonationRepository donationRepository;
+    private final DonationAggregator donationAggregator;
+    private final Optional<DonationCoalescer> donationCoalescer;
+
+    public DonationAdminController(DonationRepository donationRepository, DonationAggregator donationAggregator,
+            Optional<DonationCoalescer> donationCoalescer) {
+        this.donationRepository = donationRepository;
+        this.donationAggregator = donationAggregator;
+        this.donationCoalescer = donationCoalescer;
+    }
+
+    // Latest ledger entries for an event, for auditing
+    @GetMapping("/event/{eventId}")
+    public List<Donation> getDonationsForEvent(@PathVariable Integer eventId) {
+        return donationRepository.findTop100ByEventIdOrderByCreatedAtDesc(eventId);
+    }
+
+    // Recompute event and user totals from the ledger
+    @PostMapping("/rebuild-totals")
+    public ResponseEntity<?> rebuildTotals() {
+        donationAggregator.rebuildTotals();
+        return ResponseEntity.ok(Map.of("message", "totals rebuilt"));
+    }
+
+    // Queue depth, flush size and flush latency of the write-behind coalescer
+    @GetMapping("/coalescer/stats")
+    public ResponseEntity<?> coalescerStats() {
+        return donationCoalescer
+                .<ResponseEntity<?>>map(c -> ResponseEntity.ok(c.stats()))
+                .orElseGet(() -> ResponseEntity.status(404).body(Map.of("message", "coalesced donation mode is not enabled")));
+    }
+}
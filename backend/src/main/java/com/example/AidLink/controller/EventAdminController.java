@@ -1,20 +1,43 @@
 package com.example.AidLink.controller;
 
+import com.example.AidLink.dto.EventListQuery;
+import com.example.AidLink.dto.EventPage;
+import com.example.AidLink.service.DonationService;
 import com.example.AidLink.service.EventService;
+import com.example.AidLink.service.FundingBroadcaster;
 import com.example.models.Event;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 
 @RestController
 @RequestMapping("/api/admin/events")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class EventAdminController {
+    private static final Logger log = LoggerFactory.getLogger(EventAdminController.class);
+    private static final Logger donationLog = LoggerFactory.getLogger(DonationService.LOG_CATEGORY);
+
     private final EventService eventService;
+    private final DonationService donationService;
+    private final FundingBroadcaster fundingBroadcaster;
+    private final long streamTimeoutMs;
 
-    public EventAdminController(EventService eventService) {
+    public EventAdminController(EventService eventService, DonationService donationService,
+            FundingBroadcaster fundingBroadcaster,
+            @Value("${aidlink.funding.push.timeout-ms:1800000}") long streamTimeoutMs) {
         this.eventService = eventService;
+        this.donationService = donationService;
+        this.fundingBroadcaster = fundingBroadcaster;
+        this.streamTimeoutMs = streamTimeoutMs;
     }
 
     @PostMapping
@@ -29,6 +52,51 @@ public class EventAdminController {
         return ResponseEntity.ok(events);
     }
 
+    // Filtered listing with keyset pagination, pass nextCursor back as cursor for the next page
+    @GetMapping("/page")
+    public ResponseEntity<EventPage> getEventPage(
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) Boolean isOngoing,
+            @RequestParam(required = false) String severity,
+            @RequestParam(required = false) String urgencyLevel,
+            @RequestParam(defaultValue = EventListQuery.SORT_START_DATE) String sortBy,
+            @RequestParam(defaultValue = "desc") String sortOrder,
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestParam(required = false) String cursor) {
+        EventListQuery query;
+        try {
+            query = EventListQuery.of(category, isOngoing, severity, urgencyLevel, sortBy, sortOrder, limit, cursor);
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(eventService.listEvents(query));
+    }
+
+    // Server-sent "funding" events for the given event ids, replaces polling /{id} for progress bars.
+    // EventSource reconnects by itself when the stream times out.
+    @GetMapping(path = "/funding/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamFunding(@RequestParam List<Integer> ids) {
+        if (ids.isEmpty() || ids.size() > FundingBroadcaster.MAX_EVENTS_PER_SUBSCRIPTION) {
+            return ResponseEntity.badRequest().build();
+        }
+        SseEmitter emitter = new SseEmitter(streamTimeoutMs);
+        FundingBroadcaster.Subscription subscription = fundingBroadcaster.subscribe(new HashSet<>(ids), updates -> {
+            if (updates.isEmpty()) {
+                emitter.send(SseEmitter.event().comment("keepalive"));
+            } else {
+                emitter.send(SseEmitter.event().name("funding").data(updates));
+            }
+            return true;
+        });
+        if (subscription == null) {
+            return ResponseEntity.status(503).build();
+        }
+        emitter.onCompletion(subscription::cancel);
+        emitter.onTimeout(subscription::cancel);
+        emitter.onError(e -> subscription.cancel());
+        return ResponseEntity.ok(emitter);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<Event> getEventById(@PathVariable Integer id) {
         return eventService.getEventById(id)
@@ -38,38 +106,33 @@ public class EventAdminController {
     
     @PostMapping("/{id}/donate")
     public ResponseEntity<Event> donateToEvent(@PathVariable Integer id, @RequestBody Map<String, Object> donationData) {
-        System.out.println("Received donation request for event ID: " + id);
         Integer amount = null;
         String userEmail = null;
         try {
             amount = (donationData.get("amount") instanceof Integer) ? (Integer) donationData.get("amount") : Integer.parseInt(donationData.get("amount").toString());
             userEmail = donationData.get("userEmail") != null ? donationData.get("userEmail").toString() : null;
         } catch (Exception ex) {
-            System.out.println("Error parsing donation data: " + ex.getMessage());
+            donationLog.info("Rejected donation to event {}: unreadable body ({})", id, ex.toString());
             return ResponseEntity.badRequest().build();
         }
-        System.out.println("Donation amount: " + amount);
-        System.out.println("User email: " + userEmail);
         if (amount == null || amount <= 0) {
-            System.out.println("Invalid donation amount: " + amount);
+            donationLog.info("Rejected donation to event {}: invalid amount {}", id, amount);
             return ResponseEntity.badRequest().build();
         }
         if (userEmail == null || userEmail.isEmpty()) {
-            System.out.println("User email missing in donation request");
+            donationLog.info("Rejected donation to event {}: userEmail missing", id);
             return ResponseEntity.badRequest().build();
         }
         try {
-            Event updatedEvent = eventService.updateEventFundingAndUserDonation(id, amount, userEmail);
+            // Single ledger insert, totals are folded in by DonationAggregator
+            Event updatedEvent = donationService.recordDonation(id, amount, userEmail);
             if (updatedEvent != null) {
-                System.out.println("Successfully updated event funding. New funding: " + updatedEvent.getCurrentFunding());
-                return ResponseEntity.ok(updatedEvent);
+                return ResponseEntity.accepted().body(updatedEvent);
             } else {
-                System.out.println("Event not found with ID: " + id);
                 return ResponseEntity.notFound().build();
             }
         } catch (Exception e) {
-            System.out.println("Error updating event funding or user donation: " + e.getMessage());
-            e.printStackTrace();
+            log.error("Recording a donation to event {} failed", id, e);
             return ResponseEntity.badRequest().body(null);
         }
     }
@@ -0,0 +1,81 @@
+package com.example.AidLink.controller;
+
+import com.example.AidLink.dto.NearbyEvent;
+import com.example.AidLink.dto.NearbyFieldOffice;
+import com.example.AidLink.repository.EventRepository;
+import com.example.AidLink.service.EventService;
+import com.example.AidLink.service.FieldOfficeGrid;
+import com.example.models.Event;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.data.geo.Point;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@RestController
+@RequestMapping("/api")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class GeoController {
+    private static final int MAX_LIMIT = 200;
+
+    private final EventRepository eventRepository;
+    private final EventService eventService;
+    private final FieldOfficeGrid fieldOfficeGrid;
+
+    public GeoController(EventRepository eventRepository, EventService eventService, FieldOfficeGrid fieldOfficeGrid) {
+        this.eventRepository = eventRepository;
+        this.eventService = eventService;
+        this.fieldOfficeGrid = fieldOfficeGrid;
+    }
+
+    // Ongoing events nearest to a point, from the 2dsphere index on Event.coordinates
+    @GetMapping("/geo/events/nearby")
+    public ResponseEntity<List<NearbyEvent>> nearbyEvents(@RequestParam double lat, @RequestParam double lng,
+            @RequestParam(defaultValue = "100") double radiusKm, @RequestParam(defaultValue = "20") int limit) {
+        if (!validPoint(lat, lng) || radiusKm <= 0 || limit <= 0) return ResponseEntity.badRequest().build();
+        List<NearbyEvent> events = eventRepository
+                .findOngoingNear(new Point(lng, lat), Math.min(radiusKm, fieldOfficeGrid.maxRadiusKm()), Math.min(limit, MAX_LIMIT))
+                .getContent().stream()
+                .map(result -> new NearbyEvent(result.getContent(), result.getDistance().getValue()))
+                .toList();
+        return ResponseEntity.ok(events);
+    }
+
+    // Approved organizations' offices nearest to a point, from the in-memory grid
+    @GetMapping("/geo/field-offices/nearby")
+    public ResponseEntity<List<NearbyFieldOffice>> nearbyFieldOffices(@RequestParam double lat, @RequestParam double lng,
+            @RequestParam(defaultValue = "50") double radiusKm, @RequestParam(defaultValue = "50") int limit) {
+        if (!validPoint(lat, lng) || radiusKm <= 0 || limit <= 0) return ResponseEntity.badRequest().build();
+        return ResponseEntity.ok(fieldOfficeGrid.near(lat, lng, radiusKm, Math.min(limit, MAX_LIMIT)));
+    }
+
+    // Which approved organizations have offices within radiusKm of this event
+    @GetMapping("/geo/events/{eventId}/field-offices")
+    public ResponseEntity<?> fieldOfficesNearEvent(@PathVariable Integer eventId,
+            @RequestParam(defaultValue = "50") double radiusKm, @RequestParam(defaultValue = "50") int limit) {
+        if (radiusKm <= 0 || limit <= 0) return ResponseEntity.badRequest().build();
+        Optional<Event> event = eventService.getEventById(eventId);
+        if (event.isEmpty()) return ResponseEntity.notFound().build();
+        if (event.get().getCoordinates() == null) {
+            return ResponseEntity.unprocessableEntity().body(Map.of("message", "event has no coordinates"));
+        }
+        // GeoJSON order: x is longitude, y is latitude
+        double lat = event.get().getCoordinates().getY();
+        double lng = event.get().getCoordinates().getX();
+        return ResponseEntity.ok(fieldOfficeGrid.near(lat, lng, radiusKm, Math.min(limit, MAX_LIMIT)));
+    }
+
+    // Reload the field office grid from MongoDB
+    @PostMapping("/admin/geo/rebuild-grid")
+    public ResponseEntity<?> rebuildGrid() {
+        long offices = fieldOfficeGrid.rebuild();
+        return ResponseEntity.ok(Map.of("message", "field office grid rebuilt", "offices", offices));
+    }
+
+    private static boolean validPoint(double lat, double lng) {
+        return lat >= -90 && lat <= 90 && lng >= -180 && lng <= 180;
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.AidLink.controller;
+
+import com.example.AidLink.service.ImageSource;
+import com.example.AidLink.service.ImageVariantService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Optional;
+
+@RestController
+@RequestMapping("/api")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class ImageController {
+    private static final Logger log = LoggerFactory.getLogger(ImageController.class);
+
+    private final ImageVariantService imageVariantService;
+
+    public ImageController(ImageVariantService imageVariantService) {
+        this.imageVariantService = imageVariantService;
+    }
+
+    // A resized copy of an uploaded image, e.g. /api/images?url=https://res.cloudinary.com/...&w=320.
+    // Served from the disk cache with Tomcat's sendfile, so the bytes go from page cache to socket without
+    // passing through the heap.
+    @GetMapping("/images")
+    public void image(@RequestParam String url, @RequestParam(defaultValue = "640") int w,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (w <= 0) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST);
+            return;
+        }
+        Optional<ImageVariantService.Variant> found;
+        try {
+            found = imageVariantService.variant(url, w, accept);
+        } catch (ImageSource.ImageTooLargeException e) {
+            response.sendError(HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE);
+            return;
+        } catch (IOException e) {
+            log.warn("Could not produce image variant of {}", url, e);
+            response.sendError(HttpServletResponse.SC_BAD_GATEWAY);
+            return;
+        }
+        if (found.isEmpty()) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        ImageVariantService.Variant variant = found.get();
+        response.setHeader(HttpHeaders.CACHE_CONTROL, ImageVariantService.CACHE_CONTROL);
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        response.setHeader(HttpHeaders.ETAG, variant.etag());
+        if (variant.etag().equals(request.getHeader(HttpHeaders.IF_NONE_MATCH))) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+        response.setContentType(variant.format().contentType());
+        response.setContentLengthLong(variant.size());
+        if (Boolean.TRUE.equals(request.getAttribute("org.apache.tomcat.sendfile.support"))) {
+            request.setAttribute("org.apache.tomcat.sendfile.filename", variant.file().toString());
+            request.setAttribute("org.apache.tomcat.sendfile.start", 0L);
+            request.setAttribute("org.apache.tomcat.sendfile.end", variant.size());
+        } else {
+            Files.copy(variant.file(), response.getOutputStream());
+        }
+    }
+}
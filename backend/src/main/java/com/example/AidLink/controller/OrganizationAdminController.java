@@ -1,29 +1,52 @@
 package com.example.AidLink.controller;
 
-import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.example.AidLink.dto.ApprovalStatus;
+import com.example.AidLink.dto.EventRegistrationResult;
+import com.example.AidLink.dto.OrganizationSummary;
+import com.example.AidLink.dto.ReviewRequest;
+import com.example.AidLink.dto.ReviewResult;
+import com.example.AidLink.event.OrganizationChangedEvent;
 import com.example.AidLink.repository.OrganizationRepository;
+import com.example.AidLink.service.ApprovedOrganizationIndex;
+import com.example.AidLink.service.OrganizationService;
 import com.example.models.Organization;
 
 @RestController
 @RequestMapping("/api/admin")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 // Duplicate class definition removed
 
 
 public class OrganizationAdminController {
+    private static final int MAX_EVENTS_PER_REGISTRATION = 100;
+
     private final OrganizationRepository organizationRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ApprovedOrganizationIndex approvedOrganizationIndex;
+    private final OrganizationService organizationService;
 
-    public OrganizationAdminController(OrganizationRepository organizationRepository) {
+    public OrganizationAdminController(OrganizationRepository organizationRepository, ApplicationEventPublisher eventPublisher,
+            ApprovedOrganizationIndex approvedOrganizationIndex, OrganizationService organizationService) {
         this.organizationRepository = organizationRepository;
+        this.eventPublisher = eventPublisher;
+        this.approvedOrganizationIndex = approvedOrganizationIndex;
+        this.organizationService = organizationService;
     }
 
     // Register a new organization with pending approval status
@@ -35,42 +58,43 @@ public class OrganizationAdminController {
         if (org.getRegistrationStatus() == null) org.setRegistrationStatus(new Organization.RegistrationStatus());
         org.getRegistrationStatus().setApprovalStatus("pending");
         Organization saved = organizationRepository.save(org);
+        eventPublisher.publishEvent(new OrganizationChangedEvent(saved.getId(), OrganizationChangedEvent.Change.REGISTERED));
         return ResponseEntity.ok(saved);
     }
-    // Get organizations with pending approval status
+    // Get organizations with pending approval status (summaries, full record via /organizations/{id})
     @GetMapping("/pending-organizations")
-    public List<Organization> getPendingOrganizations() {
-        return organizationRepository.findByRegistrationStatus_ApprovalStatus("pending");
+    public List<OrganizationSummary> getPendingOrganizations() {
+        return organizationRepository.findSummariesByApprovalStatus("pending");
     }
 
-    // Approve organization (set approvalStatus to "approved")
+    // Approve organization (set approvalStatus to "approved"), returns only the new status
     @PostMapping("/approve-organization/{id}")
-    public ResponseEntity<Organization> approveOrganization(@PathVariable String id) {
-        Organization org = organizationRepository.findById(id).orElse(null);
-        if (org == null) return ResponseEntity.notFound().build();
-        if (org.getRegistrationStatus() == null) org.setRegistrationStatus(new Organization.RegistrationStatus());
-        org.getRegistrationStatus().setApprovalStatus("approved");
-        organizationRepository.save(org);
-        return ResponseEntity.ok(org);
+    public ResponseEntity<ApprovalStatus> approveOrganization(@PathVariable String id) {
+        return ResponseEntity.of(organizationService.approve(id));
     }
 
     // Reject and delete organization from database
     @PostMapping("/reject-organization/{id}")
     public ResponseEntity<String> rejectOrganization(@PathVariable String id) {
-        Organization org = organizationRepository.findById(id).orElse(null);
-        if (org == null) return ResponseEntity.notFound().build();
-        
-        // Delete the organization from database
-        organizationRepository.deleteById(id);
+        if (!organizationService.reject(id)) return ResponseEntity.notFound().build();
         return ResponseEntity.ok("Organization rejected and deleted successfully");
     }
 
-    // Register organization for an event (add EventRegistration)
+    // Approve and reject many organizations in one request, e.g. to clear the pending queue
+    @PatchMapping("/organizations/approval-status")
+    public ResponseEntity<ReviewResult> reviewOrganizations(@RequestBody ReviewRequest request) {
+        List<String> approve = request.approveOrEmpty();
+        List<String> reject = request.rejectOrEmpty();
+        if (approve.size() + reject.size() == 0 || approve.size() + reject.size() > ReviewRequest.MAX_ORGANIZATIONS
+                || approve.contains(null) || reject.contains(null) || !Collections.disjoint(approve, reject)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(organizationService.review(approve, reject));
+    }
+
+    // Register organization for an event (add EventRegistration), a no-op when already registered
     @PostMapping("/organizations/{orgId}/register-event/{eventId}")
     public ResponseEntity<Organization> registerOrgForEvent(@PathVariable String orgId, @PathVariable String eventId) {
-        Organization org = organizationRepository.findById(orgId).orElse(null);
-        if (org == null) return ResponseEntity.notFound().build();
-        if (org.getEventRegistrations() == null) org.setEventRegistrations(new ArrayList<>());
         Organization.EventRegistration registration = new Organization.EventRegistration();
         // Ensure eventId is stored as Integer
         try {
@@ -78,15 +102,43 @@ public class OrganizationAdminController {
         } catch (NumberFormatException e) {
             return ResponseEntity.badRequest().body(null);
         }
-        registration.setStatus("registered");
-        org.getEventRegistrations().add(registration);
-        organizationRepository.save(org);
-        return ResponseEntity.ok(org);
+        EventRegistrationResult result;
+        try {
+            result = organizationService.registerForEvents(orgId, List.of(registration)).orElse(null);
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+        if (result == null) return ResponseEntity.notFound().build();
+        if (!result.unknownEvents().isEmpty()) return ResponseEntity.badRequest().body(null);
+        return ResponseEntity.of(organizationRepository.findOneById(orgId));
     }
-    // Get organizations approved and registered for a specific event
+
+    // Register organization for many events in one atomic update. The body lists the registrations,
+    // each needs an eventId and may carry role, servicesOffered and the other registration details.
+    @PostMapping("/organizations/{orgId}/register-events")
+    public ResponseEntity<EventRegistrationResult> registerOrgForEvents(@PathVariable String orgId,
+            @RequestBody List<Organization.EventRegistration> registrations) {
+        if (registrations == null || registrations.isEmpty() || registrations.size() > MAX_EVENTS_PER_REGISTRATION
+                || registrations.stream().anyMatch(r -> r == null || r.getEventId() == null)) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            return ResponseEntity.of(organizationService.registerForEvents(orgId, registrations));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+    // Get organizations approved and registered for a specific event (summaries, from the precomputed index)
     @GetMapping("/organizations/approved-for-event/{eventId}")
-    public List<Organization> getApprovedOrgsForEvent(@PathVariable Integer eventId) {
-        return organizationRepository.findByRegistrationStatus_ApprovalStatusAndEventRegistrations_EventId("approved", eventId);
+    public List<OrganizationSummary> getApprovedOrgsForEvent(@PathVariable Integer eventId) {
+        return approvedOrganizationIndex.findForEvent(eventId);
+    }
+
+    // Recreate the approved-for-event index from the organizations collection
+    @PostMapping("/organizations/approved-for-event/rebuild-index")
+    public ResponseEntity<?> rebuildApprovedForEventIndex() {
+        long entries = approvedOrganizationIndex.rebuild();
+        return ResponseEntity.ok(Map.of("message", "index rebuilt", "entries", entries));
     }
     
     // Get organization details by ID
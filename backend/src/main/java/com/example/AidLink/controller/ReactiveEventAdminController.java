@@ -0,0 +1,137 @@
+package com.example.AidLink.controller;
+
+import com.example.AidLink.dto.EventListQuery;
+import com.example.AidLink.dto.EventPage;
+import com.example.AidLink.dto.FundingUpdate;
+import com.example.AidLink.repository.ReactiveEventRepository;
+import com.example.AidLink.service.DonationService;
+import com.example.AidLink.service.EventService;
+import com.example.AidLink.service.FundingBroadcaster;
+import com.example.AidLink.service.ReactiveDonationService;
+import com.example.models.Event;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+// Same API as EventAdminController, served by the reactive deployment (spring.profiles.active=reactive)
+@RestController
+@RequestMapping("/api/admin/events")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveEventAdminController {
+    private static final Logger log = LoggerFactory.getLogger(ReactiveEventAdminController.class);
+    private static final Logger donationLog = LoggerFactory.getLogger(DonationService.LOG_CATEGORY);
+
+    private final ReactiveEventRepository eventRepository;
+    private final EventService eventService;
+    private final ReactiveDonationService donationService;
+    private final FundingBroadcaster fundingBroadcaster;
+
+    public ReactiveEventAdminController(ReactiveEventRepository eventRepository, EventService eventService,
+            ReactiveDonationService donationService, FundingBroadcaster fundingBroadcaster) {
+        this.eventRepository = eventRepository;
+        this.eventService = eventService;
+        this.donationService = donationService;
+        this.fundingBroadcaster = fundingBroadcaster;
+    }
+
+    // Id allocation and cache eviction live in EventService, run it on a worker instead of the event loop
+    @PostMapping
+    public Mono<Event> addEvent(@RequestBody Event event) {
+        return Mono.fromCallable(() -> eventService.addEvent(event)).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    // Streamed as documents arrive from the cursor when the client accepts NDJSON or SSE
+    @GetMapping(produces = { MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE,
+            MediaType.APPLICATION_JSON_VALUE })
+    public Flux<Event> getAllEvents() {
+        return eventRepository.findAll();
+    }
+
+    @GetMapping("/page")
+    public Mono<ResponseEntity<EventPage>> getEventPage(
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) Boolean isOngoing,
+            @RequestParam(required = false) String severity,
+            @RequestParam(required = false) String urgencyLevel,
+            @RequestParam(defaultValue = EventListQuery.SORT_START_DATE) String sortBy,
+            @RequestParam(defaultValue = "desc") String sortOrder,
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestParam(required = false) String cursor) {
+        EventListQuery query;
+        try {
+            query = EventListQuery.of(category, isOngoing, severity, urgencyLevel, sortBy, sortOrder, limit, cursor);
+        } catch (IllegalArgumentException ex) {
+            return Mono.just(ResponseEntity.badRequest().build());
+        }
+        return eventRepository.findPage(query.probe()).collectList()
+                .map(events -> ResponseEntity.ok(EventPage.of(events, query)));
+    }
+
+    // Server-sent "funding" events for the given event ids. Batches are only handed over while the client
+    // has demand, otherwise the broadcaster keeps coalescing them for this subscription.
+    @GetMapping(path = "/funding/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<Flux<ServerSentEvent<List<FundingUpdate>>>> streamFunding(@RequestParam List<Integer> ids) {
+        if (ids.isEmpty() || ids.size() > FundingBroadcaster.MAX_EVENTS_PER_SUBSCRIPTION) {
+            return ResponseEntity.badRequest().build();
+        }
+        Flux<ServerSentEvent<List<FundingUpdate>>> stream = Flux.create(sink -> {
+            FundingBroadcaster.Subscription subscription = fundingBroadcaster.subscribe(new HashSet<>(ids), updates -> {
+                if (sink.requestedFromDownstream() == 0) return false;
+                sink.next(updates.isEmpty()
+                        ? ServerSentEvent.<List<FundingUpdate>>builder().comment("keepalive").build()
+                        : ServerSentEvent.builder(updates).event("funding").build());
+                return true;
+            });
+            if (subscription == null) {
+                sink.error(new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE));
+                return;
+            }
+            sink.onRequest(n -> subscription.resume());
+            sink.onDispose(subscription::cancel);
+        });
+        return ResponseEntity.ok(stream);
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<Event>> getEventById(@PathVariable Integer id) {
+        return eventRepository.findById(id)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    @PostMapping("/{id}/donate")
+    public Mono<ResponseEntity<Event>> donateToEvent(@PathVariable Integer id, @RequestBody Map<String, Object> donationData) {
+        int amount;
+        String userEmail;
+        try {
+            amount = Integer.parseInt(donationData.get("amount").toString());
+            userEmail = donationData.get("userEmail") != null ? donationData.get("userEmail").toString() : null;
+        } catch (Exception ex) {
+            donationLog.info("Rejected donation to event {}: unreadable body ({})", id, ex.toString());
+            return Mono.just(ResponseEntity.badRequest().build());
+        }
+        if (amount <= 0 || userEmail == null || userEmail.isEmpty()) {
+            return Mono.just(ResponseEntity.badRequest().build());
+        }
+        return donationService.recordDonation(id, amount, userEmail)
+                .map(event -> ResponseEntity.accepted().body(event))
+                .defaultIfEmpty(ResponseEntity.notFound().build())
+                .onErrorResume(e -> {
+                    log.error("Recording a donation to event {} failed", id, e);
+                    return Mono.just(ResponseEntity.badRequest().build());
+                });
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.AidLink.controller;
+
+import com.example.AidLink.service.ImageSource;
+import com.example.AidLink.service.ImageVariantService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+
+// Same API as ImageController for the reactive deployment. A file-backed Resource is written with
+// Netty's zero-copy file transfer.
+@RestController
+@RequestMapping("/api")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveImageController {
+    private static final Logger log = LoggerFactory.getLogger(ReactiveImageController.class);
+
+    private final ImageVariantService imageVariantService;
+
+    public ReactiveImageController(ImageVariantService imageVariantService) {
+        this.imageVariantService = imageVariantService;
+    }
+
+    // Fetching and resizing block, run them on a worker instead of the event loop
+    @GetMapping("/images")
+    public Mono<ResponseEntity<Resource>> image(@RequestParam String url, @RequestParam(defaultValue = "640") int w,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (w <= 0) return Mono.just(ResponseEntity.badRequest().build());
+        return Mono.fromCallable(() -> imageVariantService.variant(url, w, accept))
+                .subscribeOn(Schedulers.boundedElastic())
+                .map(found -> found
+                        .map(variant -> respond(variant, ifNoneMatch))
+                        .orElseGet(() -> ResponseEntity.notFound().build()))
+                .onErrorResume(ImageSource.ImageTooLargeException.class,
+                        e -> Mono.just(ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).build()))
+                .onErrorResume(IOException.class, e -> {
+                    log.warn("Could not produce image variant of {}", url, e);
+                    return Mono.just(ResponseEntity.status(HttpStatus.BAD_GATEWAY).build());
+                });
+    }
+
+    private static ResponseEntity<Resource> respond(ImageVariantService.Variant variant, String ifNoneMatch) {
+        boolean notModified = variant.etag().equals(ifNoneMatch);
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(notModified ? HttpStatus.NOT_MODIFIED : HttpStatus.OK)
+                .header(HttpHeaders.CACHE_CONTROL, ImageVariantService.CACHE_CONTROL)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT)
+                .eTag(variant.etag());
+        if (notModified) return builder.build();
+        return builder.contentType(MediaType.parseMediaType(variant.format().contentType()))
+                .contentLength(variant.size())
+                .body(new FileSystemResource(variant.file()));
+    }
+}
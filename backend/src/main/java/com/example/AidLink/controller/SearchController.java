@@ -0,0 +1,51 @@
+package com.example.AidLink.controller;
+
+import com.example.AidLink.dto.SearchQuery;
+import com.example.AidLink.dto.SearchResults;
+import com.example.AidLink.service.SearchIndex;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class SearchController {
+    private final SearchIndex searchIndex;
+
+    public SearchController(SearchIndex searchIndex) {
+        this.searchIndex = searchIndex;
+    }
+
+    // Ranked search over event titles, descriptions and locations and approved organizations' names,
+    // focus areas and countries, with category, severity and organizationType facet counts
+    @GetMapping("/search")
+    public ResponseEntity<SearchResults> search(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String severity,
+            @RequestParam(required = false) String organizationType,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) throws IOException {
+        if (!SearchQuery.isType(type) || page < 0 || size <= 0) {
+            return ResponseEntity.badRequest().build();
+        }
+        size = Math.min(size, SearchQuery.MAX_SIZE);
+        if ((long) page * size >= SearchQuery.MAX_WINDOW) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(searchIndex.search(
+                new SearchQuery(q, type, category, severity, organizationType, page, size)));
+    }
+
+    // Recreate the search index from MongoDB, e.g. after writes that bypassed the application
+    @PostMapping("/admin/search/rebuild-index")
+    public ResponseEntity<?> rebuildIndex() throws IOException {
+        long documents = searchIndex.rebuild();
+        return ResponseEntity.ok(Map.of("message", "search index rebuilt", "documents", documents));
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.AidLink.controller;
+
+import com.example.AidLink.dto.PlatformStats;
+import com.example.AidLink.service.PlatformStatsService;
+import org.springframework.web.bind.annotation.*;
+
+// Served from memory without touching MongoDB, so it works on both the servlet and reactive deployments
+@RestController
+@RequestMapping("/api/stats")
+public class StatsController {
+    private final PlatformStatsService platformStatsService;
+
+    public StatsController(PlatformStatsService platformStatsService) {
+        this.platformStatsService = platformStatsService;
+    }
+
+    @GetMapping
+    public PlatformStats getStats() {
+        return platformStatsService.current();
+    }
+}
@@ -1,19 +1,35 @@
 package com.example.AidLink.controller;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 import com.example.models.User;
 import com.example.AidLink.repository.UserRepository;
+import com.example.AidLink.service.JwtService;
+import com.example.AidLink.service.LoginService;
+import com.example.AidLink.service.PasswordHasher;
 import jakarta.servlet.http.HttpServletRequest;
-import jakarta.servlet.http.HttpSession;
+
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/user")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class UserController {
     private final UserRepository userRepository;
+    private final PasswordHasher passwordHasher;
+    private final LoginService loginService;
+    private final JwtService jwtService;
 
-    public UserController(UserRepository userRepository) {
+    public UserController(UserRepository userRepository, PasswordHasher passwordHasher, LoginService loginService,
+            JwtService jwtService) {
         this.userRepository = userRepository;
+        this.passwordHasher = passwordHasher;
+        this.loginService = loginService;
+        this.jwtService = jwtService;
     }
 
     // DTO for registration
@@ -49,29 +65,48 @@ public class UserController {
         if (userRepository.findByUsername(req.getUsername()) != null) {
             return ResponseEntity.badRequest().body("Username already exists");
         }
-        User user = new User(req.getEmail(), req.getPassword(), req.getUsername());
+        if (req.getPassword() == null || req.getPassword().isEmpty()) {
+            return ResponseEntity.badRequest().body("Password is required");
+        }
+        String passwordHash;
+        try {
+            passwordHash = passwordHasher.hash(req.getPassword());
+        } catch (PasswordHasher.BusyException e) {
+            return busy("Server is busy, please try again");
+        }
+        User user = new User(req.getEmail(), passwordHash, req.getUsername());
         user.setDonatedAmount(0); // Ensure donatedAmount is set
         userRepository.save(user);
         return ResponseEntity.ok("User registered successfully");
     }
 
-    // Login user
+    // Login user, the returned token goes in the Authorization header as "Bearer <token>"
     @PostMapping("/login")
-    public ResponseEntity<String> loginUser(@RequestBody LoginRequest req, HttpServletRequest request) {
-        User user = userRepository.findByEmail(req.getEmail());
-        if (user == null || !user.getPassword().equals(req.getPassword())) {
-            return ResponseEntity.status(401).body("Invalid email or password");
+    public ResponseEntity<?> loginUser(@RequestBody LoginRequest req, HttpServletRequest request) {
+        switch (loginService.loginUser(req.getEmail(), req.getPassword(), request.getRemoteAddr())) {
+            case INVALID:
+                return ResponseEntity.status(401).body("Invalid email or password");
+            case THROTTLED:
+                return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body("Too many failed attempts, try again later");
+            case BUSY:
+                return busy("Server is busy, please try again");
+            default:
+                break;
         }
-        HttpSession session = request.getSession(true);
-        session.setAttribute("USER_EMAIL", user.getEmail());
-        return ResponseEntity.ok("Login successful");
+        String token = jwtService.issue(req.getEmail(), JwtService.ROLE_USER);
+        return ResponseEntity.ok(Map.of("message", "Login successful", "token", token));
     }
 
-    // Logout user
+    // Logout user. Ends the login session behind the bearer token, on every instance.
     @PostMapping("/logout")
-    public ResponseEntity<?> logout(HttpServletRequest request) {
-        HttpSession session = request.getSession(false);
-        if (session != null) session.invalidate();
+    public ResponseEntity<?> logout(Authentication authentication) {
+        if (authentication != null && authentication.getDetails() instanceof String sessionId) {
+            jwtService.revoke(sessionId);
+        }
         return ResponseEntity.ok().body("Logged out");
     }
+
+    private static ResponseEntity<String> busy(String message) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "1").body(message);
+    }
 }
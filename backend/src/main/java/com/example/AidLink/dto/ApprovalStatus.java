@@ -0,0 +1,5 @@
+package com.example.AidLink.dto;
+
+// The approval status an organization was moved to
+public record ApprovalStatus(String organizationId, String approvalStatus) {
+}
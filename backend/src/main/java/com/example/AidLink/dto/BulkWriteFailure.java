@@ -0,0 +1,6 @@
+package com.example.AidLink.dto;
+
+// A document of an unordered bulk insert that was not written, index is its position in the batch
+// and code the MongoDB error code (11000 for a duplicate key)
+public record BulkWriteFailure(int index, int code, String message) {
+}
@@ -0,0 +1,33 @@
+package com.example.AidLink.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// Keyset position: the sort value and id of the last event on the previous page.
+// Sent to clients as an opaque url-safe string.
+public record EventCursor(Object sortValue, Integer id) {
+
+    public String encode() {
+        String value;
+        if (sortValue == null) value = "n|";
+        else if (sortValue instanceof Number n) value = "d|" + n.doubleValue();
+        else value = "s|" + sortValue;
+        String raw = id + "|" + value;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Throws IllegalArgumentException for a malformed cursor
+    public static EventCursor decode(String cursor) {
+        String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        String[] parts = raw.split("\\|", 3);
+        if (parts.length != 3) throw new IllegalArgumentException("Malformed cursor");
+        Integer id = Integer.valueOf(parts[0]);
+        Object value = switch (parts[1]) {
+            case "n" -> null;
+            case "d" -> Double.valueOf(parts[2]);
+            case "s" -> parts[2];
+            default -> throw new IllegalArgumentException("Malformed cursor");
+        };
+        return new EventCursor(value, id);
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.AidLink.dto;
+
+// Filters, sort and keyset position for one page of the event listing. Null filters are not applied.
+public record EventListQuery(
+        String category,
+        Boolean isOngoing,
+        String severity,
+        String urgencyLevel,
+        String sortBy,
+        boolean ascending,
+        EventCursor after,
+        int limit) {
+
+    public static final String SORT_START_DATE = "startDate";
+    public static final String SORT_FUNDING_PROGRESS = "fundingProgress";
+    public static final int MAX_LIMIT = 100;
+
+    public static boolean isSortable(String field) {
+        return SORT_START_DATE.equals(field) || SORT_FUNDING_PROGRESS.equals(field);
+    }
+
+    // Build a query from request parameters, throws IllegalArgumentException for a bad sort, limit or cursor
+    public static EventListQuery of(String category, Boolean isOngoing, String severity, String urgencyLevel,
+            String sortBy, String sortOrder, int limit, String cursor) {
+        if (!isSortable(sortBy) || limit <= 0) {
+            throw new IllegalArgumentException("Unsupported sort or limit");
+        }
+        EventCursor after = cursor == null || cursor.isEmpty() ? null : EventCursor.decode(cursor);
+        return new EventListQuery(category, isOngoing, severity, urgencyLevel, sortBy,
+                "asc".equalsIgnoreCase(sortOrder), after, Math.min(limit, MAX_LIMIT));
+    }
+
+    // Same query asking for one extra event, see EventPage.of
+    public EventListQuery probe() {
+        return new EventListQuery(category, isOngoing, severity, urgencyLevel, sortBy, ascending, after, limit + 1);
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.AidLink.dto;
+
+import java.util.List;
+
+// One page of the event listing, nextCursor is null on the last page
+public record EventPage(List<EventSummary> data, int count, String nextCursor) {
+
+    // Build the page from the result of query.probe(), the extra event only tells whether another page exists
+    public static EventPage of(List<EventSummary> fetched, EventListQuery query) {
+        if (fetched.size() <= query.limit()) return new EventPage(fetched, fetched.size(), null);
+        List<EventSummary> events = fetched.subList(0, query.limit());
+        EventSummary last = events.get(events.size() - 1);
+        Object sortValue = EventListQuery.SORT_FUNDING_PROGRESS.equals(query.sortBy())
+                ? last.fundingProgress() : last.startDate();
+        return new EventPage(events, events.size(), new EventCursor(sortValue, last.id()).encode());
+    }
+}
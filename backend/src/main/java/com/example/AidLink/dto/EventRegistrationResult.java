@@ -0,0 +1,8 @@
+package com.example.AidLink.dto;
+
+import java.util.List;
+
+// Outcome of registering an organization for several events. Only the registered ones were written,
+// the others were already registered or don't exist.
+public record EventRegistrationResult(List<Integer> registered, List<Integer> alreadyRegistered, List<Integer> unknownEvents) {
+}
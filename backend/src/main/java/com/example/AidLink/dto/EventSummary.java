@@ -0,0 +1,26 @@
+package com.example.AidLink.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+// Card-sized view of an Event for list screens, the description is only served by the detail endpoint
+public record EventSummary(
+        Integer id,
+        String title,
+        String category,
+        // Read from the isOngoing document field, serialized as "ongoing" like Event
+        @JsonProperty("ongoing") boolean isOngoing,
+        Integer estimatedAffectedPeople,
+        String severity,
+        String location,
+        String startDate,
+        String coverImage,
+        String urgencyLevel,
+        Integer fundingGoal,
+        Integer currentFunding,
+        Double fundingProgress) {
+
+    // Document fields read for this view, keep in sync with the components above
+    public static final String[] FIELDS = {
+            "title", "category", "isOngoing", "estimatedAffectedPeople", "severity", "location",
+            "startDate", "coverImage", "urgencyLevel", "fundingGoal", "currentFunding", "fundingProgress" };
+}
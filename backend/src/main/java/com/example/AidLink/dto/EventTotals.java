@@ -0,0 +1,18 @@
+package com.example.AidLink.dto;
+
+import com.example.models.Event;
+
+// Sums over the events collection that feed PlatformStats
+public record EventTotals(long moneyRaised, long activeDisasters, long peopleAffected) {
+
+    public static final EventTotals NONE = new EventTotals(0, 0, 0);
+
+    // What a single event contributes to the totals
+    public static EventTotals of(Event event) {
+        if (event == null) return NONE;
+        return new EventTotals(
+                event.getCurrentFunding() == null ? 0 : event.getCurrentFunding(),
+                event.isOngoing() ? 1 : 0,
+                event.getEstimatedAffectedPeople() == null ? 0 : event.getEstimatedAffectedPeople());
+    }
+}
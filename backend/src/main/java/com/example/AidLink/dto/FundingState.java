@@ -0,0 +1,12 @@
+package com.example.AidLink.dto;
+
+import java.util.List;
+
+// A running total as stored: the total itself (null when unset), the part that did not come from the ledger
+// (null until it is captured) and the latest aggregator batches applied to it. key is the event id or user email.
+public record FundingState<K>(K key, Integer total, Integer baseline, List<String> appliedBatches) {
+
+    public int totalOrZero() {
+        return total == null ? 0 : total;
+    }
+}
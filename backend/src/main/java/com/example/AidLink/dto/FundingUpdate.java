@@ -0,0 +1,10 @@
+package com.example.AidLink.dto;
+
+// Pushed to funding stream subscribers. delta is what was added since the previous update for this event.
+public record FundingUpdate(Integer eventId, Integer currentFunding, Integer fundingGoal, Double fundingProgress, int delta) {
+
+    // Fold an update the subscriber has not received yet into this newer one
+    public FundingUpdate after(FundingUpdate undelivered) {
+        return new FundingUpdate(eventId, currentFunding, fundingGoal, fundingProgress, undelivered.delta() + delta);
+    }
+}
@@ -0,0 +1,5 @@
+package com.example.AidLink.dto;
+
+// A rejected import record, record is its 1-based position in the uploaded file
+public record ImportError(long record, String message) {
+}
@@ -0,0 +1,7 @@
+package com.example.AidLink.dto;
+
+import java.util.List;
+
+// Outcome of a bulk import. Only the first errors are listed, failed always counts all of them.
+public record ImportReport(long received, long imported, long failed, List<ImportError> errors, boolean errorsTruncated) {
+}
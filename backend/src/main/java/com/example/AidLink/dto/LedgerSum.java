@@ -0,0 +1,19 @@
+package com.example.AidLink.dto;
+
+import java.util.Collection;
+import java.util.Map;
+
+// What the donation ledger holds for one event or user: the applied entries, and the claimed ones per batch.
+// A claimed batch only counts where it has already been applied, i.e. where its id is in appliedBatches.
+public record LedgerSum(long applied, Map<String, Long> claimedByBatch) {
+
+    public static final LedgerSum NONE = new LedgerSum(0, Map.of());
+
+    public long reachedBy(Collection<String> appliedBatches) {
+        long total = applied;
+        for (String batchId : appliedBatches) {
+            total += claimedByBatch.getOrDefault(batchId, 0L);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,5 @@
+package com.example.AidLink.dto;
+
+// An ongoing event and its distance from the query point
+public record NearbyEvent(EventSummary event, double distanceKm) {
+}
@@ -0,0 +1,13 @@
+package com.example.AidLink.dto;
+
+// A field office (or headquarters) of an approved organization and its distance from the query point
+public record NearbyFieldOffice(
+        String organizationId,
+        String organizationName,
+        String officeName,
+        String address,
+        boolean headquarters,
+        double latitude,
+        double longitude,
+        double distanceKm) {
+}
@@ -0,0 +1,114 @@
+package com.example.AidLink.dto;
+
+import java.util.List;
+import java.util.Objects;
+
+import com.example.models.Organization;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+// List view of an Organization for the review and recipients screens. Nested records keep the same
+// JSON paths as the full document, so list consumers read the same keys. Never carries the password.
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record OrganizationSummary(
+        String id,
+        Info organizationInfo,
+        Address addressInfo,
+        Details organizationDetails,
+        Financials financialInformation,
+        Leadership leadership,
+        List<ProgramCard> programs,
+        List<Registration> eventRegistrations,
+        Status registrationStatus) {
+
+    // Document fields read for this view, keep in sync with the records below
+    public static final String[] FIELDS = {
+            "organizationInfo.legalName", "organizationInfo.commonName", "organizationInfo.acronym",
+            "organizationInfo.organizationType", "organizationInfo.website", "organizationInfo.email",
+            "organizationInfo.phone", "organizationInfo.logo",
+            "addressInfo.headquarters.city", "addressInfo.headquarters.country",
+            "organizationDetails.mission", "organizationDetails.operationalCapacity.staffCount",
+            "financialInformation.annualBudget.totalBudget",
+            "leadership.executiveDirector.name", "leadership.executiveDirector.position",
+            "leadership.executiveDirector.photo",
+            "registrationStatus.approvalStatus", "registrationStatus.verificationStatus",
+            "registrationStatus.isActive" };
+
+    // Programs shown on a recipient card
+    public static final int PROGRAM_PREVIEW = 3;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record Info(String legalName, String commonName, String acronym, String organizationType,
+            String website, String email, String phone, String logo) {}
+
+    public record Address(Headquarters headquarters) {}
+
+    public record Headquarters(String city, String country) {}
+
+    public record Details(String mission, Capacity operationalCapacity) {}
+
+    public record Capacity(int staffCount) {}
+
+    public record Financials(Budget annualBudget) {}
+
+    public record Budget(double totalBudget) {}
+
+    public record Leadership(Director executiveDirector) {}
+
+    public record Director(String name, String position, String photo) {}
+
+    public record ProgramCard(String name, String category, String coverImage, int beneficiariesReached) {}
+
+    public record Registration(Integer eventId, String eventTitle, String status, String role,
+            List<String> servicesOffered) {}
+
+    public record Status(String approvalStatus, String verificationStatus, boolean isActive) {}
+
+    // The same view the approved-for-event endpoint serves, built from a full document:
+    // program preview plus only the registrations for eventId
+    public static OrganizationSummary forEvent(Organization org, Integer eventId) {
+        Organization.OrganizationInfo i = org.getOrganizationInfo();
+        Info info = i == null ? null : new Info(i.getLegalName(), i.getCommonName(), i.getAcronym(),
+                i.getOrganizationType(), i.getWebsite(), i.getEmail(), i.getPhone(), i.getLogo());
+
+        Address address = null;
+        if (org.getAddressInfo() != null && org.getAddressInfo().getHeadquarters() != null) {
+            Organization.AddressInfo.Headquarters hq = org.getAddressInfo().getHeadquarters();
+            address = new Address(new Headquarters(hq.getCity(), hq.getCountry()));
+        }
+
+        Details details = null;
+        if (org.getOrganizationDetails() != null) {
+            Organization.OrganizationDetails d = org.getOrganizationDetails();
+            Capacity capacity = d.getOperationalCapacity() == null ? null
+                    : new Capacity(d.getOperationalCapacity().getStaffCount());
+            details = new Details(d.getMission(), capacity);
+        }
+
+        Financials financials = null;
+        if (org.getFinancialInformation() != null && org.getFinancialInformation().getAnnualBudget() != null) {
+            financials = new Financials(new Budget(org.getFinancialInformation().getAnnualBudget().getTotalBudget()));
+        }
+
+        Leadership leadership = null;
+        if (org.getLeadership() != null && org.getLeadership().getExecutiveDirector() != null) {
+            Organization.Leadership.ExecutiveDirector ed = org.getLeadership().getExecutiveDirector();
+            leadership = new Leadership(new Director(ed.getName(), ed.getPosition(), ed.getPhoto()));
+        }
+
+        List<ProgramCard> programs = org.getPrograms() == null ? null : org.getPrograms().stream()
+                .limit(PROGRAM_PREVIEW)
+                .map(p -> new ProgramCard(p.getName(), p.getCategory(), p.getCoverImage(), p.getBeneficiariesReached()))
+                .toList();
+
+        List<Registration> registrations = org.getEventRegistrations() == null ? null : org.getEventRegistrations().stream()
+                .filter(r -> Objects.equals(r.getEventId(), eventId))
+                .map(r -> new Registration(r.getEventId(), r.getEventTitle(), r.getStatus(), r.getRole(), r.getServicesOffered()))
+                .toList();
+
+        Organization.RegistrationStatus rs = org.getRegistrationStatus();
+        Status status = rs == null ? null : new Status(rs.getApprovalStatus(), rs.getVerificationStatus(), rs.isActive());
+
+        return new OrganizationSummary(org.getId(), info, address, details, financials, leadership,
+                programs, registrations, status);
+    }
+}
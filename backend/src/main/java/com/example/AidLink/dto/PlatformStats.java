@@ -0,0 +1,5 @@
+package com.example.AidLink.dto;
+
+// Platform-wide totals for the home page
+public record PlatformStats(long moneyRaised, long activeDisasters, long peopleAffected, long approvedOrganizations) {
+}
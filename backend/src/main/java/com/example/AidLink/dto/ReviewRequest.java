@@ -0,0 +1,17 @@
+package com.example.AidLink.dto;
+
+import java.util.List;
+
+// Organizations to approve and to reject in one review pass, either list may be omitted
+public record ReviewRequest(List<String> approve, List<String> reject) {
+
+    public static final int MAX_ORGANIZATIONS = 1000;
+
+    public List<String> approveOrEmpty() {
+        return approve == null ? List.of() : approve;
+    }
+
+    public List<String> rejectOrEmpty() {
+        return reject == null ? List.of() : reject;
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.AidLink.dto;
+
+import java.util.List;
+
+// Outcome of a review pass, notFound lists ids that don't exist (e.g. already rejected)
+public record ReviewResult(List<String> approved, List<String> rejected, List<String> notFound) {
+}
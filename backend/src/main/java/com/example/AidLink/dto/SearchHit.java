@@ -0,0 +1,5 @@
+package com.example.AidLink.dto;
+
+// One ranked search result. type is "event" or "organization", subtitle is the location or countries.
+public record SearchHit(String type, String id, String title, String subtitle, float score) {
+}
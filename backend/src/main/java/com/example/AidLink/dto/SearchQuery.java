@@ -0,0 +1,22 @@
+package com.example.AidLink.dto;
+
+// Search text, optional type and facet filters, and the page to return. Null filters are not applied.
+public record SearchQuery(
+        String text,
+        String type,
+        String category,
+        String severity,
+        String organizationType,
+        int page,
+        int size) {
+
+    public static final String TYPE_EVENT = "event";
+    public static final String TYPE_ORGANIZATION = "organization";
+    public static final int MAX_SIZE = 50;
+    // Deep pages re-rank everything before them, searches past this many hits should be refined instead
+    public static final int MAX_WINDOW = 1000;
+
+    public static boolean isType(String type) {
+        return type == null || TYPE_EVENT.equals(type) || TYPE_ORGANIZATION.equals(type);
+    }
+}
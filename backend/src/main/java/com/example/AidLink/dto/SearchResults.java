@@ -0,0 +1,9 @@
+package com.example.AidLink.dto;
+
+import java.util.List;
+import java.util.Map;
+
+// One page of search hits with facet counts (dimension -> value -> count) over all matches
+public record SearchResults(List<SearchHit> hits, long total, int page, int size,
+        Map<String, Map<String, Integer>> facets) {
+}
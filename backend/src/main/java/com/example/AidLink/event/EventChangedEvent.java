@@ -0,0 +1,7 @@
+package com.example.AidLink.event;
+
+import com.example.models.Event;
+
+// Published after an event document is created or replaced. previous is null when the event is new.
+public record EventChangedEvent(Integer eventId, Event previous, Event current) {
+}
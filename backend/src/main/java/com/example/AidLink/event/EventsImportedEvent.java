@@ -0,0 +1,10 @@
+package com.example.AidLink.event;
+
+import java.util.List;
+
+import com.example.models.Event;
+
+// Published once per bulk-inserted batch of new events, so listeners can apply the batch in one go
+// instead of handling an EventChangedEvent per record
+public record EventsImportedEvent(List<Event> events) {
+}
@@ -0,0 +1,12 @@
+package com.example.AidLink.event;
+
+import java.util.Map;
+
+// Published after donations were applied to Event.currentFunding.
+// deltasByEventId holds the amount added per event, rebuilt is true when every total was recomputed.
+public record FundingChangedEvent(Map<Integer, Integer> deltasByEventId, boolean rebuilt) {
+
+    public static FundingChangedEvent of(Integer eventId, int amount) {
+        return new FundingChangedEvent(Map.of(eventId, amount), false);
+    }
+}
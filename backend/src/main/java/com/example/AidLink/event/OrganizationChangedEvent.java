@@ -0,0 +1,32 @@
+package com.example.AidLink.event;
+
+import java.util.List;
+import java.util.Map;
+
+// Published after organizations are registered, approved, rejected or registered for an event.
+// A review or an import publishes one event for all the organizations it changed, so listeners
+// reload them with one query and refresh once.
+public record OrganizationChangedEvent(Map<Change, List<String>> organizationIds) {
+
+    public enum Change { REGISTERED, APPROVED, REJECTED, EVENT_REGISTRATION }
+
+    public OrganizationChangedEvent {
+        organizationIds = Map.copyOf(organizationIds);
+    }
+
+    public OrganizationChangedEvent(String organizationId, Change change) {
+        this(Map.of(change, List.of(organizationId)));
+    }
+
+    public List<String> ids(Change change) {
+        return organizationIds.getOrDefault(change, List.of());
+    }
+
+    public boolean has(Change change) {
+        return !ids(change).isEmpty();
+    }
+
+    public List<String> allIds() {
+        return organizationIds.values().stream().flatMap(List::stream).toList();
+    }
+}
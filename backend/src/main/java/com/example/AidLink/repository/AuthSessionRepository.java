@@ -0,0 +1,10 @@
+package com.example.AidLink.repository;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import com.example.models.AuthSession;
+
+@Repository
+public interface AuthSessionRepository extends MongoRepository<AuthSession, String>, AuthSessionRepositoryCustom {
+}
@@ -0,0 +1,10 @@
+package com.example.AidLink.repository;
+
+import java.time.Instant;
+import java.util.Map;
+
+// Batched writes for MongoSessionStore
+public interface AuthSessionRepositoryCustom {
+    // Move lastAccessedAt forward for many sessions in one unordered bulk write, never backwards
+    void touchAll(Map<String, Instant> lastAccessedById);
+}
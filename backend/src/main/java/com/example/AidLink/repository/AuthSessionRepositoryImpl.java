@@ -0,0 +1,30 @@
+package com.example.AidLink.repository;
+
+import java.time.Instant;
+import java.util.Map;
+
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import com.example.models.AuthSession;
+
+public class AuthSessionRepositoryImpl implements AuthSessionRepositoryCustom {
+    private final MongoTemplate mongoTemplate;
+
+    public AuthSessionRepositoryImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public void touchAll(Map<String, Instant> lastAccessedById) {
+        if (lastAccessedById.isEmpty()) return;
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, AuthSession.class);
+        // $max, so a flush from an instance that saw an older request can't move it back
+        lastAccessedById.forEach((id, lastAccessed) ->
+                bulk.updateOne(new Query(Criteria.where("_id").is(id)), new Update().max("lastAccessedAt", lastAccessed)));
+        bulk.execute();
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.AidLink.repository;
+
+import java.util.List;
+
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import com.example.AidLink.dto.BulkWriteFailure;
+
+// Unordered bulk insert shared by the import repositories. An unordered batch keeps going past a
+// rejected document (e.g. a duplicate _id), so one bad record never blocks the rest of its batch.
+final class BulkInserts {
+    private BulkInserts() {
+    }
+
+    static List<BulkWriteFailure> insertUnordered(MongoTemplate mongoTemplate, Class<?> type, List<?> documents) {
+        if (documents.isEmpty()) return List.of();
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, type);
+        bulk.insert(documents);
+        try {
+            bulk.execute();
+            return List.of();
+        } catch (BulkOperationException e) {
+            return e.getErrors().stream()
+                    .map(error -> new BulkWriteFailure(error.getIndex(), error.getCode(), error.getMessage()))
+                    .toList();
+        }
+    }
+}
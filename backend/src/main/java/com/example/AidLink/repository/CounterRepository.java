@@ -0,0 +1,10 @@
+package com.example.AidLink.repository;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import com.example.models.Counter;
+
+@Repository
+public interface CounterRepository extends MongoRepository<Counter, String>, CounterRepositoryCustom {
+}
@@ -0,0 +1,10 @@
+package com.example.AidLink.repository;
+
+// Atomic sequence operations on the counters collection
+public interface CounterRepositoryCustom {
+    // Atomically add delta to the named counter (creating it at 0) and return the new value
+    long incrementAndGet(String name, int delta);
+
+    // Make sure the named counter is at least value, never lowers it
+    void raiseTo(String name, long value);
+}
@@ -0,0 +1,31 @@
+package com.example.AidLink.repository;
+
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import com.example.models.Counter;
+
+public class CounterRepositoryImpl implements CounterRepositoryCustom {
+    private final MongoTemplate mongoTemplate;
+
+    public CounterRepositoryImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public long incrementAndGet(String name, int delta) {
+        Counter counter = mongoTemplate.findAndModify(new Query(Criteria.where("_id").is(name)),
+                new Update().inc("seq", delta),
+                FindAndModifyOptions.options().returnNew(true).upsert(true), Counter.class);
+        return counter.getSeq();
+    }
+
+    @Override
+    public void raiseTo(String name, long value) {
+        // $max is idempotent, so every instance can run this safely
+        mongoTemplate.upsert(new Query(Criteria.where("_id").is(name)), new Update().max("seq", value), Counter.class);
+    }
+}
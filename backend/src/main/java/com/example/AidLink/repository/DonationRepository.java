@@ -0,0 +1,17 @@
+package com.example.AidLink.repository;
+
+import java.util.List;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import com.example.models.Donation;
+
+@Repository
+public interface DonationRepository extends MongoRepository<Donation, String>, DonationRepositoryCustom {
+    // Entries claimed by one aggregator batch
+    List<Donation> findByBatchId(String batchId);
+
+    // Most recent ledger entries for one event
+    List<Donation> findTop100ByEventIdOrderByCreatedAtDesc(Integer eventId);
+}
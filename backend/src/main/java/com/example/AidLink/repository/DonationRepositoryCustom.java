@@ -0,0 +1,33 @@
+package com.example.AidLink.repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import com.example.AidLink.dto.BulkWriteFailure;
+import com.example.AidLink.dto.LedgerSum;
+import com.example.models.Donation;
+
+// Ledger operations used by the donation aggregator
+public interface DonationRepositoryCustom {
+    // Insert entries with caller-chosen ids, rows already present are reported back instead of failing the batch
+    List<BulkWriteFailure> insertUnordered(List<Donation> donations);
+
+    // Move up to limit pending entries to "claimed" under batchId, returns how many were claimed
+    long claimPending(String batchId, Instant claimedAt, int limit);
+
+    // Take over one batch claimed before cutoff by an aggregator that crashed or stalled, returns its id.
+    // The entries keep their batchId, so the new claimant skips documents the batch already reached.
+    Optional<String> reclaimExpired(Instant cutoff, Instant claimedAt);
+
+    // Mark every entry of a claimed batch as applied to the totals
+    void markApplied(String batchId);
+
+    // Applied and claimed ledger amounts per event, for the given events or all of them when null
+    Map<Integer, LedgerSum> sumByEvent(Collection<Integer> eventIds);
+
+    // Applied and claimed ledger amounts per user email, for the given users or all of them when null
+    Map<String, LedgerSum> sumByUser(Collection<String> emails);
+}
@@ -0,0 +1,120 @@
+package com.example.AidLink.repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.ConditionalOperators;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import com.example.AidLink.dto.BulkWriteFailure;
+import com.example.AidLink.dto.LedgerSum;
+import com.example.models.Donation;
+
+public class DonationRepositoryImpl implements DonationRepositoryCustom {
+    private final MongoTemplate mongoTemplate;
+
+    public DonationRepositoryImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public List<BulkWriteFailure> insertUnordered(List<Donation> donations) {
+        return BulkInserts.insertUnordered(mongoTemplate, Donation.class, donations);
+    }
+
+    @Override
+    public long claimPending(String batchId, Instant claimedAt, int limit) {
+        Query pending = new Query(Criteria.where("status").is("pending"))
+                .with(Sort.by("_id"))
+                .limit(limit);
+        pending.fields().include("_id");
+        List<Object> ids = mongoTemplate.find(pending, Document.class, "donations").stream()
+                .map(d -> d.get("_id"))
+                .toList();
+        if (ids.isEmpty()) return 0;
+        // Re-check status so two aggregators never claim the same entry
+        Query claim = new Query(Criteria.where("_id").in(ids).and("status").is("pending"));
+        Update update = new Update().set("status", "claimed").set("batchId", batchId).set("claimedAt", claimedAt);
+        return mongoTemplate.updateMulti(claim, update, Donation.class).getModifiedCount();
+    }
+
+    @Override
+    public Optional<String> reclaimExpired(Instant cutoff, Instant claimedAt) {
+        Query oldest = new Query(expiredClaim(cutoff));
+        oldest.fields().include("batchId");
+        Document entry = mongoTemplate.findOne(oldest, Document.class, "donations");
+        if (entry == null || entry.getString("batchId") == null) return Optional.empty();
+        String batchId = entry.getString("batchId");
+        // Only entries still past the cutoff move, so of two instances reclaiming at once one gets nothing
+        Query batch = new Query(new Criteria().andOperator(Criteria.where("batchId").is(batchId), expiredClaim(cutoff)));
+        long taken = mongoTemplate.updateMulti(batch, new Update().set("claimedAt", claimedAt), Donation.class)
+                .getModifiedCount();
+        return taken > 0 ? Optional.of(batchId) : Optional.empty();
+    }
+
+    @Override
+    public void markApplied(String batchId) {
+        mongoTemplate.updateMulti(new Query(Criteria.where("batchId").is(batchId).and("status").is("claimed")),
+                new Update().set("status", "applied"), Donation.class);
+    }
+
+    @Override
+    public Map<Integer, LedgerSum> sumByEvent(Collection<Integer> eventIds) {
+        return sumBy("eventId", eventIds);
+    }
+
+    @Override
+    public Map<String, LedgerSum> sumByUser(Collection<String> emails) {
+        return sumBy("userEmail", emails);
+    }
+
+    // Entries claimed before claimedAt was recorded count as expired
+    private static Criteria expiredClaim(Instant cutoff) {
+        return new Criteria().andOperator(Criteria.where("status").is("claimed"),
+                new Criteria().orOperator(Criteria.where("claimedAt").lt(cutoff), Criteria.where("claimedAt").exists(false)));
+    }
+
+    // Applied entries summed per key, claimed ones per key and batch. Pending entries are left out,
+    // the aggregator adds them on top afterwards.
+    @SuppressWarnings("unchecked")
+    private <K> Map<K, LedgerSum> sumBy(String field, Collection<K> keys) {
+        Criteria match = Criteria.where("status").in("applied", "claimed");
+        if (keys != null) match = match.and(field).in(keys);
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(match),
+                Aggregation.project(field, "amount")
+                        .and(ConditionalOperators.when(Criteria.where("status").is("claimed")).thenValueOf("batchId").otherwise(""))
+                        .as("claimedBatch"),
+                Aggregation.group(field, "claimedBatch").sum("amount").as("total"));
+
+        Map<K, Long> applied = new HashMap<>();
+        Map<K, Map<String, Long>> claimed = new HashMap<>();
+        for (Document d : mongoTemplate.aggregate(aggregation, "donations", Document.class).getMappedResults()) {
+            Document group = d.get("_id", Document.class);
+            K key = (K) group.get(field);
+            if (key == null) continue;
+            long total = ((Number) d.get("total")).longValue();
+            String batchId = group.getString("claimedBatch");
+            if (batchId == null || batchId.isEmpty()) {
+                applied.merge(key, total, Long::sum);
+            } else {
+                claimed.computeIfAbsent(key, k -> new HashMap<>()).put(batchId, total);
+            }
+        }
+        Map<K, LedgerSum> sums = new HashMap<>();
+        applied.forEach((key, total) -> sums.put(key, new LedgerSum(total, Map.of())));
+        claimed.forEach((key, batches) ->
+                sums.put(key, new LedgerSum(applied.getOrDefault(key, 0L), Map.copyOf(batches))));
+        return sums;
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.AidLink.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import com.example.models.EventOrganizationEntry;
+
+@Repository
+public interface EventOrganizationEntryRepository extends MongoRepository<EventOrganizationEntry, String>,
+        EventOrganizationEntryRepositoryCustom {
+    // Keyed read on the eventId index
+    List<EventOrganizationEntry> findByEventId(Integer eventId);
+
+    void deleteByOrganizationIdIn(Collection<String> organizationIds);
+}
@@ -0,0 +1,15 @@
+package com.example.AidLink.repository;
+
+import java.time.Instant;
+import java.util.List;
+
+import com.example.models.EventOrganizationEntry;
+
+// Bulk writes for the approved organization index
+public interface EventOrganizationEntryRepositoryCustom {
+    // Insert or replace each entry by id in one unordered bulk write, safe to run on several instances at once
+    void upsertAll(List<EventOrganizationEntry> entries);
+
+    // Delete entries written before cutoff, i.e. the ones a rebuild started at cutoff did not write again
+    long deleteIndexedBefore(Instant cutoff);
+}
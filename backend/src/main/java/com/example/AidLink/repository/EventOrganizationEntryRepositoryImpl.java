@@ -0,0 +1,38 @@
+package com.example.AidLink.repository;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import com.example.models.EventOrganizationEntry;
+
+public class EventOrganizationEntryRepositoryImpl implements EventOrganizationEntryRepositoryCustom {
+    private final MongoTemplate mongoTemplate;
+
+    public EventOrganizationEntryRepositoryImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public void upsertAll(List<EventOrganizationEntry> entries) {
+        if (entries.isEmpty()) return;
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, EventOrganizationEntry.class);
+        for (EventOrganizationEntry entry : entries) {
+            bulk.replaceOne(new Query(Criteria.where("_id").is(entry.getId())), entry, FindAndReplaceOptions.options().upsert());
+        }
+        bulk.execute();
+    }
+
+    @Override
+    public long deleteIndexedBefore(Instant cutoff) {
+        // Entries from before indexedAt existed have none and are stale as well
+        Query stale = new Query(new Criteria().orOperator(
+                Criteria.where("indexedAt").lt(cutoff), Criteria.where("indexedAt").exists(false)));
+        return mongoTemplate.remove(stale, EventOrganizationEntry.class).getDeletedCount();
+    }
+}
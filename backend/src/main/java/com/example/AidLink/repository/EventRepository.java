@@ -1,10 +1,33 @@
 package com.example.AidLink.repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import com.example.models.Event;
 
 @Repository
-public interface EventRepository extends MongoRepository<Event, Integer> {
+public interface EventRepository extends MongoRepository<Event, Integer>, EventRepositoryCustom {
+    // Only the funding fields, for the donation path
+    @Query(value = "{ '_id': ?0 }", fields = "{ 'title': 1, 'fundingGoal': 1, 'currentFunding': 1 }")
+    Optional<Event> findFundingById(Integer id);
+
+    // Funding fields of many events in one round trip, for the funding stream
+    @Query(value = "{ '_id': { '$in': ?0 } }", fields = "{ 'fundingGoal': 1, 'currentFunding': 1, 'fundingProgress': 1 }")
+    List<Event> findFundingByIdIn(Collection<Integer> ids);
+
+    // Which of these events exist, reading only their ids
+    @Query(value = "{ '_id': { '$in': ?0 } }", fields = "{ '_id': 1 }")
+    List<Event> findIdsByIdIn(Collection<Integer> ids);
+
+    // Cursor over every event, for index rebuilds
+    Stream<Event> streamAllBy();
+
+    // Event with the highest id, read from the _id index
+    Optional<Event> findTopByOrderByIdDesc();
 }
@@ -0,0 +1,48 @@
+package com.example.AidLink.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.geo.GeoResults;
+import org.springframework.data.geo.Point;
+
+import com.example.AidLink.dto.BulkWriteFailure;
+import com.example.AidLink.dto.EventListQuery;
+import com.example.AidLink.dto.EventSummary;
+import com.example.AidLink.dto.EventTotals;
+import com.example.AidLink.dto.FundingState;
+import com.example.models.Event;
+
+// Operations that need MongoTemplate instead of derived queries
+public interface EventRepositoryCustom {
+    // Add one aggregator batch's per-event deltas in one unordered bulk write, skipping events it already reached
+    void applyFundingBatch(String batchId, Map<Integer, Integer> deltasByEventId);
+
+    // Stored funding of the given events, or of all events when null, for reconciling with the ledger
+    List<FundingState<Integer>> findFundingStates(Collection<Integer> eventIds);
+
+    // Stored funding of events whose baseline has not been captured yet
+    List<FundingState<Integer>> findFundingStatesWithoutBaseline();
+
+    // Set currentFunding and its baseline only while currentFunding still holds expectedFunding
+    boolean replaceFunding(Integer eventId, Integer expectedFunding, int funding, int baseline);
+
+    // Compute fundingProgress for events stored before the field existed, returns how many were updated
+    long backfillFundingProgress();
+
+    // Funding, ongoing count and affected people summed over all events in one aggregation
+    EventTotals sumTotals();
+
+    // Ongoing events within radiusKm of point, nearest first, using the 2dsphere index on coordinates
+    GeoResults<EventSummary> findOngoingNear(Point point, double radiusKm, int limit);
+
+    // Insert a batch of new events in one unordered bulk write, returns the ones that were rejected
+    List<BulkWriteFailure> insertUnordered(List<Event> events);
+
+    // One keyset page of the filtered, sorted listing, read as summaries
+    List<EventSummary> findPage(EventListQuery listQuery);
+
+    // Ids of all events in natural order, what the cached full listing is made of
+    List<Integer> findAllIds();
+}
@@ -0,0 +1,202 @@
+package com.example.AidLink.repository;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.geo.GeoResults;
+import org.springframework.data.geo.Metrics;
+import org.springframework.data.geo.Point;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationExpression;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.aggregation.ArithmeticOperators;
+import org.springframework.data.mongodb.core.aggregation.ComparisonOperators;
+import org.springframework.data.mongodb.core.aggregation.ConditionalOperators;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.NearQuery;
+import org.springframework.data.mongodb.core.query.Query;
+
+import com.example.AidLink.dto.BulkWriteFailure;
+import com.example.AidLink.dto.EventListQuery;
+import com.example.AidLink.dto.EventSummary;
+import com.example.AidLink.dto.EventTotals;
+import com.example.AidLink.dto.FundingState;
+import com.example.models.Event;
+
+public class EventRepositoryImpl implements EventRepositoryCustom {
+    // currentFunding / fundingGoal, 0 when there is no goal
+    private static final AggregationExpression FUNDING_PROGRESS = ConditionalOperators
+            .when(ComparisonOperators.valueOf("fundingGoal").greaterThanValue(0))
+            .then(ArithmeticOperators.Divide.valueOf("currentFunding").divideBy("fundingGoal"))
+            .otherwise(0);
+
+    // Funding that did not come through the donation ledger, see DonationAggregator
+    private static final String FUNDING_BASELINE = "fundingBaseline";
+    // Latest aggregator batches added to currentFunding
+    private static final String APPLIED_BATCHES = "appliedBatches";
+    static final int APPLIED_BATCHES_KEPT = 100;
+
+    private final MongoTemplate mongoTemplate;
+
+    public EventRepositoryImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public void applyFundingBatch(String batchId, Map<Integer, Integer> deltasByEventId) {
+        if (deltasByEventId.isEmpty()) return;
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Event.class);
+        // Events that already carry this batch are skipped, so a retried or reclaimed batch is added once
+        deltasByEventId.forEach((eventId, delta) -> bulk.updateOne(
+                new Query(Criteria.where("_id").is(eventId).and(APPLIED_BATCHES).ne(batchId)),
+                addToFunding(delta).set(APPLIED_BATCHES).toValue(appendBatch(batchId))));
+        bulk.execute();
+    }
+
+    @Override
+    public List<FundingState<Integer>> findFundingStates(Collection<Integer> eventIds) {
+        return fundingStates(eventIds == null ? new Query() : new Query(Criteria.where("_id").in(eventIds)));
+    }
+
+    @Override
+    public List<FundingState<Integer>> findFundingStatesWithoutBaseline() {
+        return fundingStates(new Query(Criteria.where(FUNDING_BASELINE).is(null)));
+    }
+
+    @Override
+    public boolean replaceFunding(Integer eventId, Integer expectedFunding, int funding, int baseline) {
+        Query unchanged = new Query(Criteria.where("_id").is(eventId).and("currentFunding").is(expectedFunding));
+        AggregationUpdate update = setFunding(funding).set(FUNDING_BASELINE).toValue(baseline);
+        return mongoTemplate.updateFirst(unchanged, update, Event.class).getModifiedCount() == 1;
+    }
+
+    @Override
+    public long backfillFundingProgress() {
+        Query missing = new Query(Criteria.where("fundingProgress").exists(false));
+        return mongoTemplate.updateMulti(missing,
+                AggregationUpdate.update().set("fundingProgress").toValue(FUNDING_PROGRESS), Event.class)
+                .getModifiedCount();
+    }
+
+    @Override
+    public EventTotals sumTotals() {
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.group()
+                        .sum("currentFunding").as("moneyRaised")
+                        .sum(ConditionalOperators.when(Criteria.where("isOngoing").is(true)).then(1).otherwise(0))
+                        .as("activeDisasters")
+                        .sum("estimatedAffectedPeople").as("peopleAffected"));
+        Document totals = mongoTemplate.aggregate(aggregation, Event.class, Document.class).getUniqueMappedResult();
+        if (totals == null) return EventTotals.NONE;
+        return new EventTotals(longValue(totals, "moneyRaised"), longValue(totals, "activeDisasters"),
+                longValue(totals, "peopleAffected"));
+    }
+
+    @Override
+    public GeoResults<EventSummary> findOngoingNear(Point point, double radiusKm, int limit) {
+        // A GeoJSON point makes $geoNear use spherical distances, returned here in kilometers
+        NearQuery near = NearQuery.near(new GeoJsonPoint(point), Metrics.KILOMETERS)
+                .spherical(true)
+                .maxDistance(radiusKm, Metrics.KILOMETERS)
+                .query(new Query(Criteria.where("isOngoing").is(true)).limit(limit));
+        return mongoTemplate.geoNear(near, Event.class, mongoTemplate.getCollectionName(Event.class), EventSummary.class);
+    }
+
+    @Override
+    public List<BulkWriteFailure> insertUnordered(List<Event> events) {
+        return BulkInserts.insertUnordered(mongoTemplate, Event.class, events);
+    }
+
+    @Override
+    public List<EventSummary> findPage(EventListQuery listQuery) {
+        return mongoTemplate.query(Event.class).as(EventSummary.class).matching(pageQuery(listQuery)).all();
+    }
+
+    @Override
+    public List<Integer> findAllIds() {
+        Query all = new Query();
+        all.fields().include("_id");
+        return mongoTemplate.find(all, Document.class, "events").stream()
+                .map(d -> d.getInteger("_id"))
+                .toList();
+    }
+
+    // Shared with ReactiveEventRepositoryImpl
+    static Query pageQuery(EventListQuery listQuery) {
+        List<Criteria> parts = new ArrayList<>();
+        if (listQuery.category() != null) parts.add(Criteria.where("category").is(listQuery.category()));
+        if (listQuery.isOngoing() != null) parts.add(Criteria.where("isOngoing").is(listQuery.isOngoing()));
+        if (listQuery.severity() != null) parts.add(Criteria.where("severity").is(listQuery.severity()));
+        if (listQuery.urgencyLevel() != null) parts.add(Criteria.where("urgencyLevel").is(listQuery.urgencyLevel()));
+        if (listQuery.after() != null) {
+            parts.add(after(listQuery.sortBy(), listQuery.ascending(), listQuery.after().sortValue(), listQuery.after().id()));
+        }
+
+        Query query = parts.isEmpty() ? new Query() : new Query(new Criteria().andOperator(parts));
+        Sort.Direction direction = listQuery.ascending() ? Sort.Direction.ASC : Sort.Direction.DESC;
+        query.with(Sort.by(direction, listQuery.sortBy(), "_id")).limit(listQuery.limit());
+        query.fields().include(EventSummary.FIELDS);
+        return query;
+    }
+
+    // Everything strictly after (value, id) in the sort order. Nulls sort first ascending and last descending.
+    private static Criteria after(String field, boolean ascending, Object value, Integer id) {
+        Criteria laterId = ascending ? Criteria.where("_id").gt(id) : Criteria.where("_id").lt(id);
+        if (value == null) {
+            Criteria remainingNulls = new Criteria().andOperator(Criteria.where(field).is(null), laterId);
+            return ascending ? new Criteria().orOperator(remainingNulls, Criteria.where(field).ne(null)) : remainingNulls;
+        }
+        Criteria beyond = ascending ? Criteria.where(field).gt(value) : Criteria.where(field).lt(value);
+        Criteria tie = new Criteria().andOperator(Criteria.where(field).is(value), laterId);
+        return ascending
+                ? new Criteria().orOperator(beyond, tie)
+                : new Criteria().orOperator(beyond, tie, Criteria.where(field).is(null));
+    }
+
+    private static long longValue(Document document, String field) {
+        Object value = document.get(field);
+        return value instanceof Number number ? number.longValue() : 0;
+    }
+
+    // Two $set stages, so fundingProgress is computed from the new currentFunding
+    private static AggregationUpdate addToFunding(int amount) {
+        return AggregationUpdate.update()
+                .set("currentFunding").toValue(ArithmeticOperators.Add
+                        .valueOf(ConditionalOperators.ifNull("currentFunding").then(0)).add(amount))
+                .set("fundingProgress").toValue(FUNDING_PROGRESS);
+    }
+
+    // appliedBatches + [batchId], keeping the last APPLIED_BATCHES_KEPT
+    private static Document appendBatch(String batchId) {
+        Document appended = new Document("$concatArrays",
+                List.of(new Document("$ifNull", Arrays.asList("$" + APPLIED_BATCHES, List.of())), List.of(batchId)));
+        return new Document("$slice", List.of(appended, -APPLIED_BATCHES_KEPT));
+    }
+
+    private List<FundingState<Integer>> fundingStates(Query query) {
+        query.fields().include("currentFunding", FUNDING_BASELINE, APPLIED_BATCHES);
+        return mongoTemplate.find(query, Document.class, mongoTemplate.getCollectionName(Event.class)).stream()
+                .map(d -> new FundingState<>(d.getInteger("_id"), integerValue(d, "currentFunding"),
+                        integerValue(d, FUNDING_BASELINE), d.getList(APPLIED_BATCHES, String.class, List.of())))
+                .toList();
+    }
+
+    private static Integer integerValue(Document document, String field) {
+        Object value = document.get(field);
+        return value instanceof Number number ? number.intValue() : null;
+    }
+
+    private static AggregationUpdate setFunding(int total) {
+        return AggregationUpdate.update()
+                .set("currentFunding").toValue(total)
+                .set("fundingProgress").toValue(FUNDING_PROGRESS);
+    }
+}
@@ -1,20 +1,46 @@
 package com.example.AidLink.repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
+import com.example.AidLink.config.CacheConfig;
 import com.example.models.Organization;
 
 @Repository
-public interface OrganizationRepository extends MongoRepository<Organization, String> {
+public interface OrganizationRepository extends MongoRepository<Organization, String>, OrganizationRepositoryCustom {
     // Find organizations by approval status (nested field)
     List<Organization> findByRegistrationStatus_ApprovalStatus(String approvalStatus);
 
     // Find organizations by approval status and eventId in eventRegistrations
     List<Organization> findByRegistrationStatus_ApprovalStatusAndEventRegistrations_EventId(String approvalStatus, Integer eventId);
     
-    // Note: findById(String id) is inherited from MongoRepository
-    // This method is used by the getOrganizationById endpoint in OrganizationAdminController
+    // Cached read-through, evicted by CacheInvalidationListener when the organization changes.
+    // Used by the getOrganizationById endpoint in OrganizationAdminController
+    @Override
+    @Cacheable(cacheNames = CacheConfig.ORGANIZATIONS, unless = "#result == null")
+    Optional<Organization> findById(String id);
+
+    // Cursor over every organization with this status, for index rebuilds
+    Stream<Organization> streamByRegistrationStatus_ApprovalStatus(String approvalStatus);
+
+    // Cursor over every organization, for exports
+    Stream<Organization> streamAllBy();
+
+    // Number of organizations with this status, for the platform stats
+    long countByRegistrationStatus_ApprovalStatus(String approvalStatus);
+
+    // Delete in one round trip, returns how many were deleted
+    long deleteByIdIn(Collection<String> ids);
+
+    // Uncached read for write paths, so a document being modified is never the shared cached instance
+    Optional<Organization> findOneById(String id);
+
+    // Uncached $in read for listeners reloading every organization of one change at once
+    List<Organization> findByIdIn(Collection<String> ids);
 }
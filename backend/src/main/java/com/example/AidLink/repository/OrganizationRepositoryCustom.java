@@ -0,0 +1,36 @@
+package com.example.AidLink.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import com.example.AidLink.dto.BulkWriteFailure;
+import com.example.AidLink.dto.OrganizationSummary;
+import com.example.models.Organization;
+
+// Field-limited list queries, the full aggregate is only read by findById
+public interface OrganizationRepositoryCustom {
+    List<OrganizationSummary> findSummariesByApprovalStatus(String approvalStatus);
+
+    // Ids of the events the organization is registered for, read without the rest of the document.
+    // Empty when the organization doesn't exist.
+    Optional<Set<Integer>> findRegisteredEventIds(String organizationId);
+
+    // Atomically append the registrations, provided none of their events is registered yet.
+    // Returns false when the organization is gone or one of the events was registered concurrently.
+    boolean pushEventRegistrations(String organizationId, List<Organization.EventRegistration> registrations);
+
+    // Set registrationStatus.approvalStatus in one findAndModify that reads back only that field.
+    // Empty when the organization doesn't exist.
+    Optional<String> updateApprovalStatus(String organizationId, String approvalStatus);
+
+    // Set registrationStatus.approvalStatus on all the organizations in one update, returns how many changed
+    long updateApprovalStatus(Collection<String> organizationIds, String approvalStatus);
+
+    // Which of these organizations exist, reading only their ids
+    List<String> findExistingIds(Collection<String> organizationIds);
+
+    // Insert a batch of new organizations in one unordered bulk write, returns the ones that were rejected
+    List<BulkWriteFailure> insertUnordered(List<Organization> organizations);
+}
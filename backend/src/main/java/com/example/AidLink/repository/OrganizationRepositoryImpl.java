@@ -0,0 +1,88 @@
+package com.example.AidLink.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import com.example.AidLink.dto.BulkWriteFailure;
+import com.example.AidLink.dto.OrganizationSummary;
+import com.example.models.Organization;
+
+public class OrganizationRepositoryImpl implements OrganizationRepositoryCustom {
+    private static final String APPROVAL_STATUS = "registrationStatus.approvalStatus";
+
+    private final MongoTemplate mongoTemplate;
+
+    public OrganizationRepositoryImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public List<OrganizationSummary> findSummariesByApprovalStatus(String approvalStatus) {
+        Query query = new Query(Criteria.where("registrationStatus.approvalStatus").is(approvalStatus));
+        query.fields().include(OrganizationSummary.FIELDS);
+        return mongoTemplate.query(Organization.class).as(OrganizationSummary.class).matching(query).all();
+    }
+
+    @Override
+    public Optional<Set<Integer>> findRegisteredEventIds(String organizationId) {
+        Query query = new Query(Criteria.where("_id").is(organizationId));
+        query.fields().include("eventRegistrations.eventId");
+        Organization org = mongoTemplate.findOne(query, Organization.class);
+        if (org == null) return Optional.empty();
+        if (org.getEventRegistrations() == null) return Optional.of(Set.of());
+        return Optional.of(org.getEventRegistrations().stream()
+                .map(Organization.EventRegistration::getEventId)
+                .collect(Collectors.toSet()));
+    }
+
+    @Override
+    public boolean pushEventRegistrations(String organizationId, List<Organization.EventRegistration> registrations) {
+        List<Integer> eventIds = registrations.stream().map(Organization.EventRegistration::getEventId).toList();
+        // The _id match finds the document through its index, the $nin guard is then checked on that one
+        // document in the same atomic update, so a duplicate can't slip in between check and write.
+        // Only eventRegistrations is written, concurrent changes to other fields are left intact.
+        Query query = new Query(Criteria.where("_id").is(organizationId).and("eventRegistrations.eventId").nin(eventIds));
+        Update push = new Update().push("eventRegistrations").each(registrations.toArray());
+        return mongoTemplate.updateFirst(query, push, Organization.class).getMatchedCount() == 1;
+    }
+
+    @Override
+    public Optional<String> updateApprovalStatus(String organizationId, String approvalStatus) {
+        Query query = new Query(Criteria.where("_id").is(organizationId));
+        query.fields().include(APPROVAL_STATUS);
+        Organization updated = mongoTemplate.findAndModify(query, new Update().set(APPROVAL_STATUS, approvalStatus),
+                FindAndModifyOptions.options().returnNew(true), Organization.class);
+        if (updated == null) return Optional.empty();
+        return Optional.of(updated.getRegistrationStatus().getApprovalStatus());
+    }
+
+    @Override
+    public long updateApprovalStatus(Collection<String> organizationIds, String approvalStatus) {
+        if (organizationIds.isEmpty()) return 0;
+        Query query = new Query(Criteria.where("_id").in(organizationIds));
+        return mongoTemplate.updateMulti(query, new Update().set(APPROVAL_STATUS, approvalStatus), Organization.class)
+                .getModifiedCount();
+    }
+
+    @Override
+    public List<String> findExistingIds(Collection<String> organizationIds) {
+        if (organizationIds.isEmpty()) return List.of();
+        Query query = new Query(Criteria.where("_id").in(organizationIds));
+        query.fields().include("_id");
+        return mongoTemplate.find(query, Organization.class).stream().map(Organization::getId).toList();
+    }
+
+    @Override
+    public List<BulkWriteFailure> insertUnordered(List<Organization> organizations) {
+        return BulkInserts.insertUnordered(mongoTemplate, Organization.class, organizations);
+    }
+}
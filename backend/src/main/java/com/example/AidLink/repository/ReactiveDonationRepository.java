@@ -0,0 +1,11 @@
+package com.example.AidLink.repository;
+
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+
+import com.example.models.Donation;
+
+// Ledger inserts from the reactive donation path, aggregation stays on DonationRepository
+@Repository
+public interface ReactiveDonationRepository extends ReactiveMongoRepository<Donation, String> {
+}
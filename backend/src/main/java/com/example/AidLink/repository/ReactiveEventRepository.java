@@ -0,0 +1,17 @@
+package com.example.AidLink.repository;
+
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+
+import com.example.models.Event;
+
+import reactor.core.publisher.Mono;
+
+// Non-blocking counterpart of EventRepository, used by the reactive deployment
+@Repository
+public interface ReactiveEventRepository extends ReactiveMongoRepository<Event, Integer>, ReactiveEventRepositoryCustom {
+    // Only the funding fields, for the donation path
+    @Query(value = "{ '_id': ?0 }", fields = "{ 'title': 1, 'fundingGoal': 1, 'currentFunding': 1 }")
+    Mono<Event> findFundingById(Integer id);
+}
@@ -0,0 +1,12 @@
+package com.example.AidLink.repository;
+
+import com.example.AidLink.dto.EventListQuery;
+import com.example.AidLink.dto.EventSummary;
+
+import reactor.core.publisher.Flux;
+
+// Operations that need ReactiveMongoTemplate instead of derived queries
+public interface ReactiveEventRepositoryCustom {
+    // One keyset page of the filtered, sorted listing, read as summaries
+    Flux<EventSummary> findPage(EventListQuery listQuery);
+}
@@ -0,0 +1,24 @@
+package com.example.AidLink.repository;
+
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+
+import com.example.AidLink.dto.EventListQuery;
+import com.example.AidLink.dto.EventSummary;
+import com.example.models.Event;
+
+import reactor.core.publisher.Flux;
+
+public class ReactiveEventRepositoryImpl implements ReactiveEventRepositoryCustom {
+    private final ReactiveMongoTemplate mongoTemplate;
+
+    public ReactiveEventRepositoryImpl(ReactiveMongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public Flux<EventSummary> findPage(EventListQuery listQuery) {
+        // Same filter, sort and projection as the blocking listing
+        return mongoTemplate.query(Event.class).as(EventSummary.class)
+                .matching(EventRepositoryImpl.pageQuery(listQuery)).all();
+    }
+}
@@ -3,7 +3,7 @@ package com.example.AidLink.repository;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import com.example.models.User;
 
-public interface UserRepository extends MongoRepository<User, String> {
+public interface UserRepository extends MongoRepository<User, String>, UserRepositoryCustom {
     User findByEmail(String email);
     User findByUsername(String username);
 }
@@ -0,0 +1,25 @@
+package com.example.AidLink.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import com.example.AidLink.dto.FundingState;
+
+// Operations that need MongoTemplate instead of derived queries
+public interface UserRepositoryCustom {
+    // Add one aggregator batch's per-user deltas in one unordered bulk write, skipping users it already reached
+    void applyDonationBatch(String batchId, Map<String, Integer> deltasByEmail);
+
+    // Stored donatedAmount of the given users, or of all users when null, for reconciling with the ledger
+    List<FundingState<String>> findDonationStates(Collection<String> emails);
+
+    // Stored donatedAmount of users whose baseline has not been captured yet
+    List<FundingState<String>> findDonationStatesWithoutBaseline();
+
+    // Set password only if it still holds expected, returns whether it was replaced
+    boolean replacePassword(String email, String expected, String replacement);
+
+    // Set donatedAmount and its baseline only while donatedAmount still holds expectedAmount
+    boolean replaceDonatedAmount(String email, Integer expectedAmount, int amount, int baseline);
+}
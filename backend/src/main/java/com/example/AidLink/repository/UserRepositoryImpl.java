@@ -0,0 +1,77 @@
+package com.example.AidLink.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.bson.Document;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import com.example.AidLink.dto.FundingState;
+import com.example.models.User;
+
+public class UserRepositoryImpl implements UserRepositoryCustom {
+    // Donations that did not come through the ledger, see DonationAggregator
+    private static final String DONATED_BASELINE = "donatedBaseline";
+    // Latest aggregator batches added to donatedAmount
+    private static final String APPLIED_BATCHES = "appliedBatches";
+
+    private final MongoTemplate mongoTemplate;
+
+    public UserRepositoryImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public void applyDonationBatch(String batchId, Map<String, Integer> deltasByEmail) {
+        if (deltasByEmail.isEmpty()) return;
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, User.class);
+        // Users that already carry this batch are skipped, so a retried or reclaimed batch is added once
+        deltasByEmail.forEach((email, delta) -> bulk.updateOne(
+                new Query(Criteria.where("email").is(email).and(APPLIED_BATCHES).ne(batchId)),
+                new Update().inc("donatedAmount", delta)
+                        .push(APPLIED_BATCHES).slice(-EventRepositoryImpl.APPLIED_BATCHES_KEPT).each(batchId)));
+        bulk.execute();
+    }
+
+    @Override
+    public List<FundingState<String>> findDonationStates(Collection<String> emails) {
+        return donationStates(emails == null ? new Query() : new Query(Criteria.where("email").in(emails)));
+    }
+
+    @Override
+    public List<FundingState<String>> findDonationStatesWithoutBaseline() {
+        return donationStates(new Query(Criteria.where(DONATED_BASELINE).is(null)));
+    }
+
+    @Override
+    public boolean replaceDonatedAmount(String email, Integer expectedAmount, int amount, int baseline) {
+        Query unchanged = new Query(Criteria.where("email").is(email).and("donatedAmount").is(expectedAmount));
+        Update update = new Update().set("donatedAmount", amount).set(DONATED_BASELINE, baseline);
+        return mongoTemplate.updateFirst(unchanged, update, User.class).getModifiedCount() == 1;
+    }
+
+    @Override
+    public boolean replacePassword(String email, String expected, String replacement) {
+        Query query = new Query(Criteria.where("email").is(email).and("password").is(expected));
+        return mongoTemplate.updateFirst(query, new Update().set("password", replacement), User.class).getModifiedCount() == 1;
+    }
+
+    private List<FundingState<String>> donationStates(Query query) {
+        query.fields().include("email", "donatedAmount", DONATED_BASELINE, APPLIED_BATCHES);
+        return mongoTemplate.find(query, Document.class, mongoTemplate.getCollectionName(User.class)).stream()
+                .filter(d -> d.getString("email") != null)
+                .map(d -> new FundingState<>(d.getString("email"), integerValue(d, "donatedAmount"),
+                        integerValue(d, DONATED_BASELINE), d.getList(APPLIED_BATCHES, String.class, List.of())))
+                .toList();
+    }
+
+    private static Integer integerValue(Document document, String field) {
+        Object value = document.get(field);
+        return value instanceof Number number ? number.intValue() : null;
+    }
+}
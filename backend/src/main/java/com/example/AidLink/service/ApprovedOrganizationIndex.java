@@ -0,0 +1,137 @@
+package com.example.AidLink.service;
+
+import com.example.AidLink.dto.OrganizationSummary;
+import com.example.AidLink.event.OrganizationChangedEvent;
+import com.example.AidLink.repository.EventOrganizationEntryRepository;
+import com.example.AidLink.repository.OrganizationRepository;
+import com.example.models.EventOrganizationEntry;
+import com.example.models.Organization;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+// Inverted index from eventId to the summaries of approved organizations registered for it,
+// so /organizations/approved-for-event/{eventId} is one keyed read instead of an array scan.
+// Entries are upserted by id, so instances building the index at the same time write the same rows.
+@Service
+public class ApprovedOrganizationIndex {
+	private static final Logger log = LoggerFactory.getLogger(ApprovedOrganizationIndex.class);
+
+	private static final int REBUILD_BATCH = 500;
+
+	private final EventOrganizationEntryRepository entryRepository;
+	private final OrganizationRepository organizationRepository;
+	// Serializes rebuilds with reindexing, so a rebuild never writes back an organization changed while it ran.
+	// Not synchronized, both are called from request threads which may be virtual.
+	private final ReentrantLock lock = new ReentrantLock();
+
+	public ApprovedOrganizationIndex(EventOrganizationEntryRepository entryRepository,
+			OrganizationRepository organizationRepository) {
+		this.entryRepository = entryRepository;
+		this.organizationRepository = organizationRepository;
+	}
+
+	public List<OrganizationSummary> findForEvent(Integer eventId) {
+		return entryRepository.findByEventId(eventId).stream()
+				.map(EventOrganizationEntry::getOrganization)
+				.toList();
+	}
+
+	@EventListener
+	public void onOrganizationChanged(OrganizationChangedEvent change) {
+		// Registering saves over an existing id, so an approved organization registered again is pending
+		// and its entries have to go like every other change
+		List<String> changed = change.allIds();
+		if (!changed.isEmpty()) reindex(changed);
+	}
+
+	// First start after deployment: build the index from existing organizations. Several instances starting
+	// together may all find it empty, their upserts overlap harmlessly and nothing is deleted.
+	@EventListener(ApplicationReadyEvent.class)
+	public void buildIfEmpty() {
+		if (entryRepository.count() > 0) return;
+		lock.lock();
+		try {
+			log.info("Built the approved organization index with {} entries", writeAll());
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	// Replace every entry of these organizations with their current state: one delete, one $in read
+	// and one bulk upsert however many organizations a review touched
+	public void reindex(Collection<String> organizationIds) {
+		lock.lock();
+		try {
+			entryRepository.deleteByOrganizationIdIn(organizationIds);
+			List<EventOrganizationEntry> entries = new ArrayList<>();
+			for (Organization org : organizationRepository.findByIdIn(organizationIds)) {
+				if (isApproved(org)) entries.addAll(entriesFor(org));
+			}
+			if (!entries.isEmpty()) entryRepository.upsertAll(entries);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	// Rewrite the whole index from the organizations collection, returns the number of entries written.
+	// The index stays readable throughout: entries are overwritten in place and only the ones left over
+	// from organizations no longer approved are deleted at the end.
+	public long rebuild() {
+		lock.lock();
+		try {
+			Instant started = Instant.now();
+			long written = writeAll();
+			long removed = entryRepository.deleteIndexedBefore(started);
+			log.info("Rebuilt the approved organization index with {} entries, removed {} stale", written, removed);
+			return written;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private long writeAll() {
+		long written = 0;
+		List<EventOrganizationEntry> batch = new ArrayList<>(REBUILD_BATCH);
+		try (Stream<Organization> approved = organizationRepository.streamByRegistrationStatus_ApprovalStatus("approved")) {
+			for (Organization org : (Iterable<Organization>) approved::iterator) {
+				batch.addAll(entriesFor(org));
+				if (batch.size() >= REBUILD_BATCH) {
+					entryRepository.upsertAll(batch);
+					written += batch.size();
+					batch.clear();
+				}
+			}
+		}
+		entryRepository.upsertAll(batch);
+		return written + batch.size();
+	}
+
+	private static boolean isApproved(Organization org) {
+		return org.getRegistrationStatus() != null && "approved".equals(org.getRegistrationStatus().getApprovalStatus());
+	}
+
+	private static List<EventOrganizationEntry> entriesFor(Organization org) {
+		if (org.getEventRegistrations() == null) return List.of();
+		Set<Integer> eventIds = new LinkedHashSet<>();
+		for (Organization.EventRegistration registration : org.getEventRegistrations()) {
+			if (registration.getEventId() != null) eventIds.add(registration.getEventId());
+		}
+		List<EventOrganizationEntry> entries = new ArrayList<>(eventIds.size());
+		for (Integer eventId : eventIds) {
+			entries.add(new EventOrganizationEntry(eventId, OrganizationSummary.forEvent(org, eventId)));
+		}
+		return entries;
+	}
+}
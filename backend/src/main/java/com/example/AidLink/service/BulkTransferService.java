@@ -0,0 +1,359 @@
+package com.example.AidLink.service;
+
+import com.example.AidLink.dto.BulkWriteFailure;
+import com.example.AidLink.dto.ImportError;
+import com.example.AidLink.dto.ImportReport;
+import com.example.AidLink.event.EventsImportedEvent;
+import com.example.AidLink.event.OrganizationChangedEvent;
+import com.example.AidLink.repository.EventRepository;
+import com.example.AidLink.repository.OrganizationRepository;
+import com.example.models.Event;
+import com.example.models.Organization;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+// Bulk import and export of events and organizations. Imports are parsed one record at a time and written
+// in unordered bulk batches, exports are written from a MongoDB cursor, so memory stays flat however large
+// the file or the collection is.
+@Service
+public class BulkTransferService {
+	private static final Logger log = LoggerFactory.getLogger(BulkTransferService.class);
+
+	private static final int DUPLICATE_KEY = 11000;
+
+	public enum Format { NDJSON, CSV }
+
+	private final EventRepository eventRepository;
+	private final OrganizationRepository organizationRepository;
+	private final EventIdAllocator eventIdAllocator;
+	private final ApplicationEventPublisher eventPublisher;
+	private final ObjectMapper objectMapper;
+	private final CsvMapper csvMapper = new CsvMapper();
+	private final int batchSize;
+	private final int maxReportedErrors;
+
+	public BulkTransferService(EventRepository eventRepository, OrganizationRepository organizationRepository,
+			EventIdAllocator eventIdAllocator, ApplicationEventPublisher eventPublisher, ObjectMapper objectMapper,
+			@Value("${aidlink.bulk.batch-size:500}") int batchSize,
+			@Value("${aidlink.bulk.max-reported-errors:1000}") int maxReportedErrors) {
+		this.eventRepository = eventRepository;
+		this.organizationRepository = organizationRepository;
+		this.eventIdAllocator = eventIdAllocator;
+		this.eventPublisher = eventPublisher;
+		this.objectMapper = objectMapper;
+		this.batchSize = batchSize;
+		this.maxReportedErrors = maxReportedErrors;
+	}
+
+	// New events only, a record whose id already exists is reported instead of overwriting the event.
+	// Records without an id get one from the allocator.
+	public ImportReport importEvents(InputStream in, Format format) throws IOException {
+		Tally tally = new Tally(maxReportedErrors);
+		Batch<Event> batch = new Batch<>(batchSize);
+		read(in, format, Event.class, EventCsv::toEvent, tally, (record, event) -> {
+			String problem = problemWith(event);
+			if (problem != null) {
+				tally.fail(record, problem);
+				return;
+			}
+			batch.add(record, event);
+			if (batch.isFull()) flushEvents(batch, tally);
+		});
+		flushEvents(batch, tally);
+		log.info("Imported {} of {} events", tally.imported, tally.received);
+		return tally.report();
+	}
+
+	// Replaces one register-organization call per organization. Imported organizations are pending like any
+	// registration, and may carry their event registrations instead of one register-event call each.
+	// Passwords are stored as given, the same as register-organization stores them.
+	public ImportReport importOrganizations(InputStream in) throws IOException {
+		Tally tally = new Tally(maxReportedErrors);
+		Batch<Organization> batch = new Batch<>(batchSize);
+		read(in, Format.NDJSON, Organization.class, null, tally, (record, org) -> {
+			String problem = problemWith(org);
+			if (problem != null) {
+				tally.fail(record, problem);
+				return;
+			}
+			batch.add(record, asRegistration(org));
+			if (batch.isFull()) flushOrganizations(batch, tally);
+		});
+		flushOrganizations(batch, tally);
+		log.info("Imported {} of {} organizations", tally.imported, tally.received);
+		return tally.report();
+	}
+
+	// Returns the number of events written
+	public long exportEvents(OutputStream out, Format format) throws IOException {
+		try (Stream<Event> events = eventRepository.streamAllBy()) {
+			if (format == Format.NDJSON) return writeNdjson(out, events);
+			CsvSchema schema = CsvSchema.builder().addColumns(EventCsv.COLUMNS, CsvSchema.ColumnType.STRING).build().withHeader();
+			long written = 0;
+			try (SequenceWriter rows = streaming(csvMapper.writer(schema)).writeValues(out)) {
+				for (Event event : (Iterable<Event>) events::iterator) {
+					rows.write(EventCsv.toRow(event));
+					written++;
+				}
+			}
+			return written;
+		}
+	}
+
+	// NDJSON only, organizations are nested documents. Passwords are left out.
+	public long exportOrganizations(OutputStream out) throws IOException {
+		try (Stream<Organization> orgs = organizationRepository.streamAllBy()) {
+			return writeNdjson(out, orgs.peek(org -> {
+				if (org.getOrganizationInfo() != null) org.getOrganizationInfo().setPassword(null);
+			}));
+		}
+	}
+
+	// Hands every parsed record to the consumer with its 1-based position. A record that can't be parsed
+	// is counted as failed and skipped, except broken CSV quoting, after which rows can't be told apart.
+	private <T> void read(InputStream in, Format format, Class<T> type, Function<Map<String, String>, T> fromCsv,
+			Tally tally, BiConsumer<Long, T> consumer) throws IOException {
+		if (format == Format.NDJSON) {
+			ObjectReader reader = objectMapper.readerFor(type);
+			BufferedReader lines = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+			long record = 0; // the line number, so errors point into the file
+			String line;
+			while ((line = lines.readLine()) != null) {
+				record++;
+				if (line.isBlank()) continue;
+				tally.received++;
+				T value;
+				try {
+					value = reader.readValue(line);
+				} catch (JsonProcessingException e) {
+					tally.fail(record, "not valid JSON: " + e.getOriginalMessage());
+					continue;
+				}
+				consumer.accept(record, value);
+			}
+			return;
+		}
+		if (fromCsv == null) throw new IllegalArgumentException(type.getSimpleName() + " can't be imported from CSV");
+		ObjectReader reader = csvMapper.readerForMapOf(String.class)
+				.with(CsvSchema.emptySchema().withHeader())
+				.with(CsvParser.Feature.SKIP_EMPTY_LINES)
+				.with(CsvParser.Feature.IGNORE_TRAILING_UNMAPPABLE);
+		try (MappingIterator<Map<String, String>> rows = reader.readValues(in)) {
+			long record = 0; // data rows, the header is not counted
+			while (true) {
+				Map<String, String> row;
+				try {
+					if (!rows.hasNextValue()) break;
+					row = rows.nextValue();
+				} catch (IOException e) {
+					tally.received++;
+					tally.fail(record + 1, "unreadable CSV, import stopped here: " + e.getMessage());
+					break;
+				}
+				record++;
+				tally.received++;
+				T value;
+				try {
+					value = fromCsv.apply(row);
+				} catch (IllegalArgumentException e) {
+					tally.fail(record, e.getMessage());
+					continue;
+				}
+				consumer.accept(record, value);
+			}
+		}
+	}
+
+	private void flushEvents(Batch<Event> batch, Tally tally) {
+		if (batch.items.isEmpty()) return;
+		Integer highestChosen = null;
+		int missing = 0;
+		for (Event event : batch.items) {
+			if (event.getId() == null) missing++;
+			else if (highestChosen == null || event.getId() > highestChosen) highestChosen = event.getId();
+		}
+		eventIdAllocator.observe(highestChosen);
+		// One counter round trip for the whole batch instead of one per block
+		if (missing > 0) {
+			int next = eventIdAllocator.reserve(missing);
+			for (Event event : batch.items) {
+				if (event.getId() == null) event.setId(next++);
+			}
+		}
+		for (Event event : batch.items) event.setFundingProgress(EventService.fundingProgressOf(event));
+
+		List<Event> inserted = written(batch, eventRepository.insertUnordered(batch.items), tally);
+		if (!inserted.isEmpty()) eventPublisher.publishEvent(new EventsImportedEvent(inserted));
+		batch.clear();
+	}
+
+	private void flushOrganizations(Batch<Organization> batch, Tally tally) {
+		if (batch.items.isEmpty()) return;
+		List<Organization> inserted = written(batch, organizationRepository.insertUnordered(batch.items), tally);
+		if (!inserted.isEmpty()) {
+			eventPublisher.publishEvent(new OrganizationChangedEvent(Map.of(OrganizationChangedEvent.Change.REGISTERED,
+					inserted.stream().map(Organization::getId).toList())));
+		}
+		batch.clear();
+	}
+
+	// Reports the rejected documents of a batch and returns the ones that were stored
+	private static <T> List<T> written(Batch<T> batch, List<BulkWriteFailure> failures, Tally tally) {
+		Set<Integer> failed = new HashSet<>();
+		for (BulkWriteFailure failure : failures) {
+			failed.add(failure.index());
+			tally.fail(batch.records.get(failure.index()),
+					failure.code() == DUPLICATE_KEY ? "id already exists" : failure.message());
+		}
+		List<T> stored = new ArrayList<>(batch.items.size() - failed.size());
+		for (int i = 0; i < batch.items.size(); i++) {
+			if (!failed.contains(i)) stored.add(batch.items.get(i));
+		}
+		tally.imported += stored.size();
+		return stored;
+	}
+
+	private long writeNdjson(OutputStream out, Stream<?> documents) throws IOException {
+		long written = 0;
+		try (SequenceWriter lines = streaming(objectMapper.writer().withRootValueSeparator("\n")).writeValues(out)) {
+			for (Object document : (Iterable<?>) documents::iterator) {
+				lines.write(document);
+				written++;
+			}
+		}
+		if (written > 0) out.write('\n');
+		out.flush();
+		return written;
+	}
+
+	// Let the generator's buffer decide when to write instead of flushing per record, and leave the
+	// response stream open for the caller
+	private static ObjectWriter streaming(ObjectWriter writer) {
+		return writer.without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+				.without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+	}
+
+	private static String problemWith(Event event) {
+		if (event == null) return "empty record";
+		if (event.getTitle() == null || event.getTitle().isBlank()) return "title is required";
+		if (event.getId() != null && event.getId() <= 0) return "id must be positive";
+		if (negative(event.getFundingGoal())) return "fundingGoal must not be negative";
+		if (negative(event.getCurrentFunding())) return "currentFunding must not be negative";
+		if (negative(event.getEstimatedAffectedPeople())) return "estimatedAffectedPeople must not be negative";
+		GeoJsonPoint point = event.getCoordinates();
+		if (point != null && (Math.abs(point.getY()) > 90 || Math.abs(point.getX()) > 180)) {
+			return "coordinates are out of range";
+		}
+		return null;
+	}
+
+	private static String problemWith(Organization org) {
+		if (org == null) return "empty record";
+		if (org.getId() == null || org.getId().isBlank()) return "id is required";
+		Organization.OrganizationInfo info = org.getOrganizationInfo();
+		if (info == null || info.getLegalName() == null || info.getLegalName().isBlank()) {
+			return "organizationInfo.legalName is required";
+		}
+		if (info.getEmail() == null || info.getEmail().isBlank()) return "organizationInfo.email is required";
+		if (org.getEventRegistrations() != null) {
+			for (Organization.EventRegistration registration : org.getEventRegistrations()) {
+				if (registration == null || registration.getEventId() == null) return "every event registration needs an eventId";
+			}
+		}
+		return null;
+	}
+
+	// Same state as register-organization and register-event would leave behind
+	private static Organization asRegistration(Organization org) {
+		if (org.getRegistrationStatus() == null) org.setRegistrationStatus(new Organization.RegistrationStatus());
+		org.getRegistrationStatus().setApprovalStatus("pending");
+		if (org.getEventRegistrations() != null) {
+			for (Organization.EventRegistration registration : org.getEventRegistrations()) {
+				if (registration.getStatus() == null) registration.setStatus("registered");
+			}
+		}
+		return org;
+	}
+
+	private static boolean negative(Integer value) {
+		return value != null && value < 0;
+	}
+
+	// The pending documents of a batch with the record each came from
+	private static final class Batch<T> {
+		private final int size;
+		private final List<T> items;
+		private final List<Long> records;
+
+		Batch(int size) {
+			this.size = size;
+			this.items = new ArrayList<>(size);
+			this.records = new ArrayList<>(size);
+		}
+
+		void add(long record, T item) {
+			items.add(item);
+			records.add(record);
+		}
+
+		boolean isFull() {
+			return items.size() >= size;
+		}
+
+		void clear() {
+			items.clear();
+			records.clear();
+		}
+	}
+
+	private static final class Tally {
+		private final int maxErrors;
+		private final List<ImportError> errors = new ArrayList<>();
+		private long received;
+		private long imported;
+		private long failed;
+
+		Tally(int maxErrors) {
+			this.maxErrors = maxErrors;
+		}
+
+		void fail(long record, String message) {
+			failed++;
+			if (errors.size() < maxErrors) errors.add(new ImportError(record, message));
+		}
+
+		ImportReport report() {
+			return new ImportReport(received, imported, failed, errors, failed > errors.size());
+		}
+	}
+}
@@ -0,0 +1,54 @@
+package com.example.AidLink.service;
+
+import com.example.AidLink.config.CacheConfig;
+import com.example.AidLink.event.EventChangedEvent;
+import com.example.AidLink.event.EventsImportedEvent;
+import com.example.AidLink.event.FundingChangedEvent;
+import com.example.AidLink.event.OrganizationChangedEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+// Evicts cached lookups when the write paths publish a change
+@Component
+public class CacheInvalidationListener {
+	private final CacheManager cacheManager;
+
+	public CacheInvalidationListener(CacheManager cacheManager) {
+		this.cacheManager = cacheManager;
+	}
+
+	// The listing caches ids, it only changes when an event is added
+	@EventListener
+	public void onEventChanged(EventChangedEvent change) {
+		cache(CacheConfig.EVENTS).evict(change.eventId());
+		if (change.previous() == null) cache(CacheConfig.EVENT_LIST).clear();
+	}
+
+	// Imported events are new, only listings can hold a stale view
+	@EventListener
+	public void onEventsImported(EventsImportedEvent imported) {
+		cache(CacheConfig.EVENT_LIST).clear();
+	}
+
+	@EventListener
+	public void onFundingChanged(FundingChangedEvent change) {
+		Cache events = cache(CacheConfig.EVENTS);
+		if (change.rebuilt()) {
+			events.clear();
+		} else {
+			change.deltasByEventId().keySet().forEach(events::evict);
+		}
+	}
+
+	@EventListener
+	public void onOrganizationChanged(OrganizationChangedEvent change) {
+		Cache organizations = cache(CacheConfig.ORGANIZATIONS);
+		change.allIds().forEach(organizations::evict);
+	}
+
+	private Cache cache(String name) {
+		return cacheManager.getCache(name);
+	}
+}
@@ -0,0 +1,211 @@
+package com.example.AidLink.service;
+
+import com.example.AidLink.dto.FundingState;
+import com.example.AidLink.dto.LedgerSum;
+import com.example.AidLink.event.FundingChangedEvent;
+import com.example.AidLink.repository.DonationRepository;
+import com.example.AidLink.repository.EventRepository;
+import com.example.AidLink.repository.UserRepository;
+import com.example.models.Donation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+// Folds pending ledger entries into Event.currentFunding and User.donatedAmount in batches.
+// Every update of a batch skips documents that already carry its id in appliedBatches, so a batch retried after
+// a failure, or taken over by another instance once its claim lease expired, is added exactly once.
+// A total is its baseline (what it held that never went through the ledger) plus the ledger entries that reached it.
+@Component
+public class DonationAggregator {
+	private static final Logger log = LoggerFactory.getLogger(DonationAggregator.class);
+
+	// Rounds of re-reading totals that changed under a rebuild before giving up on them
+	private static final int RECONCILE_ATTEMPTS = 5;
+
+	@FunctionalInterface
+	private interface Replace<K> {
+		boolean replace(K key, Integer expected, int total, int baseline);
+	}
+
+	private final DonationRepository donationRepository;
+	private final EventRepository eventRepository;
+	private final UserRepository userRepository;
+	private final ApplicationEventPublisher eventPublisher;
+	private final int batchSize;
+	private final long claimLeaseMs;
+	// rebuildTotals runs on request threads, a monitor held across MongoDB calls would pin a virtual thread
+	private final ReentrantLock lock = new ReentrantLock();
+
+	public DonationAggregator(DonationRepository donationRepository, EventRepository eventRepository,
+			UserRepository userRepository, ApplicationEventPublisher eventPublisher,
+			@Value("${aidlink.donations.aggregate-batch-size:500}") int batchSize,
+			@Value("${aidlink.donations.claim-lease-ms:60000}") long claimLeaseMs) {
+		this.donationRepository = donationRepository;
+		this.eventRepository = eventRepository;
+		this.userRepository = userRepository;
+		this.eventPublisher = eventPublisher;
+		this.batchSize = batchSize;
+		this.claimLeaseMs = claimLeaseMs;
+	}
+
+	@Scheduled(fixedDelayString = "${aidlink.donations.aggregate-interval-ms:1000}")
+	public void aggregatePending() {
+		lock.lock();
+		try {
+			reclaimExpired();
+			// Keep draining while full batches come back
+			int applied;
+			do {
+				applied = aggregateBatch();
+			} while (applied >= batchSize);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	// Claim one batch, apply its summed deltas with two bulk writes and mark it applied
+	public int aggregateBatch() {
+		lock.lock();
+		try {
+			String batchId = UUID.randomUUID().toString();
+			Instant claimedAt = Instant.now();
+			if (donationRepository.claimPending(batchId, claimedAt, batchSize) == 0) return 0;
+			return apply(batchId, claimedAt);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	// Finish batches left in "claimed" past the lease by an instance that crashed or stalled, returns how many
+	public int reclaimExpired() {
+		lock.lock();
+		try {
+			int reclaimed = 0;
+			while (true) {
+				Instant claimedAt = Instant.now();
+				Optional<String> batchId = donationRepository.reclaimExpired(claimedAt.minusMillis(claimLeaseMs), claimedAt);
+				if (batchId.isEmpty()) return reclaimed;
+				log.warn("Reclaimed donation batch {} after its claim lease expired", batchId.get());
+				apply(batchId.get(), claimedAt);
+				reclaimed++;
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	// Recompute every total as its baseline plus the ledger entries that reached it, e.g. after totals were
+	// edited by hand. Totals without a baseline yet can't be checked, they get one as in captureBaselines.
+	public void rebuildTotals() {
+		lock.lock();
+		try {
+			int events = reconcile(eventRepository.findFundingStates(null), null, donationRepository::sumByEvent,
+					eventRepository::findFundingStates, eventRepository::replaceFunding, true);
+			int users = reconcile(userRepository.findDonationStates(null), null, donationRepository::sumByUser,
+					userRepository::findDonationStates, userRepository::replaceDonatedAmount, true);
+			eventPublisher.publishEvent(new FundingChangedEvent(Map.of(), true));
+			log.info("Rebuilt totals from the donation ledger, corrected {} events and {} users", events, users);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	// Record a baseline for totals that have none: everything stored before the ledger existed, and totals
+	// changed outside it since. Later rebuilds add the ledger to it instead of starting from zero.
+	@EventListener(ApplicationReadyEvent.class)
+	public void captureBaselines() {
+		lock.lock();
+		try {
+			List<FundingState<Integer>> events = eventRepository.findFundingStatesWithoutBaseline();
+			List<FundingState<String>> users = userRepository.findDonationStatesWithoutBaseline();
+			if (events.isEmpty() && users.isEmpty()) return;
+			reconcile(events, keys(events), donationRepository::sumByEvent,
+					ids -> withoutBaseline(eventRepository.findFundingStates(ids)), eventRepository::replaceFunding, false);
+			reconcile(users, keys(users), donationRepository::sumByUser,
+					emails -> withoutBaseline(userRepository.findDonationStates(emails)), userRepository::replaceDonatedAmount, false);
+			log.info("Captured funding baselines of {} events and {} users", events.size(), users.size());
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private int apply(String batchId, Instant claimedAt) {
+		List<Donation> claimed = donationRepository.findByBatchId(batchId);
+		Map<Integer, Integer> byEvent = new HashMap<>();
+		Map<String, Integer> byUser = new HashMap<>();
+		for (Donation donation : claimed) {
+			byEvent.merge(donation.getEventId(), donation.getAmount(), Integer::sum);
+			if (donation.getUserEmail() != null) byUser.merge(donation.getUserEmail(), donation.getAmount(), Integer::sum);
+		}
+		// Past the lease another instance may take the batch over, leave it to that one rather than race it
+		if (Instant.now().isAfter(claimedAt.plusMillis(claimLeaseMs))) {
+			log.warn("Donation batch {} outlived its claim lease before it was applied", batchId);
+			return 0;
+		}
+		eventRepository.applyFundingBatch(batchId, byEvent);
+		userRepository.applyDonationBatch(batchId, byUser);
+		donationRepository.markApplied(batchId);
+		eventPublisher.publishEvent(new FundingChangedEvent(byEvent, false));
+		log.info("Applied {} donations across {} events", claimed.size(), byEvent.size());
+		return claimed.size();
+	}
+
+	// Bring each total in line with baseline + ledger (repair) or derive its baseline from the total (capture).
+	// A total is read before the ledger is summed, so a batch applied in between changes it and fails the
+	// guarded replace; those are read again and retried. Claimed batches only count where they already arrived.
+	private <K> int reconcile(List<FundingState<K>> states, Collection<K> scope,
+			Function<Collection<K>, Map<K, LedgerSum>> ledger, Function<Collection<K>, List<FundingState<K>>> reread,
+			Replace<K> replace, boolean repair) {
+		int changed = 0;
+		for (int attempt = 0; !states.isEmpty() && attempt < RECONCILE_ATTEMPTS; attempt++) {
+			Map<K, LedgerSum> sums = ledger.apply(attempt == 0 ? scope : keys(states));
+			List<K> conflicts = new ArrayList<>();
+			for (FundingState<K> state : states) {
+				long reached = sums.getOrDefault(state.key(), LedgerSum.NONE).reachedBy(state.appliedBatches());
+				int total;
+				int baseline;
+				if (repair && state.baseline() != null) {
+					baseline = state.baseline();
+					total = Math.toIntExact(baseline + reached);
+				} else {
+					total = state.totalOrZero();
+					baseline = Math.toIntExact(total - reached);
+				}
+				if (Objects.equals(state.total(), total) && Objects.equals(state.baseline(), baseline)) continue;
+				if (replace.replace(state.key(), state.total(), total, baseline)) {
+					if (!Objects.equals(state.total(), total)) changed++;
+				} else {
+					conflicts.add(state.key());
+				}
+			}
+			states = conflicts.isEmpty() ? List.of() : reread.apply(conflicts);
+		}
+		if (!states.isEmpty()) log.warn("{} totals kept changing while being reconciled, left as they are", states.size());
+		return changed;
+	}
+
+	private static <K> List<K> keys(List<FundingState<K>> states) {
+		return states.stream().map(FundingState::key).toList();
+	}
+
+	private static <K> List<FundingState<K>> withoutBaseline(List<FundingState<K>> states) {
+		return states.stream().filter(state -> state.baseline() == null).toList();
+	}
+}
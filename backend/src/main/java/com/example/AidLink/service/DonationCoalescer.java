@@ -0,0 +1,273 @@
+package com.example.AidLink.service;
+
+import com.example.AidLink.dto.BulkWriteFailure;
+import com.example.AidLink.repository.DonationRepository;
+import com.example.models.Donation;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Write-behind mode for flash crowds (aidlink.donations.mode=coalesced).
+// Donations are journaled locally, summed per (eventId, userEmail) in striped maps and flushed as one
+// bulk insert of pending ledger entries every flush interval or once flush-threshold donations are waiting.
+// DonationAggregator folds those entries into the totals, the same way as in ledger mode.
+@Component
+@ConditionalOnProperty(name = "aidlink.donations.mode", havingValue = "coalesced")
+public class DonationCoalescer {
+	private static final Logger log = LoggerFactory.getLogger(DonationCoalescer.class);
+
+	private static final int STRIPES = 32;
+	private static final int DUPLICATE_KEY = 11000;
+
+	private record Key(Integer eventId, String userEmail) {}
+
+	// One snapshot of the accumulator, tied to the journal segment holding the same donations
+	private record Batch(String segment, Map<Key, Integer> deltas, long donations) {}
+
+	private static final class Stripe {
+		private Map<Key, Integer> deltas = new HashMap<>();
+
+		synchronized void add(Key key, int amount) {
+			deltas.merge(key, amount, Integer::sum);
+		}
+
+		synchronized Map<Key, Integer> drain() {
+			Map<Key, Integer> drained = deltas;
+			deltas = new HashMap<>();
+			return drained;
+		}
+	}
+
+	private final DonationRepository donationRepository;
+	private final DonationJournal journal;
+	private final long flushIntervalMs;
+	private final int flushThreshold;
+
+	private final Stripe[] stripes = new Stripe[STRIPES];
+	// Accepting takes the read lock, taking a snapshot for a flush takes the write lock
+	private final ReentrantReadWriteLock snapshotLock = new ReentrantReadWriteLock();
+	private final Deque<Batch> unflushed = new ArrayDeque<>();
+	private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+		Thread t = new Thread(r, "donation-coalescer");
+		t.setDaemon(true);
+		return t;
+	});
+	private final AtomicBoolean flushRequested = new AtomicBoolean();
+
+	// Donations in the accumulator since the last snapshot
+	private final AtomicLong accumulated = new AtomicLong();
+
+	// Metrics
+	private final AtomicLong queueDepth = new AtomicLong();
+	private final AtomicLong flushes = new AtomicLong();
+	private final AtomicLong flushFailures = new AtomicLong();
+	private final AtomicLong donationsFlushed = new AtomicLong();
+	private final AtomicLong lastFlushSize = new AtomicLong();
+	private final AtomicLong lastFlushKeys = new AtomicLong();
+	private final AtomicLong lastFlushMillis = new AtomicLong();
+	private final AtomicLong maxFlushMillis = new AtomicLong();
+
+	public DonationCoalescer(DonationRepository donationRepository,
+			@Value("${aidlink.donations.coalescer.journal-dir:data/donation-journal}") String journalDir,
+			@Value("${aidlink.donations.coalescer.journal-fsync:true}") boolean journalFsync,
+			@Value("${aidlink.donations.coalescer.flush-interval-ms:20}") long flushIntervalMs,
+			@Value("${aidlink.donations.coalescer.flush-threshold:1000}") int flushThreshold) throws IOException {
+		this.donationRepository = donationRepository;
+		this.journal = new DonationJournal(Path.of(journalDir), journalFsync);
+		this.flushIntervalMs = flushIntervalMs;
+		this.flushThreshold = flushThreshold;
+		for (int i = 0; i < STRIPES; i++) {
+			stripes[i] = new Stripe();
+		}
+	}
+
+	@PostConstruct
+	public void start() throws IOException {
+		recover();
+		scheduler.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+	}
+
+	@PreDestroy
+	public void stop() throws Exception {
+		scheduler.shutdown();
+		scheduler.awaitTermination(5, TimeUnit.SECONDS);
+		flush();
+		journal.close();
+	}
+
+	// Journal the donation and add it to the accumulator. Once this returns the donation survives a crash.
+	// When it throws the donation is taken back out, so a client retrying it isn't counted twice.
+	public void accept(Integer eventId, String userEmail, int amount) throws IOException {
+		Key key = new Key(eventId, userEmail);
+		Stripe stripe = stripes[Math.floorMod(key.hashCode(), STRIPES)];
+		long waiting;
+		long position;
+		snapshotLock.readLock().lock();
+		try {
+			position = journal.write(eventId, userEmail, amount);
+			stripe.add(key, amount);
+			waiting = accumulated.incrementAndGet();
+			queueDepth.incrementAndGet();
+		} finally {
+			snapshotLock.readLock().unlock();
+		}
+		// Outside the snapshot lock, so a flush never waits behind an fsync and concurrent callers share one
+		try {
+			journal.sync(position);
+		} catch (IOException | RuntimeException e) {
+			withdraw(key, stripe, amount);
+			throw e;
+		}
+		if (waiting >= flushThreshold && flushRequested.compareAndSet(false, true)) {
+			scheduler.execute(this::flushQuietly);
+		}
+	}
+
+	// A flush may already have taken the amount into a batch, then the negative delta lands in the next one and
+	// the ledger nets out. The journal gets the same negative record, so a replay after a crash nets out too.
+	private void withdraw(Key key, Stripe stripe, int amount) {
+		snapshotLock.readLock().lock();
+		try {
+			stripe.add(key, -amount);
+			try {
+				journal.write(key.eventId(), key.userEmail(), -amount);
+			} catch (IOException e) {
+				log.error("Could not journal the withdrawal of an unacknowledged donation to event {}", key.eventId(), e);
+			}
+		} finally {
+			snapshotLock.readLock().unlock();
+		}
+	}
+
+	// Snapshot the accumulator and write every outstanding batch to MongoDB
+	public synchronized void flush() throws IOException {
+		flushRequested.set(false);
+		Batch batch = snapshot();
+		if (batch != null) unflushed.addLast(batch);
+		while (!unflushed.isEmpty()) {
+			Batch next = unflushed.peekFirst();
+			long start = System.nanoTime();
+			try {
+				write(next);
+			} catch (RuntimeException e) {
+				// Keep the batch and its segment, the next flush retries it
+				flushFailures.incrementAndGet();
+				log.warn("Donation flush failed, will retry: {}", e.toString());
+				return;
+			}
+			unflushed.removeFirst();
+			journal.delete(next.segment());
+			recordFlush(next, System.nanoTime() - start);
+		}
+	}
+
+	public Map<String, Object> stats() {
+		Map<String, Object> stats = new LinkedHashMap<>();
+		stats.put("queueDepth", queueDepth.get());
+		stats.put("journalSyncs", journal.syncs());
+		stats.put("unflushedBatches", unflushed.size());
+		stats.put("flushes", flushes.get());
+		stats.put("flushFailures", flushFailures.get());
+		stats.put("donationsFlushed", donationsFlushed.get());
+		stats.put("lastFlushSize", lastFlushSize.get());
+		stats.put("lastFlushKeys", lastFlushKeys.get());
+		stats.put("lastFlushMillis", lastFlushMillis.get());
+		stats.put("maxFlushMillis", maxFlushMillis.get());
+		return stats;
+	}
+
+	private void flushQuietly() {
+		try {
+			flush();
+		} catch (Exception e) {
+			flushFailures.incrementAndGet();
+			log.error("Donation flush error", e);
+		}
+	}
+
+	private Batch snapshot() throws IOException {
+		snapshotLock.writeLock().lock();
+		try {
+			String segment = journal.rotate();
+			if (segment == null) return null;
+			Map<Key, Integer> deltas = new HashMap<>();
+			for (Stripe stripe : stripes) {
+				stripe.drain().forEach((key, amount) -> deltas.merge(key, amount, Integer::sum));
+			}
+			return new Batch(segment, deltas, accumulated.getAndSet(0));
+		} finally {
+			snapshotLock.writeLock().unlock();
+		}
+	}
+
+	// One pending ledger entry per (eventId, userEmail). Ids are derived from the segment and the key, so
+	// writing a batch again (a retried flush, or a replay after a crash) inserts nothing twice.
+	private void write(Batch batch) {
+		List<Donation> entries = new ArrayList<>(batch.deltas().size());
+		for (Map.Entry<Key, Integer> delta : batch.deltas().entrySet()) {
+			// A donation and its withdrawal in the same batch
+			if (delta.getValue() == 0) continue;
+			Key key = delta.getKey();
+			Donation donation = new Donation(key.eventId(), key.userEmail(), delta.getValue());
+			donation.setId(batch.segment() + "/" + key.eventId() + "/" + key.userEmail());
+			entries.add(donation);
+		}
+		if (entries.isEmpty()) return;
+		for (BulkWriteFailure failure : donationRepository.insertUnordered(entries)) {
+			if (failure.code() != DUPLICATE_KEY) {
+				throw new IllegalStateException("Ledger insert failed for " + batch.segment() + ": " + failure.message());
+			}
+		}
+	}
+
+	// Replay segments a previous run accepted but did not flush. A segment whose entries were already
+	// written before the crash replays as duplicates and only its file is cleaned up.
+	private void recover() throws IOException {
+		for (String segment : journal.leftoverSegments()) {
+			Map<Key, Integer> deltas = new HashMap<>();
+			List<DonationJournal.Entry> entries = journal.read(segment);
+			for (DonationJournal.Entry entry : entries) {
+				deltas.merge(new Key(entry.eventId(), entry.userEmail()), entry.amount(), Integer::sum);
+			}
+			if (deltas.isEmpty()) {
+				journal.delete(segment);
+				continue;
+			}
+			unflushed.addLast(new Batch(segment, deltas, entries.size()));
+			queueDepth.addAndGet(entries.size());
+			log.info("Recovered {} donations from journal segment {}", entries.size(), segment);
+		}
+		flush();
+	}
+
+	private void recordFlush(Batch batch, long nanos) {
+		long millis = TimeUnit.NANOSECONDS.toMillis(nanos);
+		flushes.incrementAndGet();
+		queueDepth.addAndGet(-batch.donations());
+		donationsFlushed.addAndGet(batch.donations());
+		lastFlushSize.set(batch.donations());
+		lastFlushKeys.set(batch.deltas().size());
+		lastFlushMillis.set(millis);
+		maxFlushMillis.accumulateAndGet(millis, Math::max);
+	}
+}
@@ -0,0 +1,191 @@
+package com.example.AidLink.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+// Local append-only journal for donations accepted by DonationCoalescer but not yet flushed to MongoDB.
+// Each flush rotates to a new segment file, a segment is deleted once its donations are in the database.
+// Appends are group-committed: callers that wrote while an fsync was running are covered together by the next one.
+// Each line is one JSON object, so an email can't break the framing, and a line that doesn't parse or hold a
+// valid entry is a torn write from a crash and is skipped.
+public class DonationJournal implements Closeable {
+	private static final Logger log = LoggerFactory.getLogger(DonationJournal.class);
+	private static final String SUFFIX = ".journal";
+	private static final ObjectMapper MAPPER = new ObjectMapper();
+
+	// A negative amount takes back an earlier entry that was never acknowledged
+	public record Entry(Integer eventId, String userEmail, int amount) {
+		boolean isValid() {
+			return eventId != null && eventId > 0 && userEmail != null && !userEmail.isBlank() && amount != 0;
+		}
+	}
+
+	private final Path directory;
+	private final boolean fsync;
+	// Locks rather than synchronized, so virtual threads waiting on fsync don't pin their carriers.
+	// lock guards writes and the current segment, syncLock lets one fsync run at a time; taken before lock.
+	private final ReentrantLock lock = new ReentrantLock();
+	private final ReentrantLock syncLock = new ReentrantLock();
+	private FileChannel channel;
+	private String segment;
+	// Lines written so far, and how many of them are known to be on disk
+	private long appended;
+	private volatile long durable;
+	private final AtomicLong syncs = new AtomicLong();
+
+	public DonationJournal(Path directory, boolean fsync) throws IOException {
+		this.directory = directory;
+		this.fsync = fsync;
+		Files.createDirectories(directory);
+	}
+
+	// Segments left behind by a previous run, oldest first. Call before the first append.
+	public List<String> leftoverSegments() throws IOException {
+		try (Stream<Path> files = Files.list(directory)) {
+			return files.map(p -> p.getFileName().toString())
+					.filter(name -> name.endsWith(SUFFIX))
+					.map(name -> name.substring(0, name.length() - SUFFIX.length()))
+					.sorted()
+					.toList();
+		}
+	}
+
+	public List<Entry> read(String segmentName) throws IOException {
+		List<Entry> entries = new ArrayList<>();
+		for (String line : Files.readAllLines(pathOf(segmentName), StandardCharsets.UTF_8)) {
+			if (line.isBlank()) continue;
+			Entry entry;
+			try {
+				entry = MAPPER.readValue(line, Entry.class);
+			} catch (JsonProcessingException e) {
+				entry = null;
+			}
+			// A torn line from a crash mid-write was never acknowledged
+			if (entry == null || !entry.isValid()) {
+				log.warn("Skipping a torn record in donation journal segment {}", segmentName);
+				continue;
+			}
+			entries.add(entry);
+		}
+		return entries;
+	}
+
+	// Durably record one donation before it is acknowledged to the caller
+	public void append(Integer eventId, String userEmail, int amount) throws IOException {
+		sync(write(eventId, userEmail, amount));
+	}
+
+	// Write one donation without waiting for the disk, returns the position to pass to sync
+	public long write(Integer eventId, String userEmail, int amount) throws IOException {
+		// Strings are escaped, a newline in the email stays inside its record
+		ByteBuffer line = ByteBuffer.wrap((MAPPER.writeValueAsString(new Entry(eventId, userEmail, amount)) + "\n")
+				.getBytes(StandardCharsets.UTF_8));
+		lock.lock();
+		try {
+			if (channel == null) open();
+			while (line.hasRemaining()) {
+				channel.write(line);
+			}
+			return ++appended;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	// Wait until everything written up to position is on disk. The caller that gets the sync lock forces
+	// all lines written so far, the ones queued behind it usually find their position already covered.
+	public void sync(long position) throws IOException {
+		if (!fsync || durable >= position) return;
+		syncLock.lock();
+		try {
+			if (durable >= position) return;
+			FileChannel target;
+			long upTo;
+			lock.lock();
+			try {
+				target = channel;
+				upTo = appended;
+			} finally {
+				lock.unlock();
+			}
+			// Writers keep appending while this runs, rotation waits for it on syncLock
+			if (target != null) target.force(false);
+			syncs.incrementAndGet();
+			durable = upTo;
+		} finally {
+			syncLock.unlock();
+		}
+	}
+
+	// Number of fsyncs issued, against the number of appends this shows how well they were grouped
+	public long syncs() {
+		return syncs.get();
+	}
+
+	// Close the current segment and return its name, or null if nothing was written to it
+	public String rotate() throws IOException {
+		syncLock.lock();
+		lock.lock();
+		try {
+			if (channel == null) return null;
+			String closed = segment;
+			closeChannel();
+			segment = null;
+			return closed;
+		} finally {
+			lock.unlock();
+			syncLock.unlock();
+		}
+	}
+
+	public void delete(String segmentName) throws IOException {
+		Files.deleteIfExists(pathOf(segmentName));
+	}
+
+	@Override
+	public void close() throws IOException {
+		syncLock.lock();
+		lock.lock();
+		try {
+			if (channel != null) closeChannel();
+		} finally {
+			lock.unlock();
+			syncLock.unlock();
+		}
+	}
+
+	// Callers waiting in sync for lines of this segment find them durable once it is closed
+	private void closeChannel() throws IOException {
+		if (fsync) channel.force(false);
+		channel.close();
+		channel = null;
+		durable = appended;
+	}
+
+	private void open() throws IOException {
+		// Time prefix keeps segments ordered, the random part keeps names unique across instances
+		segment = String.format("%013d-%s", System.currentTimeMillis(), UUID.randomUUID().toString().substring(0, 8));
+		channel = FileChannel.open(pathOf(segment), StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+	}
+
+	private Path pathOf(String segmentName) {
+		return directory.resolve(segmentName + SUFFIX);
+	}
+}
@@ -0,0 +1,48 @@
+package com.example.AidLink.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// Donation throughput and failures, shared by the servlet and reactive donation paths.
+// aidlink.donations{outcome} counts requests, rate() of the recorded outcome is the throughput.
+@Component
+public class DonationMetrics {
+	private final Counter recorded;
+	private final Counter eventNotFound;
+	private final Counter failed;
+	private final DistributionSummary amounts;
+
+	public DonationMetrics(MeterRegistry registry, @Value("${aidlink.donations.mode:ledger}") String mode) {
+		this.recorded = outcome(registry, mode, "recorded");
+		this.eventNotFound = outcome(registry, mode, "event_not_found");
+		this.failed = outcome(registry, mode, "failed");
+		this.amounts = DistributionSummary.builder("aidlink.donations.amount")
+				.description("Amount of each recorded donation")
+				.tag("mode", mode)
+				.register(registry);
+	}
+
+	public void recorded(int amount) {
+		recorded.increment();
+		amounts.record(amount);
+	}
+
+	public void eventNotFound() {
+		eventNotFound.increment();
+	}
+
+	public void failed() {
+		failed.increment();
+	}
+
+	private static Counter outcome(MeterRegistry registry, String mode, String outcome) {
+		return Counter.builder("aidlink.donations")
+				.description("Donation requests by outcome")
+				.tag("mode", mode)
+				.tag("outcome", outcome)
+				.register(registry);
+	}
+}
@@ -0,0 +1,72 @@
+package com.example.AidLink.service;
+
+import com.example.AidLink.repository.DonationRepository;
+import com.example.AidLink.repository.EventRepository;
+import com.example.models.Donation;
+import com.example.models.Event;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.util.Optional;
+
+@Service
+public class DonationService {
+	// Logged on every donation, sampled by aidlink.logging.donation-sample-rate
+	public static final String LOG_CATEGORY = "aidlink.donations";
+	private static final Logger donationLog = LoggerFactory.getLogger(LOG_CATEGORY);
+
+	private final DonationRepository donationRepository;
+	private final EventRepository eventRepository;
+	// Present only when aidlink.donations.mode=coalesced
+	private final Optional<DonationCoalescer> coalescer;
+	private final DonationMetrics metrics;
+
+	public DonationService(DonationRepository donationRepository, EventRepository eventRepository,
+			Optional<DonationCoalescer> coalescer, DonationMetrics metrics) {
+		this.donationRepository = donationRepository;
+		this.eventRepository = eventRepository;
+		this.coalescer = coalescer;
+		this.metrics = metrics;
+	}
+
+	// Record a donation in the ledger. The event and user totals are updated later by DonationAggregator,
+	// so the hot event document is never written on the request path.
+	// Returns the event with the donation included in currentFunding, or null if the event does not exist.
+	public Event recordDonation(Integer eventId, int amount, String userEmail) throws IOException {
+		Event event;
+		try {
+			event = record(eventId, amount, userEmail);
+		} catch (IOException | RuntimeException e) {
+			metrics.failed();
+			throw e;
+		}
+		if (event == null) {
+			metrics.eventNotFound();
+			donationLog.info("Donation to unknown event {}", eventId);
+		} else {
+			metrics.recorded(amount);
+			donationLog.info("Donation recorded for event {}: amount={} expectedFunding={}", eventId, amount,
+					event.getCurrentFunding());
+		}
+		return event;
+	}
+
+	private Event record(Integer eventId, int amount, String userEmail) throws IOException {
+		Optional<Event> eventOptional = eventRepository.findFundingById(eventId);
+		if (eventOptional.isEmpty()) return null;
+		if (coalescer.isPresent()) {
+			// Journaled locally and written in the next bulk flush
+			coalescer.get().accept(eventId, userEmail, amount);
+		} else {
+			donationRepository.insert(new Donation(eventId, userEmail, amount));
+		}
+
+		// Totals catch up asynchronously, report what this donor will see once the ledger is folded in
+		Event event = eventOptional.get();
+		int currentFunding = event.getCurrentFunding() == null ? 0 : event.getCurrentFunding();
+		event.setCurrentFunding(currentFunding + amount);
+		return event;
+	}
+}
@@ -0,0 +1,96 @@
+package com.example.AidLink.service;
+
+import com.example.models.Event;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+
+import java.util.List;
+import java.util.Map;
+
+// Flat CSV layout of an event for bulk import and export. Coordinates are split into latitude and
+// longitude columns, fundingProgress is derived and not part of the file.
+final class EventCsv {
+	static final List<String> COLUMNS = List.of("id", "title", "description", "category", "ongoing",
+			"estimatedAffectedPeople", "severity", "location", "startDate", "endDate", "coverImage", "urgencyLevel",
+			"fundingGoal", "currentFunding", "latitude", "longitude");
+
+	private EventCsv() {
+	}
+
+	// Throws IllegalArgumentException naming the first column that can't be read
+	static Event toEvent(Map<String, String> row) {
+		Event event = new Event();
+		event.setId(integer(row, "id"));
+		event.setTitle(text(row, "title"));
+		event.setDescription(text(row, "description"));
+		event.setCategory(text(row, "category"));
+		event.setOngoing(bool(row, "ongoing"));
+		event.setEstimatedAffectedPeople(integer(row, "estimatedAffectedPeople"));
+		event.setSeverity(text(row, "severity"));
+		event.setLocation(text(row, "location"));
+		event.setStartDate(text(row, "startDate"));
+		event.setEndDate(text(row, "endDate"));
+		event.setCoverImage(text(row, "coverImage"));
+		event.setUrgencyLevel(text(row, "urgencyLevel"));
+		event.setFundingGoal(integer(row, "fundingGoal"));
+		event.setCurrentFunding(integer(row, "currentFunding"));
+		Double latitude = decimal(row, "latitude");
+		Double longitude = decimal(row, "longitude");
+		if ((latitude == null) != (longitude == null)) {
+			throw new IllegalArgumentException("latitude and longitude must be given together");
+		}
+		if (latitude != null) event.setCoordinates(new GeoJsonPoint(longitude, latitude));
+		return event;
+	}
+
+	// Values in COLUMNS order, empty for missing fields
+	static String[] toRow(Event event) {
+		GeoJsonPoint point = event.getCoordinates();
+		return new String[] {
+				string(event.getId()), string(event.getTitle()), string(event.getDescription()),
+				string(event.getCategory()), String.valueOf(event.isOngoing()),
+				string(event.getEstimatedAffectedPeople()), string(event.getSeverity()), string(event.getLocation()),
+				string(event.getStartDate()), string(event.getEndDate()), string(event.getCoverImage()),
+				string(event.getUrgencyLevel()), string(event.getFundingGoal()), string(event.getCurrentFunding()),
+				point == null ? "" : String.valueOf(point.getY()), point == null ? "" : String.valueOf(point.getX())
+		};
+	}
+
+	private static String text(Map<String, String> row, String column) {
+		String value = row.get(column);
+		return value == null || value.isBlank() ? null : value.trim();
+	}
+
+	private static Integer integer(Map<String, String> row, String column) {
+		String value = text(row, column);
+		if (value == null) return null;
+		try {
+			return Integer.valueOf(value);
+		} catch (NumberFormatException e) {
+			throw new IllegalArgumentException(column + " is not a whole number: " + value);
+		}
+	}
+
+	private static Double decimal(Map<String, String> row, String column) {
+		String value = text(row, column);
+		if (value == null) return null;
+		try {
+			return Double.valueOf(value);
+		} catch (NumberFormatException e) {
+			throw new IllegalArgumentException(column + " is not a number: " + value);
+		}
+	}
+
+	private static boolean bool(Map<String, String> row, String column) {
+		String value = text(row, column);
+		if (value == null) return false;
+		return switch (value.toLowerCase()) {
+			case "true", "yes", "1" -> true;
+			case "false", "no", "0" -> false;
+			default -> throw new IllegalArgumentException(column + " is not true or false: " + value);
+		};
+	}
+
+	private static String string(Object value) {
+		return value == null ? "" : value.toString();
+	}
+}
@@ -0,0 +1,82 @@
+package com.example.AidLink.service;
+
+import com.example.AidLink.repository.CounterRepository;
+import com.example.AidLink.repository.EventRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+// Hands out event ids from the "events" counter document. Each instance reserves a block of ids with a
+// single atomic $inc and serves them from memory, so several instances never hand out the same id.
+// Ids are unique and increasing per instance, but may have gaps when an instance stops mid-block.
+@Component
+public class EventIdAllocator {
+	private static final String COUNTER = "events";
+
+	private final CounterRepository counterRepository;
+	private final EventRepository eventRepository;
+	private final int blockSize;
+	// Not synchronized: a virtual thread blocking on MongoDB inside a monitor would pin its carrier
+	private final ReentrantLock lock = new ReentrantLock();
+
+	private boolean seeded;
+	private long next;
+	private long blockEnd; // last id of the current block, inclusive
+
+	public EventIdAllocator(CounterRepository counterRepository, EventRepository eventRepository,
+			@Value("${aidlink.events.id-block-size:20}") int blockSize) {
+		this.counterRepository = counterRepository;
+		this.eventRepository = eventRepository;
+		this.blockSize = blockSize;
+	}
+
+	public int nextId() {
+		lock.lock();
+		try {
+			if (next == 0 || next > blockEnd) {
+				if (!seeded) seed();
+				blockEnd = counterRepository.incrementAndGet(COUNTER, blockSize);
+				next = blockEnd - blockSize + 1;
+			}
+			return Math.toIntExact(next++);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	// Reserve count consecutive ids straight from the counter for a bulk import, returns the first.
+	// The cached block is left alone, it stays unique since the counter has moved past it.
+	public int reserve(int count) {
+		lock.lock();
+		try {
+			if (!seeded) seed();
+			long last = counterRepository.incrementAndGet(COUNTER, count);
+			return Math.toIntExact(last - count + 1);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	// Keep the counter ahead of ids that were chosen by the client
+	public void observe(Integer id) {
+		if (id == null) return;
+		lock.lock();
+		try {
+			counterRepository.raiseTo(COUNTER, id);
+			// Drop the cached block if the client took an id from it
+			if (id >= next && id <= blockEnd) next = 0;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	// Start the counter above events created before it existed
+	private void seed() {
+		int maxId = eventRepository.findTopByOrderByIdDesc()
+				.map(e -> e.getId() == null ? 0 : e.getId())
+				.orElse(0);
+		counterRepository.raiseTo(COUNTER, maxId);
+		seeded = true;
+	}
+}
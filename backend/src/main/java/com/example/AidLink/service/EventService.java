@@ -1,89 +1,107 @@
 package com.example.AidLink.service;
 
+import com.example.AidLink.config.CacheConfig;
+import com.example.AidLink.dto.EventListQuery;
+import com.example.AidLink.dto.EventPage;
+import com.example.AidLink.event.EventChangedEvent;
 import com.example.AidLink.repository.EventRepository;
-import com.example.AidLink.repository.UserRepository;
-import com.example.models.User;
 import com.example.models.Event;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 
 @Service
 public class EventService {
+	private static final Logger log = LoggerFactory.getLogger(EventService.class);
+
 	private final EventRepository eventRepository;
-	private final UserRepository userRepository;
+	private final EventIdAllocator eventIdAllocator;
+	private final ApplicationEventPublisher eventPublisher;
+	private final CacheManager cacheManager;
 
-	public EventService(EventRepository eventRepository, UserRepository userRepository) {
+	public EventService(EventRepository eventRepository, EventIdAllocator eventIdAllocator,
+			ApplicationEventPublisher eventPublisher, CacheManager cacheManager) {
 		this.eventRepository = eventRepository;
-		this.userRepository = userRepository;
+		this.eventIdAllocator = eventIdAllocator;
+		this.eventPublisher = eventPublisher;
+		this.cacheManager = cacheManager;
+	}
+
+	public Event addEvent(Event event) {
+		// If id is null, take the next id from the sequence allocator
+		event.setFundingProgress(fundingProgressOf(event));
+		if (event.getId() == null) {
+			event.setId(eventIdAllocator.nextId());
+			// A fresh id can't exist yet, insert fails loudly instead of overwriting
+			Event inserted = eventRepository.insert(event);
+			eventPublisher.publishEvent(new EventChangedEvent(inserted.getId(), null, inserted));
+			return inserted;
+		}
+		eventIdAllocator.observe(event.getId());
+		// The replaced version is passed on so listeners can adjust running totals
+		Event previous = eventRepository.findById(event.getId()).orElse(null);
+		Event saved = eventRepository.save(event);
+		eventPublisher.publishEvent(new EventChangedEvent(saved.getId(), previous, saved));
+		return saved;
 	}
-	// Update both event funding and user's donatedAmount
-	public Event updateEventFundingAndUserDonation(Integer eventId, int donationAmount, String userEmail) {
-		System.out.println("EventService: Updating event funding for event ID: " + eventId + " with amount: " + donationAmount);
-		Optional<Event> eventOptional = eventRepository.findById(eventId);
-		if (eventOptional.isPresent()) {
-			Event event = eventOptional.get();
-			int newCurrentFunding = event.getCurrentFunding() + donationAmount;
-			event.setCurrentFunding(newCurrentFunding);
-			eventRepository.save(event);
 
-			// Update user's donatedAmount
-			User user = userRepository.findByEmail(userEmail);
-			if (user != null) {
-				int newDonatedAmount = user.getDonatedAmount() + donationAmount;
-				user.setDonatedAmount(newDonatedAmount);
-				userRepository.save(user);
-				System.out.println("User " + userEmail + " donated. New donatedAmount: " + newDonatedAmount);
+	// The listing cache holds only the ids, the events themselves come from the per-event cache.
+	// A donation evicts the one event it changed, the others stay cached and only that one is read again.
+	public List<Event> getAllEvents() {
+		List<Integer> ids = cacheManager.getCache(CacheConfig.EVENT_LIST).get("ids", eventRepository::findAllIds);
+		Cache cached = cacheManager.getCache(CacheConfig.EVENTS);
+		Map<Integer, Event> events = new HashMap<>();
+		List<Integer> missing = new ArrayList<>();
+		for (Integer id : ids) {
+			Event event = cached.get(id, Event.class);
+			if (event != null) {
+				events.put(id, event);
 			} else {
-				System.out.println("User not found with email: " + userEmail);
+				missing.add(id);
 			}
-			return event;
-		} else {
-			System.out.println("EventService: Event not found with ID: " + eventId);
 		}
-		return null;
+		if (!missing.isEmpty()) {
+			for (Event event : eventRepository.findAllById(missing)) {
+				cached.put(event.getId(), event);
+				events.put(event.getId(), event);
+			}
+		}
+		return ids.stream().map(events::get).filter(Objects::nonNull).toList();
 	}
 
-	public Event addEvent(Event event) {
-		// If id is null, generate a new unique integer id
-		if (event.getId() == null) {
-			List<Event> allEvents = eventRepository.findAll();
-			int maxId = allEvents.stream()
-				.map(e -> e.getId() == null ? 0 : e.getId())
-				.max(Integer::compareTo)
-				.orElse(0);
-			event.setId(maxId + 1);
-		}
-		return eventRepository.save(event);
+	// Keyset-paginated listing. Fetches one extra event to know whether another page exists.
+	public EventPage listEvents(EventListQuery query) {
+		return EventPage.of(eventRepository.findPage(query.probe()), query);
 	}
 
-	public List<Event> getAllEvents() {
-		return eventRepository.findAll();
+	// Events stored before fundingProgress existed can't be sorted by it until it is computed
+	@EventListener(ApplicationReadyEvent.class)
+	public void backfillFundingProgress() {
+		long updated = eventRepository.backfillFundingProgress();
+		if (updated > 0) log.info("Computed fundingProgress for {} events", updated);
 	}
 
+	@Cacheable(cacheNames = CacheConfig.EVENTS, key = "#id", unless = "#result == null")
 	public Optional<Event> getEventById(Integer id) {
 		return eventRepository.findById(id);
 	}
-	
-	public Event updateEventFunding(Integer eventId, int donationAmount) {
-		System.out.println("EventService: Updating event funding for event ID: " + eventId + " with amount: " + donationAmount);
-		
-		Optional<Event> eventOptional = eventRepository.findById(eventId);
-		if (eventOptional.isPresent()) {
-			Event event = eventOptional.get();
-			System.out.println("EventService: Found event: " + event.getId() + " - " + event.getTitle());
-			System.out.println("EventService: Current funding: " + event.getCurrentFunding() + ", Funding goal: " + event.getFundingGoal());
-			
-			// Add the donation amount to the current funding
-			int newCurrentFunding = event.getCurrentFunding() + donationAmount;
-			event.setCurrentFunding(newCurrentFunding);
-			
-			System.out.println("EventService: New funding amount: " + newCurrentFunding);
-			return eventRepository.save(event);
-		} else {
-			System.out.println("EventService: Event not found with ID: " + eventId);
-		}
-		return null;
+
+	static Double fundingProgressOf(Event event) {
+		if (event.getFundingGoal() == null || event.getFundingGoal() <= 0) return 0.0;
+		int current = event.getCurrentFunding() == null ? 0 : event.getCurrentFunding();
+		return (double) current / event.getFundingGoal();
 	}
 }
@@ -0,0 +1,233 @@
+package com.example.AidLink.service;
+
+import com.example.AidLink.dto.NearbyFieldOffice;
+import com.example.AidLink.event.OrganizationChangedEvent;
+import com.example.AidLink.repository.OrganizationRepository;
+import com.example.models.Organization;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+// Field offices and headquarters of approved organizations, bucketed in memory by a fixed latitude/longitude
+// grid. A radius query only visits the cells overlapping its bounding box, and the radius is capped, so the
+// work per query stays bounded however many organizations there are. Kept current from organization changes.
+@Service
+public class FieldOfficeGrid {
+	private static final Logger log = LoggerFactory.getLogger(FieldOfficeGrid.class);
+
+	private static final double EARTH_RADIUS_KM = 6371.0;
+	private static final double KM_PER_DEGREE = Math.PI * EARTH_RADIUS_KM / 180;
+
+	private record Office(String organizationId, String organizationName, String officeName, String address,
+			boolean headquarters, double latitude, double longitude) {
+	}
+
+	private final OrganizationRepository organizationRepository;
+	private final double cellDegrees;
+	private final double maxRadiusKm;
+	private final int columns;
+	// Replaced as a whole by rebuild(), so queries never see a half-built grid
+	private volatile Map<Long, Set<Office>> cells = new ConcurrentHashMap<>();
+	private volatile Map<String, List<Office>> officesByOrganization = new ConcurrentHashMap<>();
+	private final ReentrantLock writeLock = new ReentrantLock();
+
+	public FieldOfficeGrid(OrganizationRepository organizationRepository,
+			@Value("${aidlink.geo.cell-degrees:0.5}") double cellDegrees,
+			@Value("${aidlink.geo.max-radius-km:500}") double maxRadiusKm) {
+		this.organizationRepository = organizationRepository;
+		this.cellDegrees = cellDegrees;
+		this.maxRadiusKm = maxRadiusKm;
+		this.columns = (int) Math.ceil(360 / cellDegrees);
+	}
+
+	public double maxRadiusKm() {
+		return maxRadiusKm;
+	}
+
+	// Offices within radiusKm (capped at maxRadiusKm) of the point, nearest first
+	public List<NearbyFieldOffice> near(double latitude, double longitude, double radiusKm, int limit) {
+		double radius = Math.min(radiusKm, maxRadiusKm);
+		double latSpan = radius / KM_PER_DEGREE;
+		double lngSpan = radius / (KM_PER_DEGREE * Math.max(Math.cos(Math.toRadians(latitude)), 0.01));
+
+		int firstRow = row(Math.max(latitude - latSpan, -90));
+		int lastRow = row(Math.min(latitude + latSpan, 90));
+		int firstColumn = column(longitude - lngSpan);
+		int lastColumn = column(longitude + lngSpan);
+		// Near a pole every longitude is close, scan whole rows
+		boolean reachesPole = latitude + latSpan >= 90 || latitude - latSpan <= -90;
+		if (reachesPole || lngSpan >= 180 || lastColumn - firstColumn + 1 >= columns) {
+			firstColumn = 0;
+			lastColumn = columns - 1;
+		}
+
+		Map<Long, Set<Office>> cells = this.cells;
+		List<NearbyFieldOffice> found = new ArrayList<>();
+		for (int row = firstRow; row <= lastRow; row++) {
+			for (int column = firstColumn; column <= lastColumn; column++) {
+				Set<Office> cell = cells.get(key(row, Math.floorMod(column, columns)));
+				if (cell == null) continue;
+				for (Office office : cell) {
+					double distance = distanceKm(latitude, longitude, office.latitude(), office.longitude());
+					if (distance <= radius) {
+						found.add(new NearbyFieldOffice(office.organizationId(), office.organizationName(),
+								office.officeName(), office.address(), office.headquarters(),
+								office.latitude(), office.longitude(), distance));
+					}
+				}
+			}
+		}
+		found.sort(Comparator.comparingDouble(NearbyFieldOffice::distanceKm));
+		return found.size() > limit ? found.subList(0, limit) : found;
+	}
+
+	// Pending registrations are not placed, and one saved over an approved organization takes its offices
+	// off the grid. Event registrations don't move offices.
+	@EventListener
+	public void onOrganizationChanged(OrganizationChangedEvent change) {
+		List<String> approved = change.ids(OrganizationChangedEvent.Change.APPROVED);
+		List<String> rejected = change.ids(OrganizationChangedEvent.Change.REJECTED);
+		List<String> registered = change.ids(OrganizationChangedEvent.Change.REGISTERED);
+		if (approved.isEmpty() && rejected.isEmpty() && registered.isEmpty()) return;
+		List<Organization> reloaded = approved.isEmpty() ? List.of() : organizationRepository.findByIdIn(approved);
+		writeLock.lock();
+		try {
+			reloaded.forEach(this::index);
+			rejected.forEach(this::remove);
+			registered.forEach(this::remove);
+		} finally {
+			writeLock.unlock();
+		}
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void buildOnStartup() {
+		rebuild();
+	}
+
+	// Reload every approved organization from MongoDB, returns the number of offices placed
+	public long rebuild() {
+		writeLock.lock();
+		try {
+			Map<Long, Set<Office>> newCells = new ConcurrentHashMap<>();
+			Map<String, List<Office>> newOffices = new ConcurrentHashMap<>();
+			try (Stream<Organization> approved = organizationRepository.streamByRegistrationStatus_ApprovalStatus("approved")) {
+				approved.forEach(org -> place(org, newCells, newOffices));
+			}
+			cells = newCells;
+			officesByOrganization = newOffices;
+			long placed = newOffices.values().stream().mapToLong(List::size).sum();
+			log.info("Placed {} field offices", placed);
+			return placed;
+		} finally {
+			writeLock.unlock();
+		}
+	}
+
+	private void index(Organization org) {
+		writeLock.lock();
+		try {
+			remove(org.getId());
+			place(org, cells, officesByOrganization);
+		} finally {
+			writeLock.unlock();
+		}
+	}
+
+	private void place(Organization org, Map<Long, Set<Office>> cells, Map<String, List<Office>> officesByOrganization) {
+		List<Office> offices = officesOf(org);
+		if (offices.isEmpty()) return;
+		officesByOrganization.put(org.getId(), offices);
+		for (Office office : offices) {
+			cells.computeIfAbsent(cellOf(office), k -> ConcurrentHashMap.newKeySet()).add(office);
+		}
+	}
+
+	private void remove(String organizationId) {
+		writeLock.lock();
+		try {
+			List<Office> offices = officesByOrganization.remove(organizationId);
+			if (offices == null) return;
+			for (Office office : offices) {
+				cells.computeIfPresent(cellOf(office), (k, cell) -> {
+					cell.remove(office);
+					return cell.isEmpty() ? null : cell;
+				});
+			}
+		} finally {
+			writeLock.unlock();
+		}
+	}
+
+	private static List<Office> officesOf(Organization org) {
+		List<Office> offices = new ArrayList<>();
+		Organization.AddressInfo address = org.getAddressInfo();
+		if (address == null) return offices;
+		String name = organizationName(org);
+		Organization.AddressInfo.Headquarters hq = address.getHeadquarters();
+		if (hq != null && hq.getCoordinates() != null) {
+			String street = String.join(", ", Stream.of(hq.getStreet(), hq.getCity(), hq.getCountry())
+					.filter(part -> part != null && !part.isBlank()).toList());
+			offices.add(office(org.getId(), name, "Headquarters", street, true, hq.getCoordinates()));
+		}
+		if (address.getFieldOffices() != null) {
+			for (Organization.AddressInfo.FieldOffice fieldOffice : address.getFieldOffices()) {
+				if (fieldOffice.getCoordinates() == null) continue;
+				offices.add(office(org.getId(), name, fieldOffice.getName(), fieldOffice.getAddress(), false,
+						fieldOffice.getCoordinates()));
+			}
+		}
+		return offices;
+	}
+
+	private static Office office(String orgId, String orgName, String officeName, String address, boolean headquarters,
+			GeoJsonPoint point) {
+		// GeoJSON points are (longitude, latitude)
+		return new Office(orgId, orgName, officeName, address, headquarters, point.getY(), point.getX());
+	}
+
+	private static String organizationName(Organization org) {
+		Organization.OrganizationInfo info = org.getOrganizationInfo();
+		if (info == null) return null;
+		return info.getCommonName() != null && !info.getCommonName().isBlank() ? info.getCommonName() : info.getLegalName();
+	}
+
+	private int row(double latitude) {
+		return (int) Math.floor((latitude + 90) / cellDegrees);
+	}
+
+	// Not wrapped, callers spanning the antimeridian wrap with floorMod
+	private int column(double longitude) {
+		return (int) Math.floor((longitude + 180) / cellDegrees);
+	}
+
+	private long cellOf(Office office) {
+		return key(row(office.latitude()), Math.floorMod(column(office.longitude()), columns));
+	}
+
+	private static long key(int row, int column) {
+		return (long) row * 1_000_000L + column;
+	}
+
+	// Haversine great-circle distance
+	static double distanceKm(double lat1, double lng1, double lat2, double lng2) {
+		double dLat = Math.toRadians(lat2 - lat1);
+		double dLng = Math.toRadians(lng2 - lng1);
+		double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+				+ Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+		return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+	}
+}
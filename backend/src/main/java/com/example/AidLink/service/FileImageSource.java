@@ -0,0 +1,43 @@
+package com.example.AidLink.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+// Originals read from a local directory (aidlink.images.source=file), for tests and runs without Cloudinary.
+// The url's path is resolved under the root, so "https://res.cloudinary.com/demo/a.jpg" and "/demo/a.jpg"
+// both read <root>/demo/a.jpg.
+@Service
+@ConditionalOnProperty(name = "aidlink.images.source", havingValue = "file")
+public class FileImageSource implements ImageSource {
+	private final Path root;
+
+	public FileImageSource(@Value("${aidlink.images.file-root:data/images}") String root) {
+		this.root = Path.of(root).toAbsolutePath().normalize();
+	}
+
+	@Override
+	public Optional<byte[]> fetch(String url, long maxBytes) throws IOException {
+		String path;
+		try {
+			path = URI.create(url).getPath();
+		} catch (IllegalArgumentException e) {
+			return Optional.empty();
+		}
+		if (path == null || path.isBlank()) return Optional.empty();
+		Path file = root.resolve(path.replaceFirst("^/+", "")).normalize();
+		// No escaping the root with ../
+		if (!file.startsWith(root) || !Files.isRegularFile(file)) return Optional.empty();
+		if (Files.size(file) > maxBytes) throw new ImageTooLargeException(url, maxBytes, "bytes");
+		try (InputStream in = Files.newInputStream(file)) {
+			return Optional.of(HttpImageSource.readAtMost(in, url, maxBytes));
+		}
+	}
+}
@@ -0,0 +1,186 @@
+package com.example.AidLink.service;
+
+import com.example.AidLink.dto.FundingUpdate;
+import com.example.AidLink.event.FundingChangedEvent;
+import com.example.AidLink.repository.EventRepository;
+import com.example.models.Event;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Pushes funding changes to stream subscribers instead of having clients poll the event.
+// Changed events are collected between ticks and read back in one query, so each event produces at most one
+// update per tick however many donations arrive. Each subscription keeps only the latest undelivered update
+// per event it follows, a slow client gets fewer, larger deltas instead of a growing queue.
+@Component
+public class FundingBroadcaster {
+	public static final int MAX_EVENTS_PER_SUBSCRIPTION = 50;
+
+	// Receives batches of updates, an empty batch is a heartbeat. Returning false means the client can't take
+	// more right now, the batch is kept and sent again after resume(). Throwing ends the subscription.
+	@FunctionalInterface
+	public interface Listener {
+		boolean send(List<FundingUpdate> updates) throws Exception;
+	}
+
+	public final class Subscription {
+		private final Set<Integer> eventIds;
+		private final Listener listener;
+		private final Map<Integer, FundingUpdate> pending = new ConcurrentHashMap<>();
+		private final AtomicBoolean draining = new AtomicBoolean();
+		private final AtomicBoolean cancelled = new AtomicBoolean();
+
+		private Subscription(Set<Integer> eventIds, Listener listener) {
+			this.eventIds = eventIds;
+			this.listener = listener;
+		}
+
+		public void cancel() {
+			if (!cancelled.compareAndSet(false, true)) return;
+			subscriberCount.decrementAndGet();
+			for (Integer eventId : eventIds) {
+				topics.computeIfPresent(eventId, (id, subscribers) -> {
+					subscribers.remove(this);
+					return subscribers.isEmpty() ? null : subscribers;
+				});
+			}
+		}
+
+		// Called when a client that refused a batch can take more
+		public void resume() {
+			if (!pending.isEmpty()) scheduleDrain();
+		}
+
+		private void offer(FundingUpdate update) {
+			if (cancelled.get()) return;
+			pending.merge(update.eventId(), update, (undelivered, newer) -> newer.after(undelivered));
+			scheduleDrain();
+		}
+
+		private void heartbeat() {
+			if (pending.isEmpty()) scheduleDrain();
+		}
+
+		private void scheduleDrain() {
+			if (draining.compareAndSet(false, true)) delivery.execute(this::drain);
+		}
+
+		// At most one drain per subscription runs at a time, so the listener is never called concurrently
+		private void drain() {
+			do {
+				List<FundingUpdate> batch = new ArrayList<>(pending.size());
+				for (Integer eventId : pending.keySet()) {
+					FundingUpdate update = pending.remove(eventId);
+					if (update != null) batch.add(update);
+				}
+				try {
+					if (!cancelled.get() && !listener.send(batch)) {
+						// Put the batch back behind anything newer and wait for resume()
+						batch.forEach(update -> pending.merge(update.eventId(), update, FundingUpdate::after));
+						draining.set(false);
+						return;
+					}
+				} catch (Exception e) {
+					cancel();
+				}
+				draining.set(false);
+			} while (!pending.isEmpty() && !cancelled.get() && draining.compareAndSet(false, true));
+		}
+	}
+
+	private final EventRepository eventRepository;
+	private final int maxSubscribers;
+	private final Map<Integer, Set<Subscription>> topics = new ConcurrentHashMap<>();
+	private final Set<Integer> changed = ConcurrentHashMap.newKeySet();
+	// Last funding pushed per followed event, to compute deltas and skip unchanged events
+	private final Map<Integer, Integer> lastFunding = new ConcurrentHashMap<>();
+	private final AtomicInteger subscriberCount = new AtomicInteger();
+	// Sends block on slow sockets, a virtual thread per drain keeps that from tying up the tick
+	private final ExecutorService delivery = Executors.newVirtualThreadPerTaskExecutor();
+
+	public FundingBroadcaster(EventRepository eventRepository,
+			@Value("${aidlink.funding.push.max-subscribers:20000}") int maxSubscribers) {
+		this.eventRepository = eventRepository;
+		this.maxSubscribers = maxSubscribers;
+	}
+
+	// Returns null when this node already holds maxSubscribers streams
+	public Subscription subscribe(Set<Integer> eventIds, Listener listener) {
+		if (subscriberCount.incrementAndGet() > maxSubscribers) {
+			subscriberCount.decrementAndGet();
+			return null;
+		}
+		Subscription subscription = new Subscription(Set.copyOf(eventIds), listener);
+		for (Integer eventId : subscription.eventIds) {
+			// Inside compute so a concurrent cancel can't drop the set this subscription was just added to
+			topics.compute(eventId, (id, subscribers) -> {
+				Set<Subscription> set = subscribers == null ? ConcurrentHashMap.newKeySet() : subscribers;
+				set.add(subscription);
+				return set;
+			});
+		}
+		return subscription;
+	}
+
+	public int subscriberCount() {
+		return subscriberCount.get();
+	}
+
+	@EventListener
+	public void onFundingChanged(FundingChangedEvent change) {
+		if (change.rebuilt()) {
+			changed.addAll(topics.keySet());
+		} else {
+			change.deltasByEventId().keySet().stream().filter(topics::containsKey).forEach(changed::add);
+		}
+	}
+
+	// Donations applied on other nodes don't publish here, so followed events are also re-read periodically
+	@Scheduled(fixedDelayString = "${aidlink.funding.push.refresh-ms:2000}")
+	public void refreshFollowed() {
+		changed.addAll(topics.keySet());
+	}
+
+	@Scheduled(fixedDelayString = "${aidlink.funding.push.interval-ms:250}")
+	public void publishChanges() {
+		if (changed.isEmpty()) return;
+		List<Integer> eventIds = new ArrayList<>(changed);
+		changed.removeAll(eventIds);
+		lastFunding.keySet().retainAll(topics.keySet());
+
+		for (Event event : eventRepository.findFundingByIdIn(eventIds)) {
+			int funding = event.getCurrentFunding() == null ? 0 : event.getCurrentFunding();
+			Integer previous = lastFunding.put(event.getId(), funding);
+			if (previous != null && previous == funding) continue;
+			FundingUpdate update = new FundingUpdate(event.getId(), funding, event.getFundingGoal(),
+					event.getFundingProgress(), previous == null ? 0 : funding - previous);
+			Set<Subscription> subscribers = topics.get(event.getId());
+			if (subscribers != null) subscribers.forEach(subscription -> subscription.offer(update));
+		}
+	}
+
+	// Keeps idle connections open through proxies and finds clients that went away
+	@Scheduled(fixedDelayString = "${aidlink.funding.push.heartbeat-ms:20000}")
+	public void heartbeat() {
+		Set<Subscription> all = ConcurrentHashMap.newKeySet();
+		topics.values().forEach(all::addAll);
+		all.forEach(Subscription::heartbeat);
+	}
+
+	@PreDestroy
+	public void stop() {
+		delivery.shutdownNow();
+	}
+}
@@ -0,0 +1,80 @@
+package com.example.AidLink.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// Originals fetched over HTTPS. Only hosts in aidlink.images.allowed-hosts are fetched, so the proxy can't be
+// pointed at internal addresses, and redirects are not followed for the same reason.
+@Service
+@ConditionalOnProperty(name = "aidlink.images.source", havingValue = "http", matchIfMissing = true)
+public class HttpImageSource implements ImageSource {
+	private final HttpClient client;
+	private final Set<String> allowedHosts;
+	private final Duration timeout;
+
+	public HttpImageSource(@Value("${aidlink.images.allowed-hosts:res.cloudinary.com}") List<String> allowedHosts,
+			@Value("${aidlink.images.fetch-timeout-ms:10000}") long timeoutMs) {
+		this.allowedHosts = allowedHosts.stream().map(String::trim).map(String::toLowerCase).collect(Collectors.toSet());
+		this.timeout = Duration.ofMillis(timeoutMs);
+		this.client = HttpClient.newBuilder()
+				.connectTimeout(timeout)
+				.followRedirects(HttpClient.Redirect.NEVER)
+				.build();
+	}
+
+	@Override
+	public Optional<byte[]> fetch(String url, long maxBytes) throws IOException {
+		URI uri;
+		try {
+			uri = URI.create(url);
+		} catch (IllegalArgumentException e) {
+			return Optional.empty();
+		}
+		if (!"https".equalsIgnoreCase(uri.getScheme()) || uri.getHost() == null
+				|| !allowedHosts.contains(uri.getHost().toLowerCase())) {
+			return Optional.empty();
+		}
+
+		HttpRequest request = HttpRequest.newBuilder(uri).timeout(timeout).GET().build();
+		HttpResponse<InputStream> response;
+		try {
+			response = client.send(request, HttpResponse.BodyHandlers.ofInputStream());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("interrupted fetching " + url, e);
+		}
+		try (InputStream body = response.body()) {
+			if (response.statusCode() != 200) return Optional.empty();
+			long declared = response.headers().firstValueAsLong("Content-Length").orElse(-1);
+			if (declared > maxBytes) throw new ImageTooLargeException(url, maxBytes, "bytes");
+			return Optional.of(readAtMost(body, url, maxBytes));
+		}
+	}
+
+	static byte[] readAtMost(InputStream in, String url, long maxBytes) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		byte[] buffer = new byte[16 * 1024];
+		long total = 0;
+		int read;
+		while ((read = in.read(buffer)) != -1) {
+			total += read;
+			if (total > maxBytes) throw new ImageTooLargeException(url, maxBytes, "bytes");
+			out.write(buffer, 0, read);
+		}
+		return out.toByteArray();
+	}
+}
@@ -0,0 +1,18 @@
+package com.example.AidLink.service;
+
+import java.io.IOException;
+import java.util.Optional;
+
+// Where ImageVariantService reads originals from, chosen with aidlink.images.source: "http" (default) fetches
+// upload URLs from the allowed hosts, "file" reads them from a local directory for tests and offline runs.
+public interface ImageSource {
+	// The original bytes, empty when the url is not served by this source.
+	// Throws ImageTooLargeException past maxBytes so an oversized upload is never buffered whole.
+	Optional<byte[]> fetch(String url, long maxBytes) throws IOException;
+
+	class ImageTooLargeException extends IOException {
+		public ImageTooLargeException(String url, long limit, String unit) {
+			super("image larger than " + limit + " " + unit + ": " + url);
+		}
+	}
+}
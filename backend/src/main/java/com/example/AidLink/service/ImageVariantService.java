@@ -0,0 +1,392 @@
+package com.example.AidLink.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+// Resized copies of uploaded images, kept in a size-bounded directory on local disk.
+// Widths are rounded up to a few fixed buckets so the cache holds at most a handful of files per image, and
+// the format is WebP when the client accepts it and an ImageIO WebP writer is installed, otherwise JPEG
+// (PNG for images with transparency). Files are named by a hash of (url, width, format), so a name always
+// means the same bytes and can be served as immutable. Least recently used files are evicted past the size bound.
+// Responses open the file only after variant() returns (Tomcat sendfile, FileSystemResource), so an evicted
+// file is left on disk for a grace period and deleted by a periodic sweep, not right away.
+@Service
+public class ImageVariantService {
+	private static final Logger log = LoggerFactory.getLogger(ImageVariantService.class);
+
+	static final int[] WIDTHS = {160, 320, 640, 1280};
+	private static final float QUALITY = 0.8f;
+	private static final String TEMP_SUFFIX = ".tmp";
+	// Variant names are content hashes and upload URLs are versioned, so a response never goes stale
+	public static final String CACHE_CONTROL = "public, max-age=31536000, immutable";
+
+	public enum Format {
+		WEBP("image/webp", "webp"),
+		JPEG("image/jpeg", "jpg"),
+		PNG("image/png", "png");
+
+		private final String contentType;
+		private final String extension;
+
+		Format(String contentType, String extension) {
+			this.contentType = contentType;
+			this.extension = extension;
+		}
+
+		public String contentType() {
+			return contentType;
+		}
+
+		static Optional<Format> ofExtension(String extension) {
+			return Stream.of(values()).filter(f -> f.extension.equals(extension)).findFirst();
+		}
+	}
+
+	public record Variant(Path file, Format format, long size) {
+		// The file name is a hash of what it holds
+		public String etag() {
+			return "\"" + file.getFileName() + "\"";
+		}
+	}
+
+	private final ImageSource source;
+	private final Path cacheDir;
+	private final long maxCacheBytes;
+	private final long maxOriginalBytes;
+	private final long maxOriginalPixels;
+	private final boolean webpAvailable;
+	// Access-ordered, so iteration starts at the least recently used file
+	private final LinkedHashMap<String, Variant> index = new LinkedHashMap<>(256, 0.75f, true);
+	private final ReentrantLock indexLock = new ReentrantLock();
+	private long cachedBytes;
+	// One render per variant at a time, later requests for it wait for the first
+	private final Map<String, CompletableFuture<Optional<Variant>>> inFlight = new ConcurrentHashMap<>();
+	// Decoding a large photo takes tens of MB of heap, so only a few run at once
+	private final Semaphore resizePermits;
+	// Evicted files in eviction order, deleted once the grace period has passed. Guarded by indexLock.
+	private final ArrayDeque<Evicted> evicted = new ArrayDeque<>();
+	private final long evictedGraceMs;
+
+	private record Evicted(String key, Variant variant, long evictedAtMs) {
+	}
+
+	public ImageVariantService(ImageSource source,
+			@Value("${aidlink.images.cache-dir:data/image-cache}") String cacheDir,
+			@Value("${aidlink.images.cache-max-bytes:1073741824}") long maxCacheBytes,
+			@Value("${aidlink.images.max-original-bytes:20971520}") long maxOriginalBytes,
+			@Value("${aidlink.images.max-original-pixels:50000000}") long maxOriginalPixels,
+			@Value("${aidlink.images.max-concurrent-resizes:4}") int maxConcurrentResizes,
+			@Value("${aidlink.images.evicted-grace-ms:60000}") long evictedGraceMs) throws IOException {
+		this.source = source;
+		this.cacheDir = Path.of(cacheDir).toAbsolutePath();
+		this.maxCacheBytes = maxCacheBytes;
+		this.maxOriginalBytes = maxOriginalBytes;
+		this.maxOriginalPixels = maxOriginalPixels;
+		this.resizePermits = new Semaphore(maxConcurrentResizes);
+		this.evictedGraceMs = evictedGraceMs;
+		this.webpAvailable = ImageIO.getImageWritersByMIMEType(Format.WEBP.contentType()).hasNext();
+		Files.createDirectories(this.cacheDir);
+		loadIndex();
+	}
+
+	// Smallest bucket at least as wide as requested, or the widest
+	public static int bucket(int requestedWidth) {
+		for (int width : WIDTHS) {
+			if (width >= requestedWidth) return width;
+		}
+		return WIDTHS[WIDTHS.length - 1];
+	}
+
+	// Empty when the source has no image at this url or it isn't an image ImageIO can read
+	public Optional<Variant> variant(String url, int requestedWidth, String accept) throws IOException {
+		int width = bucket(requestedWidth);
+		boolean webp = webpAvailable && accept != null && accept.contains(Format.WEBP.contentType());
+		String key = key(url, width, webp);
+
+		Optional<Variant> cached = cached(key);
+		if (cached.isPresent()) return cached;
+
+		CompletableFuture<Optional<Variant>> mine = new CompletableFuture<>();
+		CompletableFuture<Optional<Variant>> running = inFlight.putIfAbsent(key, mine);
+		if (running != null) return await(running);
+		try {
+			// It may have been written between the lookup above and claiming the key
+			Optional<Variant> variant = cached(key);
+			if (variant.isEmpty()) variant = render(key, url, width, webp);
+			mine.complete(variant);
+			return variant;
+		} catch (IOException | RuntimeException e) {
+			mine.completeExceptionally(e);
+			throw e;
+		} finally {
+			inFlight.remove(key, mine);
+		}
+	}
+
+	public long cachedBytes() {
+		indexLock.lock();
+		try {
+			return cachedBytes;
+		} finally {
+			indexLock.unlock();
+		}
+	}
+
+	private Optional<Variant> render(String key, String url, int width, boolean webp) throws IOException {
+		Optional<byte[]> original = source.fetch(url, maxOriginalBytes);
+		if (original.isEmpty()) return Optional.empty();
+
+		try {
+			resizePermits.acquire();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("interrupted waiting to resize " + url, e);
+		}
+		Path temp = null;
+		try {
+			BufferedImage image = decode(original.get(), url);
+			if (image == null) return Optional.empty();
+			BufferedImage resized = resize(image, Math.min(width, image.getWidth()));
+			Format format = webp ? Format.WEBP : resized.getColorModel().hasAlpha() ? Format.PNG : Format.JPEG;
+
+			temp = Files.createTempFile(cacheDir, key, TEMP_SUFFIX);
+			try (OutputStream out = Files.newOutputStream(temp)) {
+				encode(resized, format, out);
+			}
+			Path file = cacheDir.resolve(key + "." + format.extension);
+			Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+			temp = null;
+			Variant variant = new Variant(file, format, Files.size(file));
+			add(key, variant);
+			log.debug("Rendered {}px {} of {} ({} bytes)", resized.getWidth(), format, url, variant.size());
+			return Optional.of(variant);
+		} finally {
+			resizePermits.release();
+			if (temp != null) Files.deleteIfExists(temp);
+		}
+	}
+
+	// Reads the dimensions first so a small file that decompresses to a huge bitmap is refused before decoding
+	private BufferedImage decode(byte[] bytes, String url) throws IOException {
+		try (ImageInputStream in = ImageIO.createImageInputStream(new ByteArrayInputStream(bytes))) {
+			Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+			if (!readers.hasNext()) return null;
+			ImageReader reader = readers.next();
+			try {
+				reader.setInput(in, true, true);
+				long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+				if (pixels > maxOriginalPixels) throw new ImageSource.ImageTooLargeException(url, maxOriginalPixels, "pixels");
+				return reader.read(0);
+			} finally {
+				reader.dispose();
+			}
+		}
+	}
+
+	// Halves the image until within 2x of the target before the last step, plain bilinear
+	// scaling straight to a small width skips most source pixels and aliases badly
+	static BufferedImage resize(BufferedImage image, int targetWidth) {
+		int type = image.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+		int targetHeight = Math.max(1, (int) Math.round((double) image.getHeight() * targetWidth / image.getWidth()));
+		BufferedImage current = image;
+		int width = image.getWidth();
+		int height = image.getHeight();
+		do {
+			width = Math.max(targetWidth, width / 2);
+			height = Math.max(targetHeight, height / 2);
+			BufferedImage next = new BufferedImage(width, height, type);
+			Graphics2D g = next.createGraphics();
+			try {
+				g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+				g.drawImage(current, 0, 0, width, height, null);
+			} finally {
+				g.dispose();
+			}
+			current = next;
+		} while (width != targetWidth || height != targetHeight);
+		return current;
+	}
+
+	private static void encode(BufferedImage image, Format format, OutputStream out) throws IOException {
+		if (format == Format.PNG) {
+			ImageIO.write(image, "png", out);
+			return;
+		}
+		ImageWriter writer = ImageIO.getImageWritersByMIMEType(format.contentType()).next();
+		try (ImageOutputStream stream = ImageIO.createImageOutputStream(out)) {
+			writer.setOutput(stream);
+			ImageWriteParam param = writer.getDefaultWriteParam();
+			if (param.canWriteCompressed()) {
+				param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+				if (param.getCompressionType() == null) param.setCompressionType(param.getCompressionTypes()[0]);
+				param.setCompressionQuality(QUALITY);
+			}
+			writer.write(null, new IIOImage(image, null, null), param);
+		} finally {
+			writer.dispose();
+		}
+	}
+
+	private Optional<Variant> cached(String key) {
+		Variant variant;
+		indexLock.lock();
+		try {
+			variant = index.get(key);
+		} finally {
+			indexLock.unlock();
+		}
+		if (variant == null) return Optional.empty();
+		if (!Files.exists(variant.file())) {
+			// Removed behind our back, render it again
+			remove(key, variant);
+			return Optional.empty();
+		}
+		return Optional.of(variant);
+	}
+
+	private void add(String key, Variant variant) {
+		indexLock.lock();
+		try {
+			Variant previous = index.put(key, variant);
+			if (previous != null) cachedBytes -= previous.size();
+			cachedBytes += variant.size();
+			long now = System.currentTimeMillis();
+			Iterator<Map.Entry<String, Variant>> eldest = index.entrySet().iterator();
+			while (cachedBytes > maxCacheBytes && eldest.hasNext()) {
+				Map.Entry<String, Variant> entry = eldest.next();
+				if (entry.getKey().equals(key)) continue;
+				cachedBytes -= entry.getValue().size();
+				evicted.addLast(new Evicted(entry.getKey(), entry.getValue(), now));
+				eldest.remove();
+			}
+		} finally {
+			indexLock.unlock();
+		}
+	}
+
+	// Deletes files evicted more than the grace period ago, by then any response handed the file has opened it.
+	// Returns the number of files deleted.
+	@Scheduled(fixedDelayString = "${aidlink.images.sweep-ms:10000}")
+	public int sweepEvicted() {
+		long due = System.currentTimeMillis() - evictedGraceMs;
+		int deleted = 0;
+		indexLock.lock();
+		try {
+			while (!evicted.isEmpty() && evicted.peekFirst().evictedAtMs() <= due) {
+				Evicted old = evicted.pollFirst();
+				// Rendered again since: same key, same file, in use again. containsKey leaves the LRU order alone.
+				if (index.containsKey(old.key())) continue;
+				try {
+					if (Files.deleteIfExists(old.variant().file())) deleted++;
+				} catch (IOException e) {
+					log.warn("Could not delete evicted image variant {}", old.variant().file(), e);
+				}
+			}
+		} finally {
+			indexLock.unlock();
+		}
+		return deleted;
+	}
+
+	private void remove(String key, Variant variant) {
+		indexLock.lock();
+		try {
+			if (index.remove(key, variant)) cachedBytes -= variant.size();
+		} finally {
+			indexLock.unlock();
+		}
+	}
+
+	// Picks up what an earlier run left, oldest first so they are the first evicted
+	private void loadIndex() throws IOException {
+		record Found(String key, Variant variant, FileTime modified) {
+		}
+		List<Found> found;
+		try (Stream<Path> files = Files.list(cacheDir)) {
+			found = files.flatMap(file -> {
+				String name = file.getFileName().toString();
+				try {
+					if (name.endsWith(TEMP_SUFFIX)) {
+						// Left by a render that never finished
+						Files.deleteIfExists(file);
+						return Stream.empty();
+					}
+					int dot = name.lastIndexOf('.');
+					Optional<Format> format = dot < 0 ? Optional.empty() : Format.ofExtension(name.substring(dot + 1));
+					if (format.isEmpty()) return Stream.empty();
+					Variant variant = new Variant(file, format.get(), Files.size(file));
+					return Stream.of(new Found(name.substring(0, dot), variant, Files.getLastModifiedTime(file)));
+				} catch (NoSuchFileException e) {
+					return Stream.empty();
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			}).sorted(Comparator.comparing(Found::modified)).toList();
+		}
+		for (Found f : found) {
+			add(f.key(), f.variant());
+		}
+		log.info("Image cache at {} holds {} variants ({} bytes), WebP {}", cacheDir, found.size(), cachedBytes(),
+				webpAvailable ? "available" : "unavailable");
+	}
+
+	private static String key(String url, int width, boolean webp) {
+		try {
+			MessageDigest sha = MessageDigest.getInstance("SHA-256");
+			byte[] digest = sha.digest((url + "|" + width + "|" + (webp ? "webp" : "default")).getBytes(StandardCharsets.UTF_8));
+			return HexFormat.of().formatHex(digest, 0, 20);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static Optional<Variant> await(CompletableFuture<Optional<Variant>> running) throws IOException {
+		try {
+			return running.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof IOException io) throw io;
+			if (e.getCause() instanceof RuntimeException re) throw re;
+			throw e;
+		}
+	}
+}
@@ -0,0 +1,53 @@
+package com.example.AidLink.service;
+
+import com.example.models.AuthSession;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Sessions kept in this process only (aidlink.sessions.store=memory), for tests and single-instance runs
+@Service
+@ConditionalOnProperty(name = "aidlink.sessions.store", havingValue = "memory")
+public class InMemorySessionStore implements SessionStore {
+	private final Map<String, AuthSession> sessions = new ConcurrentHashMap<>();
+	private final long idleTimeoutMs;
+
+	public InMemorySessionStore(@Value("${aidlink.sessions.idle-timeout-ms:7200000}") long idleTimeoutMs) {
+		this.idleTimeoutMs = idleTimeoutMs;
+	}
+
+	@Override
+	public AuthSession create(String subject, String role, Instant expiresAt) {
+		AuthSession session = new AuthSession(UUID.randomUUID().toString(), subject, role, Instant.now(), expiresAt);
+		sessions.put(session.getId(), session);
+		return session;
+	}
+
+	@Override
+	public Optional<AuthSession> find(String sessionId) {
+		AuthSession session = sessions.get(sessionId);
+		if (session == null) return Optional.empty();
+		if (!SessionStore.isLive(session, Instant.now(), idleTimeoutMs)) {
+			sessions.remove(sessionId);
+			return Optional.empty();
+		}
+		return Optional.of(session);
+	}
+
+	@Override
+	public void touch(String sessionId) {
+		AuthSession session = sessions.get(sessionId);
+		if (session != null) session.setLastAccessedAt(Instant.now());
+	}
+
+	@Override
+	public void delete(String sessionId) {
+		sessions.remove(sessionId);
+	}
+}
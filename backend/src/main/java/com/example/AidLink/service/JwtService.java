@@ -0,0 +1,120 @@
+package com.example.AidLink.service;
+
+import com.example.models.AuthSession;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.SecretKey;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+// Issues and verifies the HS256 tokens that replace HttpSession state, so any instance can serve any request.
+// The key and parser are built once. Verified tokens are remembered briefly, so a client sending the same
+// token on every request pays for the signature check once per cache period.
+// Each token names a login session in the SessionStore (its jti); logout deletes the session, and a token
+// is only accepted while its session is live.
+@Service
+public class JwtService {
+	private static final Logger log = LoggerFactory.getLogger(JwtService.class);
+
+	public static final String ROLE_USER = "USER";
+	public static final String ROLE_ADMIN = "ADMIN";
+	// Profile that allows starting without a secret
+	public static final String DEV_PROFILE = "dev";
+
+	public record TokenClaims(String sessionId, String subject, String role, Instant expiresAt) {
+	}
+
+	private final SecretKey key;
+	private final JwtParser parser;
+	private final long ttlMs;
+	private final Cache<String, TokenClaims> verified;
+	private final SessionStore sessionStore;
+	private final LongAdder signatureChecks = new LongAdder();
+
+	public JwtService(SessionStore sessionStore, Environment environment,
+			@Value("${aidlink.jwt.secret:}") String secret,
+			@Value("${aidlink.jwt.ttl-ms:86400000}") long ttlMs,
+			@Value("${aidlink.jwt.verified-cache-spec:maximumSize=10000,expireAfterWrite=60s}") String verifiedCacheSpec) {
+		if (secret == null || secret.isBlank()) {
+			// Tokens then only verify on this instance and die with it, which is only acceptable on a laptop
+			if (!environment.acceptsProfiles(Profiles.of(DEV_PROFILE))) {
+				throw new IllegalStateException("aidlink.jwt.secret (JWT_SECRET) is not set. Set it to the same base64 key "
+						+ "on every instance, or run with the " + DEV_PROFILE + " profile to use a random key");
+			}
+			log.warn("aidlink.jwt.secret is not set, using a random key for this instance");
+			this.key = Keys.secretKeyFor(SignatureAlgorithm.HS256);
+		} else {
+			this.key = Keys.hmacShaKeyFor(Base64.getDecoder().decode(secret));
+		}
+		this.parser = Jwts.parserBuilder().setSigningKey(key).build();
+		this.ttlMs = ttlMs;
+		this.verified = Caffeine.from(verifiedCacheSpec).build();
+		this.sessionStore = sessionStore;
+	}
+
+	public String issue(String subject, String role) {
+		long now = System.currentTimeMillis();
+		AuthSession session = sessionStore.create(subject, role, Instant.ofEpochMilli(now + ttlMs));
+		return Jwts.builder()
+				.setId(session.getId())
+				.setSubject(subject)
+				.claim("role", role)
+				.setIssuedAt(new Date(now))
+				.setExpiration(new Date(now + ttlMs))
+				.signWith(key, SignatureAlgorithm.HS256)
+				.compact();
+	}
+
+	// Empty when the token is malformed, forged or expired, or its session has ended
+	public Optional<TokenClaims> verify(String token) {
+		Optional<TokenClaims> claims = checkSignature(token);
+		if (claims.isEmpty() || sessionStore.find(claims.get().sessionId()).isEmpty()) return Optional.empty();
+		sessionStore.touch(claims.get().sessionId());
+		return claims;
+	}
+
+	// Ends the login session, every token issued for it stops verifying
+	public void revoke(String sessionId) {
+		sessionStore.delete(sessionId);
+	}
+
+	private Optional<TokenClaims> checkSignature(String token) {
+		TokenClaims remembered = verified.getIfPresent(token);
+		if (remembered != null) {
+			// The cache period may outlast the token itself
+			return remembered.expiresAt().isAfter(Instant.now()) ? Optional.of(remembered) : Optional.empty();
+		}
+		signatureChecks.increment();
+		try {
+			Claims claims = parser.parseClaimsJws(token).getBody();
+			if (claims.getId() == null) return Optional.empty();
+			TokenClaims tokenClaims = new TokenClaims(claims.getId(), claims.getSubject(),
+					claims.get("role", String.class), claims.getExpiration().toInstant());
+			verified.put(token, tokenClaims);
+			return Optional.of(tokenClaims);
+		} catch (JwtException | IllegalArgumentException e) {
+			return Optional.empty();
+		}
+	}
+
+	// Tokens parsed and signature checked, the rest were answered by the verified-token cache
+	long signatureChecks() {
+		return signatureChecks.sum();
+	}
+}
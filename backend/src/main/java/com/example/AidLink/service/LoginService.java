@@ -0,0 +1,76 @@
+package com.example.AidLink.service;
+
+import com.example.AidLink.repository.AdminRepository;
+import com.example.AidLink.repository.UserRepository;
+import com.example.models.Admin;
+import com.example.models.User;
+import org.springframework.stereotype.Service;
+
+// Checks user and admin credentials: throttle first, then bcrypt on the hashing pool, then replace
+// legacy plaintext or lower-cost hashes with a current hash
+@Service
+public class LoginService {
+	public enum Result { SUCCESS, INVALID, THROTTLED, BUSY }
+
+	private final UserRepository userRepository;
+	private final AdminRepository adminRepository;
+	private final PasswordHasher passwordHasher;
+	private final LoginThrottle loginThrottle;
+
+	public LoginService(UserRepository userRepository, AdminRepository adminRepository, PasswordHasher passwordHasher,
+			LoginThrottle loginThrottle) {
+		this.userRepository = userRepository;
+		this.adminRepository = adminRepository;
+		this.passwordHasher = passwordHasher;
+		this.loginThrottle = loginThrottle;
+	}
+
+	public Result loginUser(String email, String password, String clientAddress) {
+		if (email == null || !loginThrottle.allows("user:" + email, clientAddress)) return Result.THROTTLED;
+		try {
+			User user = userRepository.findByEmail(email);
+			PasswordHasher.Verification verification = check(password, user == null ? null : user.getPassword());
+			if (!verification.matches()) {
+				loginThrottle.failed("user:" + email, clientAddress);
+				return Result.INVALID;
+			}
+			if (verification.upgradedHash() != null) {
+				// Conditional on the old value, so a concurrent password change is never overwritten
+				userRepository.replacePassword(email, user.getPassword(), verification.upgradedHash());
+			}
+			loginThrottle.succeeded("user:" + email);
+			return Result.SUCCESS;
+		} catch (PasswordHasher.BusyException e) {
+			return Result.BUSY;
+		}
+	}
+
+	public Result loginAdmin(String username, String password, String clientAddress) {
+		if (username == null || !loginThrottle.allows("admin:" + username, clientAddress)) return Result.THROTTLED;
+		try {
+			Admin admin = adminRepository.findByUsername(username).orElse(null);
+			PasswordHasher.Verification verification = check(password, admin == null ? null : admin.getPassword());
+			if (!verification.matches()) {
+				loginThrottle.failed("admin:" + username, clientAddress);
+				return Result.INVALID;
+			}
+			if (verification.upgradedHash() != null) {
+				admin.setPassword(verification.upgradedHash());
+				adminRepository.save(admin);
+			}
+			loginThrottle.succeeded("admin:" + username);
+			return Result.SUCCESS;
+		} catch (PasswordHasher.BusyException e) {
+			return Result.BUSY;
+		}
+	}
+
+	// Unknown accounts cost the same bcrypt work, so response times don't reveal which accounts exist
+	private PasswordHasher.Verification check(String password, String stored) {
+		if (stored == null) {
+			passwordHasher.verifyNothing(password);
+			return PasswordHasher.Verification.NO_MATCH;
+		}
+		return passwordHasher.verify(password, stored);
+	}
+}
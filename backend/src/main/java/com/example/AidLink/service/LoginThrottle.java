@@ -0,0 +1,90 @@
+package com.example.AidLink.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Slows down failed logins per account and caps them per client address. An account gets a few free
+// failures, after that each attempt has to wait a delay that doubles with every further failure, so the
+// owner is never locked out but guessing gets slower fast. An address that reaches its limit is refused
+// until the window that started with its first failure has passed. Refused attempts never reach the
+// PasswordHasher, so guessing passwords can't tie up the hashing pool.
+@Component
+public class LoginThrottle {
+	private final Cache<String, AccountFailures> accountFailures;
+	private final Cache<String, AtomicInteger> addressFailures;
+	private final int freePerAccount;
+	private final int maxPerAddress;
+	private final long backoffBaseMs;
+	private final long backoffMaxMs;
+
+	public LoginThrottle(@Value("${aidlink.auth.free-failures-per-account:5}") int freePerAccount,
+			@Value("${aidlink.auth.max-failures-per-address:50}") int maxPerAddress,
+			@Value("${aidlink.auth.failure-window-ms:900000}") long windowMs,
+			@Value("${aidlink.auth.backoff-base-ms:1000}") long backoffBaseMs,
+			@Value("${aidlink.auth.backoff-max-ms:300000}") long backoffMaxMs) {
+		this.freePerAccount = freePerAccount;
+		this.maxPerAddress = maxPerAddress;
+		this.backoffBaseMs = backoffBaseMs;
+		this.backoffMaxMs = backoffMaxMs;
+		// Every failure replaces the entry, so an account is forgotten a window after its last failure
+		this.accountFailures = Caffeine.newBuilder()
+				.expireAfterWrite(Duration.ofMillis(Math.max(windowMs, backoffMaxMs)))
+				.maximumSize(100_000)
+				.build();
+		// Counters are mutated in place, so an address expires a full window after its first failure
+		this.addressFailures = Caffeine.newBuilder()
+				.expireAfterWrite(Duration.ofMillis(windowMs))
+				.maximumSize(100_000)
+				.build();
+	}
+
+	public boolean allows(String account, String clientAddress) {
+		return retryAfterMs(account) == 0 && addressCount(clientAddress) < maxPerAddress;
+	}
+
+	// How long the account has to wait before its next attempt is checked, 0 when it may try now
+	public long retryAfterMs(String account) {
+		AccountFailures failures = accountFailures.getIfPresent(accountKey(account));
+		if (failures == null) return 0;
+		return Math.max(0, failures.lastFailureMs() + delayMs(failures.count()) - System.currentTimeMillis());
+	}
+
+	public void failed(String account, String clientAddress) {
+		long now = System.currentTimeMillis();
+		accountFailures.asMap().merge(accountKey(account), new AccountFailures(1, now),
+				(previous, first) -> new AccountFailures(previous.count() + 1, now));
+		addressFailures.get(addressKey(clientAddress), key -> new AtomicInteger()).incrementAndGet();
+	}
+
+	// The address keeps its count, a success doesn't excuse guesses at other accounts
+	public void succeeded(String account) {
+		accountFailures.invalidate(accountKey(account));
+	}
+
+	private long delayMs(int failures) {
+		if (failures < freePerAccount) return 0;
+		int doublings = Math.min(failures - freePerAccount, 30);
+		return Math.min(backoffBaseMs << doublings, backoffMaxMs);
+	}
+
+	private int addressCount(String clientAddress) {
+		AtomicInteger count = addressFailures.getIfPresent(addressKey(clientAddress));
+		return count == null ? 0 : count.get();
+	}
+
+	private static String accountKey(String account) {
+		return "account:" + account;
+	}
+
+	private static String addressKey(String clientAddress) {
+		return "address:" + clientAddress;
+	}
+
+	private record AccountFailures(int count, long lastFailureMs) {
+	}
+}
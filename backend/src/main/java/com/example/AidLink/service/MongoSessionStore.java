@@ -0,0 +1,90 @@
+package com.example.AidLink.service;
+
+import com.example.AidLink.repository.AuthSessionRepository;
+import com.example.models.AuthSession;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Sessions in the "sessions" collection, shared by every instance behind the load balancer.
+// Lookups are cached here for a few seconds, misses included, so an authenticated request normally costs
+// no database round trip; a logout on another instance takes effect here within that TTL.
+// Activity is collected in memory and written in one bulk update per flush interval.
+@Service
+@ConditionalOnProperty(name = "aidlink.sessions.store", havingValue = "mongo", matchIfMissing = true)
+public class MongoSessionStore implements SessionStore {
+	private final AuthSessionRepository repository;
+	private final long idleTimeoutMs;
+	private final Cache<String, Optional<AuthSession>> lookups;
+	// Latest activity per session that has not been written yet
+	private final Map<String, Instant> pendingTouches = new ConcurrentHashMap<>();
+
+	public MongoSessionStore(AuthSessionRepository repository,
+			@Value("${aidlink.sessions.idle-timeout-ms:7200000}") long idleTimeoutMs,
+			@Value("${aidlink.sessions.cache-ttl-ms:5000}") long cacheTtlMs) {
+		this.repository = repository;
+		this.idleTimeoutMs = idleTimeoutMs;
+		this.lookups = Caffeine.newBuilder()
+				.expireAfterWrite(Duration.ofMillis(cacheTtlMs))
+				.maximumSize(100_000)
+				.build();
+	}
+
+	@Override
+	public AuthSession create(String subject, String role, Instant expiresAt) {
+		AuthSession session = repository.insert(
+				new AuthSession(UUID.randomUUID().toString(), subject, role, Instant.now(), expiresAt));
+		lookups.put(session.getId(), Optional.of(session));
+		return session;
+	}
+
+	@Override
+	public Optional<AuthSession> find(String sessionId) {
+		Optional<AuthSession> session = lookups.get(sessionId, repository::findById);
+		Instant now = Instant.now();
+		return session.filter(s -> SessionStore.isLive(s, now, idleTimeoutMs));
+	}
+
+	@Override
+	public void touch(String sessionId) {
+		Instant now = Instant.now();
+		pendingTouches.put(sessionId, now);
+		// Keep the cached copy current too, the idle check reads it
+		Optional<AuthSession> cached = lookups.getIfPresent(sessionId);
+		if (cached != null) cached.ifPresent(s -> s.setLastAccessedAt(now));
+	}
+
+	@Override
+	public void delete(String sessionId) {
+		pendingTouches.remove(sessionId);
+		repository.deleteById(sessionId);
+		lookups.put(sessionId, Optional.empty());
+	}
+
+	@Scheduled(fixedDelayString = "${aidlink.sessions.flush-ms:10000}")
+	public void flush() {
+		Map<String, Instant> batch = new HashMap<>();
+		for (String sessionId : pendingTouches.keySet()) {
+			Instant touched = pendingTouches.remove(sessionId);
+			if (touched != null) batch.put(sessionId, touched);
+		}
+		repository.touchAll(batch);
+	}
+
+	@PreDestroy
+	public void stop() {
+		flush();
+	}
+}
@@ -0,0 +1,119 @@
+package com.example.AidLink.service;
+
+import com.example.AidLink.dto.ApprovalStatus;
+import com.example.AidLink.dto.EventRegistrationResult;
+import com.example.AidLink.dto.ReviewResult;
+import com.example.AidLink.event.OrganizationChangedEvent;
+import com.example.AidLink.repository.EventRepository;
+import com.example.AidLink.repository.OrganizationRepository;
+import com.example.models.Event;
+import com.example.models.Organization;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+public class OrganizationService {
+	// Each retry re-reads the registered events, so it only repeats while other registrations keep landing
+	private static final int MAX_ATTEMPTS = 5;
+
+	private final OrganizationRepository organizationRepository;
+	private final EventRepository eventRepository;
+	private final ApplicationEventPublisher eventPublisher;
+
+	public OrganizationService(OrganizationRepository organizationRepository, EventRepository eventRepository,
+			ApplicationEventPublisher eventPublisher) {
+		this.organizationRepository = organizationRepository;
+		this.eventRepository = eventRepository;
+		this.eventPublisher = eventPublisher;
+	}
+
+	// Status transitions write only registrationStatus.approvalStatus, never the rest of the organization
+	public Optional<ApprovalStatus> approve(String organizationId) {
+		Optional<ApprovalStatus> approved = organizationRepository.updateApprovalStatus(organizationId, "approved")
+				.map(status -> new ApprovalStatus(organizationId, status));
+		if (approved.isPresent()) changed(organizationId, OrganizationChangedEvent.Change.APPROVED);
+		return approved;
+	}
+
+	// Rejected organizations are deleted, returns false when there was nothing to delete
+	public boolean reject(String organizationId) {
+		if (organizationRepository.deleteByIdIn(List.of(organizationId)) == 0) return false;
+		changed(organizationId, OrganizationChangedEvent.Change.REJECTED);
+		return true;
+	}
+
+	// Clear a review queue in one pass: one update for all approvals and one delete for all rejections,
+	// whatever the number of organizations
+	public ReviewResult review(Collection<String> approve, Collection<String> reject) {
+		List<String> approved = organizationRepository.findExistingIds(approve);
+		organizationRepository.updateApprovalStatus(approved, "approved");
+		List<String> rejected = organizationRepository.findExistingIds(reject);
+		organizationRepository.deleteByIdIn(rejected);
+
+		// One event for the whole review, listeners reload and refresh once
+		Map<OrganizationChangedEvent.Change, List<String>> changes = new EnumMap<>(OrganizationChangedEvent.Change.class);
+		if (!approved.isEmpty()) changes.put(OrganizationChangedEvent.Change.APPROVED, approved);
+		if (!rejected.isEmpty()) changes.put(OrganizationChangedEvent.Change.REJECTED, rejected);
+		if (!changes.isEmpty()) eventPublisher.publishEvent(new OrganizationChangedEvent(changes));
+		Set<String> found = new HashSet<>(approved);
+		found.addAll(rejected);
+		List<String> notFound = new ArrayList<>();
+		approve.forEach(id -> { if (!found.contains(id)) notFound.add(id); });
+		reject.forEach(id -> { if (!found.contains(id)) notFound.add(id); });
+		return new ReviewResult(approved, rejected, notFound);
+	}
+
+	// Register the organization for every event in one atomic push instead of rewriting the whole document
+	// per event. Events it is already registered for are skipped, so repeating a call changes nothing.
+	// Returns empty when the organization doesn't exist.
+	public Optional<EventRegistrationResult> registerForEvents(String organizationId,
+			List<Organization.EventRegistration> registrations) {
+		// One registration per event, the first one wins
+		Map<Integer, Organization.EventRegistration> byEventId = new LinkedHashMap<>();
+		for (Organization.EventRegistration registration : registrations) {
+			byEventId.putIfAbsent(registration.getEventId(), registration);
+		}
+		Set<Integer> existingEvents = eventRepository.findIdsByIdIn(byEventId.keySet()).stream()
+				.map(Event::getId)
+				.collect(Collectors.toSet());
+		List<Integer> unknownEvents = byEventId.keySet().stream().filter(id -> !existingEvents.contains(id)).toList();
+
+		for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+			Optional<Set<Integer>> registered = organizationRepository.findRegisteredEventIds(organizationId);
+			if (registered.isEmpty()) return Optional.empty();
+
+			List<Integer> alreadyRegistered = new ArrayList<>();
+			List<Organization.EventRegistration> toAdd = new ArrayList<>();
+			byEventId.forEach((eventId, registration) -> {
+				if (!existingEvents.contains(eventId)) return;
+				if (registered.get().contains(eventId)) {
+					alreadyRegistered.add(eventId);
+				} else {
+					if (registration.getStatus() == null) registration.setStatus("registered");
+					toAdd.add(registration);
+				}
+			});
+			if (toAdd.isEmpty() || organizationRepository.pushEventRegistrations(organizationId, toAdd)) {
+				List<Integer> added = toAdd.stream().map(Organization.EventRegistration::getEventId).toList();
+				if (!added.isEmpty()) changed(organizationId, OrganizationChangedEvent.Change.EVENT_REGISTRATION);
+				return Optional.of(new EventRegistrationResult(added, alreadyRegistered, unknownEvents));
+			}
+		}
+		throw new IllegalStateException("Event registrations of organization " + organizationId + " kept changing, try again");
+	}
+
+	private void changed(String organizationId, OrganizationChangedEvent.Change change) {
+		eventPublisher.publishEvent(new OrganizationChangedEvent(organizationId, change));
+	}
+}
@@ -0,0 +1,149 @@
+package com.example.AidLink.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+// bcrypt hashing and verification at a configurable cost. The work runs on a small pool sized to the cores,
+// so a burst of logins queues there, and is refused once the queue is full, instead of keeping every request
+// thread busy on CPU and starving donation traffic.
+// Successful verifications are remembered for a while, keyed by the stored hash, so a user logging in again
+// skips the bcrypt work. Only a keyed HMAC of the password is kept, and a changed hash misses the cache.
+@Service
+public class PasswordHasher {
+	private static final Pattern BCRYPT = Pattern.compile("\\A\\$2[aby]?\\$\\d\\d\\$[./0-9A-Za-z]{53}");
+
+	// upgradedHash is set when the stored value should be replaced: legacy plaintext or a lower cost
+	public record Verification(boolean matches, String upgradedHash) {
+		static final Verification NO_MATCH = new Verification(false, null);
+	}
+
+	// The hashing pool is saturated, the caller should answer 503 and let the client retry
+	public static class BusyException extends RuntimeException {
+		BusyException(String message) {
+			super(message);
+		}
+	}
+
+	private final BCryptPasswordEncoder encoder;
+	private final ThreadPoolExecutor pool;
+	private final long waitMs;
+	private final Cache<String, byte[]> verified;
+	private final SecretKeySpec resultKey;
+	private final String dummyHash;
+
+	public PasswordHasher(@Value("${aidlink.auth.bcrypt-cost:10}") int cost,
+			@Value("${aidlink.auth.hash-threads:0}") int threads,
+			@Value("${aidlink.auth.hash-queue:64}") int queueSize,
+			@Value("${aidlink.auth.hash-wait-ms:5000}") long waitMs,
+			@Value("${aidlink.auth.result-cache-spec:maximumSize=10000,expireAfterWrite=10m}") String resultCacheSpec) {
+		this.encoder = new BCryptPasswordEncoder(cost);
+		int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+		AtomicInteger created = new AtomicInteger();
+		this.pool = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(queueSize),
+				task -> {
+					Thread thread = new Thread(task, "password-hasher-" + created.incrementAndGet());
+					thread.setDaemon(true);
+					return thread;
+				});
+		this.waitMs = waitMs;
+		this.verified = Caffeine.from(resultCacheSpec).build();
+		byte[] key = new byte[32];
+		new SecureRandom().nextBytes(key);
+		this.resultKey = new SecretKeySpec(key, "HmacSHA256");
+		this.dummyHash = encoder.encode(UUID.randomUUID().toString());
+	}
+
+	public String hash(String rawPassword) {
+		return onPool(() -> encoder.encode(rawPassword));
+	}
+
+	// Whether a stored value is already a bcrypt hash rather than a plaintext password
+	public boolean isHash(String stored) {
+		return stored != null && BCRYPT.matcher(stored).matches();
+	}
+
+	public Verification verify(String rawPassword, String stored) {
+		if (rawPassword == null || stored == null) return Verification.NO_MATCH;
+		if (!isHash(stored)) {
+			// Stored before hashing was introduced, replace it with a hash on the first successful login
+			boolean matches = MessageDigest.isEqual(rawPassword.getBytes(StandardCharsets.UTF_8),
+					stored.getBytes(StandardCharsets.UTF_8));
+			return matches ? new Verification(true, hash(rawPassword)) : Verification.NO_MATCH;
+		}
+		byte[] fingerprint = fingerprint(rawPassword);
+		byte[] remembered = verified.getIfPresent(stored);
+		if (remembered == null || !MessageDigest.isEqual(remembered, fingerprint)) {
+			if (!onPool(() -> encoder.matches(rawPassword, stored))) return Verification.NO_MATCH;
+			verified.put(stored, fingerprint);
+		}
+		return new Verification(true, encoder.upgradeEncoding(stored) ? hash(rawPassword) : null);
+	}
+
+	// Spend the same bcrypt work as a real check, for accounts that don't exist
+	public void verifyNothing(String rawPassword) {
+		onPool(() -> encoder.matches(rawPassword == null ? "" : rawPassword, dummyHash));
+	}
+
+	@PreDestroy
+	public void stop() {
+		pool.shutdownNow();
+	}
+
+	private <T> T onPool(Callable<T> work) {
+		Future<T> future = submit(work);
+		try {
+			return future.get(waitMs, TimeUnit.MILLISECONDS);
+		} catch (TimeoutException e) {
+			future.cancel(true);
+			throw new BusyException("Password hashing took longer than " + waitMs + " ms");
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			future.cancel(true);
+			throw new BusyException("Interrupted while waiting for password hashing");
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException runtime) throw runtime;
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+
+	// Queues work without waiting for it, package-private so tests can hold the pool busy
+	<T> Future<T> submit(Callable<T> work) {
+		try {
+			return pool.submit(work);
+		} catch (RejectedExecutionException e) {
+			throw new BusyException("Password hashing queue is full");
+		}
+	}
+
+	private byte[] fingerprint(String rawPassword) {
+		try {
+			Mac mac = Mac.getInstance("HmacSHA256");
+			mac.init(resultKey);
+			return mac.doFinal(rawPassword.getBytes(StandardCharsets.UTF_8));
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -0,0 +1,87 @@
+package com.example.AidLink.service;
+
+import com.example.AidLink.dto.EventTotals;
+import com.example.AidLink.dto.PlatformStats;
+import com.example.AidLink.event.EventChangedEvent;
+import com.example.AidLink.event.EventsImportedEvent;
+import com.example.AidLink.event.FundingChangedEvent;
+import com.example.AidLink.event.OrganizationChangedEvent;
+import com.example.AidLink.repository.EventRepository;
+import com.example.AidLink.repository.OrganizationRepository;
+import com.example.models.Event;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// Running platform totals kept in memory. The write paths adjust them through application events and
+// reconcile() periodically recomputes them from MongoDB, which also picks up writes made on other nodes.
+@Service
+public class PlatformStatsService {
+	private final EventRepository eventRepository;
+	private final OrganizationRepository organizationRepository;
+	private final AtomicLong moneyRaised = new AtomicLong();
+	private final AtomicLong activeDisasters = new AtomicLong();
+	private final AtomicLong peopleAffected = new AtomicLong();
+	private final AtomicLong approvedOrganizations = new AtomicLong();
+
+	public PlatformStatsService(EventRepository eventRepository, OrganizationRepository organizationRepository) {
+		this.eventRepository = eventRepository;
+		this.organizationRepository = organizationRepository;
+	}
+
+	public PlatformStats current() {
+		return new PlatformStats(moneyRaised.get(), activeDisasters.get(), peopleAffected.get(), approvedOrganizations.get());
+	}
+
+	@EventListener
+	public void onFundingChanged(FundingChangedEvent change) {
+		if (change.rebuilt()) {
+			reconcile();
+			return;
+		}
+		long added = 0;
+		for (int delta : change.deltasByEventId().values()) added += delta;
+		moneyRaised.addAndGet(added);
+	}
+
+	@EventListener
+	public void onEventChanged(EventChangedEvent change) {
+		EventTotals before = EventTotals.of(change.previous());
+		EventTotals after = EventTotals.of(change.current());
+		moneyRaised.addAndGet(after.moneyRaised() - before.moneyRaised());
+		activeDisasters.addAndGet(after.activeDisasters() - before.activeDisasters());
+		peopleAffected.addAndGet(after.peopleAffected() - before.peopleAffected());
+	}
+
+	@EventListener
+	public void onEventsImported(EventsImportedEvent imported) {
+		for (Event event : imported.events()) {
+			EventTotals totals = EventTotals.of(event);
+			moneyRaised.addAndGet(totals.moneyRaised());
+			activeDisasters.addAndGet(totals.activeDisasters());
+			peopleAffected.addAndGet(totals.peopleAffected());
+		}
+	}
+
+	// Approve can repeat and reject deletes without loading the document, so recount instead of guessing
+	// whether the status actually changed. Both are rare admin actions and the count is served by an index.
+	@EventListener
+	public void onOrganizationChanged(OrganizationChangedEvent change) {
+		if (change.has(OrganizationChangedEvent.Change.APPROVED) || change.has(OrganizationChangedEvent.Change.REJECTED)) {
+			approvedOrganizations.set(organizationRepository.countByRegistrationStatus_ApprovalStatus("approved"));
+		}
+	}
+
+	// Runs at startup and then periodically. Increments that land while the aggregation runs may be
+	// counted twice or not at all until the next run.
+	@Scheduled(fixedDelayString = "${aidlink.stats.reconcile-ms:60000}")
+	public void reconcile() {
+		EventTotals totals = eventRepository.sumTotals();
+		moneyRaised.set(totals.moneyRaised());
+		activeDisasters.set(totals.activeDisasters());
+		peopleAffected.set(totals.peopleAffected());
+		approvedOrganizations.set(organizationRepository.countByRegistrationStatus_ApprovalStatus("approved"));
+	}
+}
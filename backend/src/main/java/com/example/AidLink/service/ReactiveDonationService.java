@@ -0,0 +1,68 @@
+package com.example.AidLink.service;
+
+import com.example.AidLink.repository.ReactiveDonationRepository;
+import com.example.AidLink.repository.ReactiveEventRepository;
+import com.example.models.Donation;
+import com.example.models.Event;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Optional;
+
+// Non-blocking version of DonationService for the reactive deployment, with the same ledger semantics
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveDonationService {
+	private static final Logger donationLog = LoggerFactory.getLogger(DonationService.LOG_CATEGORY);
+
+	private final ReactiveDonationRepository donationRepository;
+	private final ReactiveEventRepository eventRepository;
+	// Present only when aidlink.donations.mode=coalesced
+	private final Optional<DonationCoalescer> coalescer;
+	private final DonationMetrics metrics;
+
+	public ReactiveDonationService(ReactiveDonationRepository donationRepository, ReactiveEventRepository eventRepository,
+			Optional<DonationCoalescer> coalescer, DonationMetrics metrics) {
+		this.donationRepository = donationRepository;
+		this.eventRepository = eventRepository;
+		this.coalescer = coalescer;
+		this.metrics = metrics;
+	}
+
+	// Emits the event with the donation included in currentFunding, or completes empty if the event does not exist
+	public Mono<Event> recordDonation(Integer eventId, int amount, String userEmail) {
+		return eventRepository.findFundingById(eventId)
+				.flatMap(event -> record(eventId, amount, userEmail).thenReturn(withDonation(event, amount)))
+				.doOnNext(event -> {
+					metrics.recorded(amount);
+					donationLog.info("Donation recorded for event {}: amount={} expectedFunding={}", eventId, amount,
+							event.getCurrentFunding());
+				})
+				.doOnError(e -> metrics.failed())
+				.switchIfEmpty(Mono.fromRunnable(() -> {
+					donationLog.info("Donation to unknown event {}", eventId);
+					metrics.eventNotFound();
+				}));
+	}
+
+	private Mono<Void> record(Integer eventId, int amount, String userEmail) {
+		if (coalescer.isPresent()) {
+			// The journal append may fsync, keep it off the event loop
+			return Mono.<Void>fromCallable(() -> {
+				coalescer.get().accept(eventId, userEmail, amount);
+				return null;
+			}).subscribeOn(Schedulers.boundedElastic());
+		}
+		return donationRepository.insert(new Donation(eventId, userEmail, amount)).then();
+	}
+
+	private static Event withDonation(Event event, int amount) {
+		int currentFunding = event.getCurrentFunding() == null ? 0 : event.getCurrentFunding();
+		event.setCurrentFunding(currentFunding + amount);
+		return event;
+	}
+}
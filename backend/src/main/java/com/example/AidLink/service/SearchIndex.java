@@ -0,0 +1,396 @@
+package com.example.AidLink.service;
+
+import com.example.AidLink.dto.SearchHit;
+import com.example.AidLink.dto.SearchQuery;
+import com.example.AidLink.dto.SearchResults;
+import com.example.AidLink.event.EventChangedEvent;
+import com.example.AidLink.event.EventsImportedEvent;
+import com.example.AidLink.event.OrganizationChangedEvent;
+import com.example.AidLink.repository.EventRepository;
+import com.example.AidLink.repository.OrganizationRepository;
+import com.example.models.Event;
+import com.example.models.Organization;
+import jakarta.annotation.PreDestroy;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.facet.DrillDownQuery;
+import org.apache.lucene.facet.FacetResult;
+import org.apache.lucene.facet.FacetsCollector;
+import org.apache.lucene.facet.FacetsConfig;
+import org.apache.lucene.facet.LabelAndValue;
+import org.apache.lucene.facet.sortedset.DefaultSortedSetDocValuesReaderState;
+import org.apache.lucene.facet.sortedset.SortedSetDocValuesFacetCounts;
+import org.apache.lucene.facet.sortedset.SortedSetDocValuesFacetField;
+import org.apache.lucene.facet.sortedset.SortedSetDocValuesReaderState;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.simple.SimpleQueryParser;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.ControlledRealTimeReopenThread;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.AlreadyClosedException;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+// In-memory Lucene index over events and approved organizations. Kept current from the write paths
+// through application events, built from MongoDB at startup and by rebuild().
+@Service
+public class SearchIndex {
+	private static final Logger log = LoggerFactory.getLogger(SearchIndex.class);
+
+	private static final String KEY = "key"; // type:id, unique per document
+	private static final String TYPE = "type";
+	private static final String ID = "id";
+	// Stored for display only, separate from the indexed fields since Lucene keeps one schema per field name
+	private static final String DISPLAY_TITLE = "displayTitle";
+	private static final String DISPLAY_SUBTITLE = "displaySubtitle";
+	private static final String TITLE = "title";
+	private static final String DESCRIPTION = "description";
+	private static final String LOCATION = "location";
+	private static final String LEGAL_NAME = "legalName";
+	private static final String COMMON_NAME = "commonName";
+	private static final String FOCUS_AREAS = "focusAreas";
+	private static final String COUNTRIES = "countries";
+	private static final List<String> FACETS = List.of("category", "severity", "organizationType");
+	private static final int FACET_VALUES = 20;
+	// Single-document changes are made visible by a background reopen: within the max staleness on its own,
+	// or within the min staleness for a writer waiting on its change, shared by everyone waiting meanwhile
+	private static final double REOPEN_MAX_STALE_SEC = 1.0;
+	private static final double REOPEN_MIN_STALE_SEC = 0.025;
+	// Names weigh more than free text
+	private static final Map<String, Float> WEIGHTS = Map.of(
+			TITLE, 3f, LEGAL_NAME, 3f, COMMON_NAME, 3f,
+			LOCATION, 1.5f, COUNTRIES, 1.5f, FOCUS_AREAS, 1.5f,
+			DESCRIPTION, 1f);
+
+	// A writer with the searchers and the reopen thread over it. A rebuild fills a new one and swaps it in whole.
+	private record Index(IndexWriter writer, SearcherManager searcherManager,
+			ControlledRealTimeReopenThread<IndexSearcher> reopenThread) {
+
+		// Searchers still acquired from it stay usable until they are released
+		void close() throws IOException {
+			reopenThread.close();
+			searcherManager.close();
+			writer.close();
+		}
+	}
+
+	private final EventRepository eventRepository;
+	private final OrganizationRepository organizationRepository;
+	private final Analyzer analyzer = new StandardAnalyzer();
+	private final FacetsConfig facetsConfig = new FacetsConfig();
+	// Serializes rebuilds with single-document updates so a rebuild never puts back an older version
+	private final ReentrantLock writeLock = new ReentrantLock();
+	// Replaced only by rebuild(), under the write lock
+	private volatile Index index;
+	// Facet ordinals per reader, recreated when a refresh opens a new reader
+	private volatile SortedSetDocValuesReaderState facetState;
+
+	public SearchIndex(EventRepository eventRepository, OrganizationRepository organizationRepository) throws IOException {
+		this.eventRepository = eventRepository;
+		this.organizationRepository = organizationRepository;
+		this.index = open();
+	}
+
+	public SearchResults search(SearchQuery query) throws IOException {
+		Index current = index;
+		IndexSearcher searcher;
+		while (true) {
+			try {
+				searcher = current.searcherManager().acquire();
+				break;
+			} catch (AlreadyClosedException e) {
+				// A rebuild swapped it out in between, its replacement is already set
+				if (index == current) throw e;
+				current = index;
+			}
+		}
+		try {
+			int window = Math.min((query.page() + 1) * query.size(), SearchQuery.MAX_WINDOW);
+			FacetsCollector facetsCollector = new FacetsCollector();
+			TopDocs top = FacetsCollector.search(searcher, toLuceneQuery(query), window, facetsCollector);
+
+			List<SearchHit> hits = new ArrayList<>();
+			StoredFields stored = searcher.storedFields();
+			for (int i = query.page() * query.size(); i < top.scoreDocs.length; i++) {
+				ScoreDoc scoreDoc = top.scoreDocs[i];
+				Document doc = stored.document(scoreDoc.doc);
+				hits.add(new SearchHit(doc.get(TYPE), doc.get(ID), doc.get(DISPLAY_TITLE), doc.get(DISPLAY_SUBTITLE), scoreDoc.score));
+			}
+			return new SearchResults(hits, top.totalHits.value, query.page(), query.size(),
+					facetCounts(searcher.getIndexReader(), facetsCollector));
+		} finally {
+			current.searcherManager().release(searcher);
+		}
+	}
+
+	@EventListener
+	public void onEventChanged(EventChangedEvent change) throws IOException {
+		if (change.current() == null) return;
+		update(key(SearchQuery.TYPE_EVENT, change.eventId()), toDocument(change.current()));
+	}
+
+	// A whole import batch becomes visible with a single refresh
+	@EventListener
+	public void onEventsImported(EventsImportedEvent imported) throws IOException {
+		writeLock.lock();
+		try {
+			Index current = index;
+			for (Event event : imported.events()) {
+				current.writer().updateDocument(new Term(KEY, key(SearchQuery.TYPE_EVENT, event.getId())),
+						facetsConfig.build(toDocument(event)));
+			}
+			current.searcherManager().maybeRefreshBlocking();
+		} finally {
+			writeLock.unlock();
+		}
+	}
+
+	// Only approved organizations are searchable, rejected ones are deleted from MongoDB. A registration
+	// is pending and may have saved over an approved organization with the same id, so it is deleted too.
+	// Event registrations don't change searchable fields.
+	// A whole review is loaded with one query and becomes visible with one reopen.
+	@EventListener
+	public void onOrganizationChanged(OrganizationChangedEvent change) throws IOException {
+		List<String> approved = change.ids(OrganizationChangedEvent.Change.APPROVED);
+		List<String> removed = Stream.concat(change.ids(OrganizationChangedEvent.Change.REJECTED).stream(),
+				change.ids(OrganizationChangedEvent.Change.REGISTERED).stream()).toList();
+		if (approved.isEmpty() && removed.isEmpty()) return;
+		List<Organization> reloaded = approved.isEmpty() ? List.of() : organizationRepository.findByIdIn(approved);
+
+		Index current;
+		long generation = -1;
+		writeLock.lock();
+		try {
+			current = index;
+			for (Organization org : reloaded) {
+				generation = current.writer().updateDocument(new Term(KEY, key(SearchQuery.TYPE_ORGANIZATION, org.getId())),
+						facetsConfig.build(toDocument(org)));
+			}
+			for (String id : removed) {
+				generation = current.writer().deleteDocuments(new Term(KEY, key(SearchQuery.TYPE_ORGANIZATION, id)));
+			}
+		} finally {
+			writeLock.unlock();
+		}
+		if (generation >= 0) awaitGeneration(current, generation);
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void buildOnStartup() throws IOException {
+		rebuild();
+	}
+
+	// Recreate the index from MongoDB, returns the number of documents indexed.
+	// The new contents go into a separate index that replaces the current one once complete, so searches
+	// keep seeing the previous contents in full until then.
+	public long rebuild() throws IOException {
+		writeLock.lock();
+		try {
+			Index rebuilt = open();
+			long indexed = 0;
+			try {
+				try (Stream<Event> events = eventRepository.streamAllBy()) {
+					for (Event event : (Iterable<Event>) events::iterator) {
+						rebuilt.writer().addDocument(facetsConfig.build(toDocument(event)));
+						indexed++;
+					}
+				}
+				try (Stream<Organization> orgs = organizationRepository.streamByRegistrationStatus_ApprovalStatus("approved")) {
+					for (Organization org : (Iterable<Organization>) orgs::iterator) {
+						rebuilt.writer().addDocument(facetsConfig.build(toDocument(org)));
+						indexed++;
+					}
+				}
+				rebuilt.searcherManager().maybeRefreshBlocking();
+			} catch (IOException | RuntimeException e) {
+				rebuilt.close();
+				throw e;
+			}
+			Index previous = index;
+			index = rebuilt;
+			previous.close();
+			log.info("Indexed {} events and organizations", indexed);
+			return indexed;
+		} finally {
+			writeLock.unlock();
+		}
+	}
+
+	@PreDestroy
+	public void close() throws IOException {
+		index.close();
+	}
+
+	private Index open() throws IOException {
+		IndexWriter writer = new IndexWriter(new ByteBuffersDirectory(), new IndexWriterConfig(analyzer));
+		SearcherManager searcherManager = new SearcherManager(writer, null);
+		ControlledRealTimeReopenThread<IndexSearcher> reopenThread = new ControlledRealTimeReopenThread<>(writer,
+				searcherManager, REOPEN_MAX_STALE_SEC, REOPEN_MIN_STALE_SEC);
+		reopenThread.setName("search-index-reopen");
+		reopenThread.setDaemon(true);
+		reopenThread.start();
+		return new Index(writer, searcherManager, reopenThread);
+	}
+
+	private Query toLuceneQuery(SearchQuery query) {
+		Query text;
+		if (query.text() == null || query.text().isBlank()) {
+			text = new MatchAllDocsQuery();
+		} else {
+			SimpleQueryParser parser = new SimpleQueryParser(analyzer, WEIGHTS);
+			parser.setDefaultOperator(BooleanClause.Occur.MUST);
+			text = parser.parse(query.text());
+		}
+		if (query.type() != null) {
+			text = new BooleanQuery.Builder()
+					.add(text, BooleanClause.Occur.MUST)
+					.add(new TermQuery(new Term(TYPE, query.type())), BooleanClause.Occur.FILTER)
+					.build();
+		}
+		DrillDownQuery drillDown = new DrillDownQuery(facetsConfig, text);
+		if (query.category() != null) drillDown.add("category", query.category());
+		if (query.severity() != null) drillDown.add("severity", query.severity());
+		if (query.organizationType() != null) drillDown.add("organizationType", query.organizationType());
+		return drillDown;
+	}
+
+	private Map<String, Map<String, Integer>> facetCounts(IndexReader reader, FacetsCollector collector) throws IOException {
+		Map<String, Map<String, Integer>> counts = new LinkedHashMap<>();
+		SortedSetDocValuesReaderState state = facetState(reader);
+		if (state == null) return counts;
+		SortedSetDocValuesFacetCounts facets = new SortedSetDocValuesFacetCounts(state, collector);
+		for (FacetResult result : facets.getAllDims(FACET_VALUES)) {
+			if (!FACETS.contains(result.dim)) continue;
+			Map<String, Integer> values = new LinkedHashMap<>();
+			for (LabelAndValue labelAndValue : result.labelValues) {
+				values.put(labelAndValue.label, labelAndValue.value.intValue());
+			}
+			counts.put(result.dim, values);
+		}
+		return counts;
+	}
+
+	private SortedSetDocValuesReaderState facetState(IndexReader reader) throws IOException {
+		SortedSetDocValuesReaderState state = facetState;
+		if (state != null && state.getReader() == reader) return state;
+		try {
+			state = new DefaultSortedSetDocValuesReaderState(reader, facetsConfig);
+		} catch (IllegalArgumentException e) {
+			// Nothing with a facet value has been indexed yet
+			return null;
+		}
+		facetState = state;
+		return state;
+	}
+
+	// Returns once the change is searchable. The wait happens outside the write lock, so concurrent
+	// changes are published by one reopen instead of one refresh each.
+	// A rebuild swapping the index meanwhile closes its reopen thread, which releases the wait.
+	private void update(String key, Document doc) throws IOException {
+		Index current;
+		long generation;
+		writeLock.lock();
+		try {
+			current = index;
+			if (doc == null) {
+				generation = current.writer().deleteDocuments(new Term(KEY, key));
+			} else {
+				generation = current.writer().updateDocument(new Term(KEY, key), facetsConfig.build(doc));
+			}
+		} finally {
+			writeLock.unlock();
+		}
+		awaitGeneration(current, generation);
+	}
+
+	private static void awaitGeneration(Index index, long generation) {
+		try {
+			index.reopenThread().waitForGeneration(generation);
+		} catch (InterruptedException e) {
+			// Still indexed, it becomes visible with the next reopen
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static Document toDocument(Event event) {
+		Document doc = base(SearchQuery.TYPE_EVENT, String.valueOf(event.getId()), event.getTitle(), event.getLocation());
+		text(doc, TITLE, event.getTitle());
+		text(doc, DESCRIPTION, event.getDescription());
+		text(doc, LOCATION, event.getLocation());
+		facet(doc, "category", event.getCategory());
+		facet(doc, "severity", event.getSeverity());
+		return doc;
+	}
+
+	private static Document toDocument(Organization org) {
+		Organization.OrganizationInfo info = org.getOrganizationInfo();
+		String legalName = info == null ? null : info.getLegalName();
+		String commonName = info == null ? null : info.getCommonName();
+		List<String> countries = new ArrayList<>();
+		if (org.getAddressInfo() != null && org.getAddressInfo().getOperationalRegions() != null) {
+			for (Organization.AddressInfo.OperationalRegion region : org.getAddressInfo().getOperationalRegions()) {
+				if (region.getCountries() != null) countries.addAll(region.getCountries());
+			}
+		}
+		Document doc = base(SearchQuery.TYPE_ORGANIZATION, org.getId(),
+				commonName != null && !commonName.isBlank() ? commonName : legalName, String.join(", ", countries));
+		text(doc, LEGAL_NAME, legalName);
+		text(doc, COMMON_NAME, commonName);
+		countries.forEach(country -> text(doc, COUNTRIES, country));
+		if (org.getOrganizationDetails() != null && org.getOrganizationDetails().getFocusAreas() != null) {
+			org.getOrganizationDetails().getFocusAreas().forEach(area -> text(doc, FOCUS_AREAS, area));
+		}
+		if (info != null) facet(doc, "organizationType", info.getOrganizationType());
+		return doc;
+	}
+
+	private static Document base(String type, String id, String title, String subtitle) {
+		Document doc = new Document();
+		doc.add(new StringField(KEY, key(type, id), Field.Store.NO));
+		doc.add(new StringField(TYPE, type, Field.Store.YES));
+		doc.add(new StoredField(ID, id));
+		if (title != null) doc.add(new StoredField(DISPLAY_TITLE, title));
+		if (subtitle != null && !subtitle.isEmpty()) doc.add(new StoredField(DISPLAY_SUBTITLE, subtitle));
+		return doc;
+	}
+
+	private static void text(Document doc, String field, String value) {
+		if (value != null && !value.isBlank()) doc.add(new TextField(field, value, Field.Store.NO));
+	}
+
+	private static void facet(Document doc, String dim, String value) {
+		if (value != null && !value.isBlank()) doc.add(new SortedSetDocValuesFacetField(dim, value));
+	}
+
+	private static String key(String type, Object id) {
+		return type + ":" + id;
+	}
+}
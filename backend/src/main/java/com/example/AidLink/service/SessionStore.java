@@ -0,0 +1,25 @@
+package com.example.AidLink.service;
+
+import com.example.models.AuthSession;
+
+import java.time.Instant;
+import java.util.Optional;
+
+// Where login sessions live, chosen with aidlink.sessions.store: "mongo" (default) is shared by every
+// instance, "memory" keeps them in this process for tests and single-instance runs.
+// Tokens can't be revoked on their own, so JwtService only accepts a token while its session exists here.
+public interface SessionStore {
+	AuthSession create(String subject, String role, Instant expiresAt);
+
+	// Empty when the session was deleted, has expired or has been idle for longer than the idle timeout
+	Optional<AuthSession> find(String sessionId);
+
+	// Record activity on the session, implementations may write it later
+	void touch(String sessionId);
+
+	void delete(String sessionId);
+
+	static boolean isLive(AuthSession session, Instant now, long idleTimeoutMs) {
+		return session.getExpiresAt().isAfter(now) && session.getLastAccessedAt().plusMillis(idleTimeoutMs).isAfter(now);
+	}
+}
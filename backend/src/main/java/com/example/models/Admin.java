@@ -10,7 +10,7 @@ import org.springframework.data.annotation.Id;
 public class Admin {
     @Id
     private String username; // use as username (like "admin1")
-    private String password; // plaintext for demo
+    private String password; // bcrypt hash, plaintext until the first login rehashes it
 
     // getters/setters
     public String getUsername() { return username; }
@@ -0,0 +1,49 @@
+package com.example.models;
+
+import java.time.Instant;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+// Server-side record of a login, its id is the jti of the token handed out for it
+@Document(collection = "sessions")
+public class AuthSession {
+    @Id
+    private String id;
+    private String subject; // user email or admin username
+    private String role;
+    private Instant createdAt;
+    private Instant lastAccessedAt; // written lazily, may trail the latest request by the flush interval
+    @Indexed(expireAfterSeconds = 0) // MongoDB removes the document once this time has passed
+    private Instant expiresAt;
+
+    public AuthSession() {}
+
+    public AuthSession(String id, String subject, String role, Instant createdAt, Instant expiresAt) {
+        this.id = id;
+        this.subject = subject;
+        this.role = role;
+        this.createdAt = createdAt;
+        this.lastAccessedAt = createdAt;
+        this.expiresAt = expiresAt;
+    }
+
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+
+    public String getSubject() { return subject; }
+    public void setSubject(String subject) { this.subject = subject; }
+
+    public String getRole() { return role; }
+    public void setRole(String role) { this.role = role; }
+
+    public Instant getCreatedAt() { return createdAt; }
+    public void setCreatedAt(Instant createdAt) { this.createdAt = createdAt; }
+
+    public Instant getLastAccessedAt() { return lastAccessedAt; }
+    public void setLastAccessedAt(Instant lastAccessedAt) { this.lastAccessedAt = lastAccessedAt; }
+
+    public Instant getExpiresAt() { return expiresAt; }
+    public void setExpiresAt(Instant expiresAt) { this.expiresAt = expiresAt; }
+}
@@ -0,0 +1,18 @@
+package com.example.models;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+// Named monotonic sequence, e.g. "events" for event ids
+@Document(collection = "counters")
+public class Counter {
+    @Id
+    private String id;
+    private long seq;
+
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+
+    public long getSeq() { return seq; }
+    public void setSeq(long seq) { this.seq = seq; }
+}
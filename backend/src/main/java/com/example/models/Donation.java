@@ -0,0 +1,59 @@
+package com.example.models;
+
+import java.time.Instant;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+// Append-only ledger entry. Event and user totals are derived from these.
+@Document(collection = "donations")
+@CompoundIndex(name = "status_id", def = "{ 'status': 1, '_id': 1 }")
+@CompoundIndex(name = "event_created", def = "{ 'eventId': 1, 'createdAt': -1 }")
+public class Donation {
+    @Id
+    private String id;
+    private Integer eventId;
+    private String userEmail;
+    private int amount;
+    private Instant createdAt;
+    private String status; // "pending", "claimed" or "applied"
+    @Indexed(sparse = true)
+    private String batchId; // set by the aggregator that claimed this entry
+    private Instant claimedAt; // when batchId was claimed, the claim lapses after aidlink.donations.claim-lease-ms
+
+    public Donation() {}
+
+    public Donation(Integer eventId, String userEmail, int amount) {
+        this.eventId = eventId;
+        this.userEmail = userEmail;
+        this.amount = amount;
+        this.createdAt = Instant.now();
+        this.status = "pending";
+    }
+
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+
+    public Integer getEventId() { return eventId; }
+    public void setEventId(Integer eventId) { this.eventId = eventId; }
+
+    public String getUserEmail() { return userEmail; }
+    public void setUserEmail(String userEmail) { this.userEmail = userEmail; }
+
+    public int getAmount() { return amount; }
+    public void setAmount(int amount) { this.amount = amount; }
+
+    public Instant getCreatedAt() { return createdAt; }
+    public void setCreatedAt(Instant createdAt) { this.createdAt = createdAt; }
+
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+
+    public String getBatchId() { return batchId; }
+    public void setBatchId(String batchId) { this.batchId = batchId; }
+
+    public Instant getClaimedAt() { return claimedAt; }
+    public void setClaimedAt(Instant claimedAt) { this.claimedAt = claimedAt; }
+}
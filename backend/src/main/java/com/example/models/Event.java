@@ -1,6 +1,10 @@
 package com.example.models;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.GeoSpatialIndexType;
+import org.springframework.data.mongodb.core.index.GeoSpatialIndexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import lombok.AllArgsConstructor;
@@ -8,6 +12,19 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Document(collection = "events")
+// Listing indexes: equality filters first, then the sort key, then _id as the keyset tie-breaker
+@CompoundIndex(name = "ongoing_start", def = "{ 'isOngoing': 1, 'startDate': -1, '_id': -1 }")
+@CompoundIndex(name = "ongoing_progress", def = "{ 'isOngoing': 1, 'fundingProgress': -1, '_id': -1 }")
+@CompoundIndex(name = "category_ongoing_start", def = "{ 'category': 1, 'isOngoing': 1, 'startDate': -1, '_id': -1 }")
+@CompoundIndex(name = "category_ongoing_progress", def = "{ 'category': 1, 'isOngoing': 1, 'fundingProgress': -1, '_id': -1 }")
+@CompoundIndex(name = "category_start", def = "{ 'category': 1, 'startDate': -1, '_id': -1 }")
+@CompoundIndex(name = "category_progress", def = "{ 'category': 1, 'fundingProgress': -1, '_id': -1 }")
+@CompoundIndex(name = "severity_start", def = "{ 'severity': 1, 'startDate': -1, '_id': -1 }")
+@CompoundIndex(name = "severity_progress", def = "{ 'severity': 1, 'fundingProgress': -1, '_id': -1 }")
+@CompoundIndex(name = "urgency_start", def = "{ 'urgencyLevel': 1, 'startDate': -1, '_id': -1 }")
+@CompoundIndex(name = "urgency_progress", def = "{ 'urgencyLevel': 1, 'fundingProgress': -1, '_id': -1 }")
+@CompoundIndex(name = "start", def = "{ 'startDate': -1, '_id': -1 }")
+@CompoundIndex(name = "progress", def = "{ 'fundingProgress': -1, '_id': -1 }")
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
@@ -28,6 +45,9 @@ public class Event {
     private String urgencyLevel;
     private Integer fundingGoal;
     private Integer currentFunding;
+    private Double fundingProgress; // currentFunding / fundingGoal, kept in sync by EventRepositoryImpl
+    @GeoSpatialIndexed(type = GeoSpatialIndexType.GEO_2DSPHERE)
+    private GeoJsonPoint coordinates; // where the disaster is, GeoJSON order [longitude, latitude]
 
     // Getters and Setters
     public Integer getId() { return id; }
@@ -71,4 +91,10 @@ public class Event {
 
     public Integer getCurrentFunding() { return currentFunding; }
     public void setCurrentFunding(Integer currentFunding) { this.currentFunding = currentFunding; }
+
+    public Double getFundingProgress() { return fundingProgress; }
+    public void setFundingProgress(Double fundingProgress) { this.fundingProgress = fundingProgress; }
+
+    public GeoJsonPoint getCoordinates() { return coordinates; }
+    public void setCoordinates(GeoJsonPoint coordinates) { this.coordinates = coordinates; }
 }
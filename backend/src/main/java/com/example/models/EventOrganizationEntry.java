@@ -0,0 +1,48 @@
+package com.example.models;
+
+import java.time.Instant;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import com.example.AidLink.dto.OrganizationSummary;
+
+// One row of the eventId -> approved organizations index, maintained by ApprovedOrganizationIndex.
+// The id is "<eventId>:<organizationId>" so re-indexing an organization is idempotent.
+@Document(collection = "event_organizations")
+public class EventOrganizationEntry {
+    @Id
+    private String id;
+    @Indexed
+    private Integer eventId;
+    @Indexed
+    private String organizationId;
+    private OrganizationSummary organization;
+    private Instant indexedAt; // when this entry was written, a rebuild removes the ones it did not rewrite
+
+    public EventOrganizationEntry() {}
+
+    public EventOrganizationEntry(Integer eventId, OrganizationSummary organization) {
+        this.id = eventId + ":" + organization.id();
+        this.eventId = eventId;
+        this.organizationId = organization.id();
+        this.organization = organization;
+        this.indexedAt = Instant.now();
+    }
+
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+
+    public Integer getEventId() { return eventId; }
+    public void setEventId(Integer eventId) { this.eventId = eventId; }
+
+    public String getOrganizationId() { return organizationId; }
+    public void setOrganizationId(String organizationId) { this.organizationId = organizationId; }
+
+    public OrganizationSummary getOrganization() { return organization; }
+    public void setOrganization(OrganizationSummary organization) { this.organization = organization; }
+
+    public Instant getIndexedAt() { return indexedAt; }
+    public void setIndexedAt(Instant indexedAt) { this.indexedAt = indexedAt; }
+}
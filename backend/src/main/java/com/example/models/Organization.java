@@ -2,9 +2,14 @@ package com.example.models;
 
 import java.util.List;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 @Document(collection = "organizations")
+@CompoundIndex(name = "approval_event", def = "{ 'registrationStatus.approvalStatus': 1, 'eventRegistrations.eventId': 1 }")
+@CompoundIndex(name = "headquarters_geo", def = "{ 'addressInfo.headquarters.coordinates': '2dsphere' }")
+@CompoundIndex(name = "field_offices_geo", def = "{ 'addressInfo.fieldOffices.coordinates': '2dsphere' }")
 public class Organization {
     @Id
     private String id;
@@ -77,6 +82,7 @@ public class Organization {
                 private String state;
                 private String zipCode;
                 private String country;
+                private GeoJsonPoint coordinates; // [longitude, latitude]
                 // Getters and setters
                 public String getStreet() { return street; }
                 public void setStreet(String street) { this.street = street; }
@@ -88,6 +94,8 @@ public class Organization {
                 public void setZipCode(String zipCode) { this.zipCode = zipCode; }
                 public String getCountry() { return country; }
                 public void setCountry(String country) { this.country = country; }
+                public GeoJsonPoint getCoordinates() { return coordinates; }
+                public void setCoordinates(GeoJsonPoint coordinates) { this.coordinates = coordinates; }
             }
             public static class OperationalRegion {
                 private String region;
@@ -106,6 +114,7 @@ public class Organization {
                 private String address;
                 private String phone;
                 private String email;
+                private GeoJsonPoint coordinates; // [longitude, latitude]
                 // Getters and setters
                 public String getName() { return name; }
                 public void setName(String name) { this.name = name; }
@@ -115,6 +124,8 @@ public class Organization {
                 public void setPhone(String phone) { this.phone = phone; }
                 public String getEmail() { return email; }
                 public void setEmail(String email) { this.email = email; }
+                public GeoJsonPoint getCoordinates() { return coordinates; }
+                public void setCoordinates(GeoJsonPoint coordinates) { this.coordinates = coordinates; }
             }
         }
 
@@ -12,6 +12,8 @@ public class User {
     private String username;
 
     private int donatedAmount = 0; // initialized to 0 by default
+    // Part of donatedAmount that did not come through the donation ledger, maintained by the repository
+    private Integer donatedBaseline;
 
     public User() {}
 
@@ -20,6 +22,7 @@ public class User {
         this.password = password;
         this.username = username;
         this.donatedAmount = 0;
+        this.donatedBaseline = 0;
     }
 
     public String getId() {
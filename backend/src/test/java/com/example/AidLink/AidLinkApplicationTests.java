@@ -2,8 +2,12 @@ package com.example.AidLink;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.AidLink.service.JwtService;
 
 @SpringBootTest
+@ActiveProfiles(JwtService.DEV_PROFILE)
 class AidLinkApplicationTests {
 
 	@Test
@@ -0,0 +1,167 @@
+package com.example.AidLink.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.containers.Network;
+import org.testcontainers.containers.ToxiproxyContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.example.AidLink.AidLinkApplication;
+import com.example.AidLink.service.JwtService;
+import com.example.models.Event;
+
+import eu.rekawek.toxiproxy.Proxy;
+import eu.rekawek.toxiproxy.ToxiproxyClient;
+import eu.rekawek.toxiproxy.model.ToxicDirection;
+
+// Boots the app once per execution mode against the same MongoDB, reached through a Toxiproxy that delays
+// every reply like a remote database would, and compares throughput and latency. The delay is on the wire,
+// so it costs what a slow network costs: a pooled connection and a blocked request thread per query.
+// Excluded from the default build, run with: mvn test -Pload-test
+@Tag("load")
+@Testcontainers(disabledWithoutDocker = true)
+class ExecutionModeLoadTest {
+
+	private static final Network network = Network.newNetwork();
+
+	@Container
+	static MongoDBContainer mongo = new MongoDBContainer("mongo:7.0").withNetwork(network).withNetworkAliases("mongo");
+
+	@Container
+	static ToxiproxyContainer toxiproxy = new ToxiproxyContainer("ghcr.io/shopify/toxiproxy:2.5.0").withNetwork(network);
+
+	private static final int EVENTS = 200;
+	private static final int REQUESTS = 4000;
+	private static final int CONCURRENCY = 400;
+	private static final long DB_LATENCY_MS = 20;
+	// Platform threads cap concurrent requests at the Tomcat pool, the MongoDB pool is sized above both
+	// modes' concurrency so it is not what limits either of them
+	private static final int TOMCAT_THREADS = 50;
+	private static final int MONGO_POOL = 500;
+	private static final int PROXY_PORT = 8666;
+
+	@BeforeAll
+	static void delayDatabase() throws Exception {
+		ToxiproxyClient client = new ToxiproxyClient(toxiproxy.getHost(), toxiproxy.getControlPort());
+		Proxy proxy = client.createProxy("mongo", "0.0.0.0:" + PROXY_PORT, "mongo:27017");
+		proxy.toxics().latency("db-latency", ToxicDirection.DOWNSTREAM, DB_LATENCY_MS);
+	}
+
+	@Test
+	void virtualThreadsOutlastThePlatformPoolWhenRequestsBlockOnTheDatabase() throws Exception {
+		Result platform = run(false);
+		Result virtual = run(true);
+		System.out.println("ExecutionModeLoadTest: " + platform);
+		System.out.println("ExecutionModeLoadTest: " + virtual);
+
+		assertThat(platform.errors()).isZero();
+		assertThat(virtual.errors()).isZero();
+		// 400 clients against 50 platform threads queue 8 deep, virtual threads take them all at once
+		assertThat(virtual.requestsPerSecond()).isGreaterThan(platform.requestsPerSecond() * 1.5);
+		assertThat(virtual.p50Millis()).isLessThan(platform.p50Millis());
+	}
+
+	private Result run(boolean virtualThreads) throws Exception {
+		// Direct connection: replica set discovery would hand out the container address and bypass the proxy
+		String uri = "mongodb://" + toxiproxy.getHost() + ":" + toxiproxy.getMappedPort(PROXY_PORT)
+				+ "/EventsAPI?directConnection=true&maxPoolSize=" + MONGO_POOL;
+		// As arguments rather than default properties, which application.properties would override
+		try (ConfigurableApplicationContext context = new SpringApplicationBuilder(AidLinkApplication.class)
+				.profiles(JwtService.DEV_PROFILE)
+				.run("--server.port=0",
+						"--management.server.port=0",
+						"--server.tomcat.threads.max=" + TOMCAT_THREADS,
+						"--spring.data.mongodb.uri=" + uri,
+						"--spring.threads.virtual.enabled=" + virtualThreads)) {
+			seed(context.getBean(MongoTemplate.class));
+			int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+			return fire(virtualThreads ? "virtual" : "platform", port);
+		}
+	}
+
+	private void seed(MongoTemplate mongoTemplate) {
+		if (mongoTemplate.count(new Query(), Event.class) > 0) return;
+		List<Event> events = new ArrayList<>(EVENTS);
+		for (int i = 1; i <= EVENTS; i++) {
+			Event event = new Event();
+			event.setId(i);
+			event.setTitle("Load event " + i);
+			event.setCategory(i % 2 == 0 ? "flood" : "earthquake");
+			event.setFundingGoal(10_000);
+			event.setCurrentFunding(i * 10);
+			events.add(event);
+		}
+		mongoTemplate.insertAll(events);
+	}
+
+	private Result fire(String mode, int port) throws Exception {
+		HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+		long[] latencies = new long[REQUESTS];
+		int errors = 0;
+		long start = System.nanoTime();
+		try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+			Semaphore inFlight = new Semaphore(CONCURRENCY);
+			List<Future<Integer>> results = new ArrayList<>(REQUESTS);
+			for (int i = 0; i < REQUESTS; i++) {
+				int n = i;
+				// The listing endpoint is not cached, so every request reaches MongoDB
+				URI uri = URI.create("http://localhost:" + port + "/api/admin/events/page?limit=20&category="
+						+ (n % 2 == 0 ? "flood" : "earthquake"));
+				results.add(clients.submit(() -> {
+					inFlight.acquire();
+					try {
+						long sent = System.nanoTime();
+						HttpResponse<Void> response = client.send(HttpRequest.newBuilder(uri).GET().build(),
+								HttpResponse.BodyHandlers.discarding());
+						latencies[n] = System.nanoTime() - sent;
+						return response.statusCode();
+					} finally {
+						inFlight.release();
+					}
+				}));
+			}
+			for (Future<Integer> result : results) {
+				try {
+					if (result.get() != 200) errors++;
+				} catch (Exception e) {
+					errors++;
+				}
+			}
+		}
+		long elapsed = System.nanoTime() - start;
+		Arrays.sort(latencies);
+		return new Result(mode, REQUESTS * 1_000_000_000.0 / elapsed,
+				latencies[REQUESTS / 2] / 1_000_000, latencies[REQUESTS * 99 / 100] / 1_000_000, errors);
+	}
+
+	record Result(String mode, double requestsPerSecond, long p50Millis, long p99Millis, int errors) {
+		@Override
+		public String toString() {
+			return String.format("%s threads: %.0f req/s, p50 %d ms, p99 %d ms, %d errors",
+					mode, requestsPerSecond, p50Millis, p99Millis, errors);
+		}
+	}
+}
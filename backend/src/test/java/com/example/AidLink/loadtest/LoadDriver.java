@@ -0,0 +1,94 @@
+package com.example.AidLink.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.LockSupport;
+
+// Replays a TrafficProfile at a fixed arrival rate (open model): request i is due at start + i / rate
+// whether or not earlier ones have answered, the way real donors arrive. Latency is measured from the due
+// time rather than the actual send, so a stalled server shows up in the percentiles instead of just slowing
+// the generator down.
+class LoadDriver {
+	private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+
+	private final HttpClient client;
+	private final URI base;
+	private final TrafficProfile profile;
+	private final SplittableRandom random;
+	// Continues across steps, so generated ids stay unique for the whole run
+	private long sequence;
+
+	LoadDriver(HttpClient client, URI base, TrafficProfile profile, long seed) {
+		this.client = client;
+		this.base = base;
+		this.profile = profile;
+		this.random = new SplittableRandom(seed);
+	}
+
+	StepResult step(int rate, Duration duration) {
+		int total = Math.toIntExact(rate * duration.toSeconds());
+		long intervalNanos = 1_000_000_000L / rate;
+		long[] latencies = new long[total];
+		boolean[] failed = new boolean[total];
+
+		long start = System.nanoTime();
+		try (ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor()) {
+			for (int i = 0; i < total; i++) {
+				long due = start + i * intervalNanos;
+				long wait;
+				while ((wait = due - System.nanoTime()) > 0) LockSupport.parkNanos(wait);
+
+				HttpRequest request = profile.requests().next(base, sequence++, random);
+				int n = i;
+				senders.submit(() -> {
+					try {
+						HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+						failed[n] = response.statusCode() != profile.okStatus();
+					} catch (Exception e) {
+						failed[n] = true;
+					}
+					latencies[n] = System.nanoTime() - due;
+				});
+			}
+		}
+		long elapsed = System.nanoTime() - start;
+
+		int errors = 0;
+		for (boolean f : failed) if (f) errors++;
+		Arrays.sort(latencies);
+		return new StepResult(rate, (total - errors) * 1_000_000_000.0 / elapsed,
+				percentileMillis(latencies, 0.50), percentileMillis(latencies, 0.99), percentileMillis(latencies, 0.999),
+				(double) errors / total);
+	}
+
+	static HttpRequest.Builder request(URI base, String path) {
+		return HttpRequest.newBuilder(base.resolve(path)).timeout(REQUEST_TIMEOUT);
+	}
+
+	private static double percentileMillis(long[] sorted, double percentile) {
+		int index = Math.max(0, (int) Math.ceil(percentile * sorted.length) - 1);
+		return sorted[index] / 1_000_000.0;
+	}
+
+	// throughput counts successful responses only
+	record StepResult(int offeredRate, double throughput, double p50Millis, double p99Millis, double p999Millis,
+			double errorRate) {
+
+		boolean withinTarget(long p99TargetMillis, double maxErrorRate) {
+			return p99Millis <= p99TargetMillis && errorRate <= maxErrorRate;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("%d req/s offered: %.0f ok/s, p50 %.1f ms, p99 %.1f ms, p999 %.1f ms, %.2f%% errors",
+					offeredRate, throughput, p50Millis, p99Millis, p999Millis, errorRate * 100);
+		}
+	}
+}
@@ -0,0 +1,69 @@
+package com.example.AidLink.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+import com.example.AidLink.loadtest.LoadDriver.StepResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+// Result of stepping one profile up through its rates. sustainedRate is the throughput of the highest step
+// that stayed within the p99 target and error budget, 0 if even the first one did not.
+record LoadReport(String profile, long p99TargetMillis, List<StepResult> steps, double sustainedRate) {
+	static final Path REPORT_DIR = Path.of("target", "load-reports");
+
+	// Throughput and latency of the first, lightly loaded step: the regression signal least affected by noise
+	StepResult baselineStep() {
+		return steps.get(0);
+	}
+
+	void write() throws IOException {
+		Files.createDirectories(REPORT_DIR);
+		new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT)
+				.writeValue(REPORT_DIR.resolve(profile + ".json").toFile(), this);
+		// Same keys as the baseline file, to record this run as the new baseline
+		Properties measured = new Properties();
+		measured.setProperty(profile + ".sustained-rate", String.format("%.0f", sustainedRate));
+		measured.setProperty(profile + ".p99-millis", String.format("%.1f", baselineStep().p99Millis()));
+		try (Writer out = Files.newBufferedWriter(REPORT_DIR.resolve(profile + ".baseline.properties"))) {
+			measured.store(out, "Measured baseline for " + profile);
+		}
+	}
+
+	// Regressions against the recorded baseline, empty when within maxRegression or no baseline is recorded
+	List<String> regressionsAgainst(Properties baseline, double maxRegression) {
+		List<String> regressions = new ArrayList<>();
+		String sustained = baseline.getProperty(profile + ".sustained-rate");
+		if (sustained != null && sustainedRate < Double.parseDouble(sustained) * (1 - maxRegression)) {
+			regressions.add(String.format("%s sustained %.0f req/s, baseline %s", profile, sustainedRate, sustained));
+		}
+		String p99 = baseline.getProperty(profile + ".p99-millis");
+		if (p99 != null && baselineStep().p99Millis() > Double.parseDouble(p99) * (1 + maxRegression)) {
+			regressions.add(String.format("%s p99 %.1f ms at %d req/s, baseline %s ms", profile,
+					baselineStep().p99Millis(), baselineStep().offeredRate(), p99));
+		}
+		return regressions;
+	}
+
+	// From -Dloadtest.baseline=<file>, else loadtest-baseline.properties on the test classpath, else empty
+	static Properties loadBaseline() throws IOException {
+		Properties baseline = new Properties();
+		String file = System.getProperty("loadtest.baseline");
+		if (file != null) {
+			try (InputStream in = Files.newInputStream(Path.of(file))) {
+				baseline.load(in);
+			}
+			return baseline;
+		}
+		try (InputStream in = LoadReport.class.getResourceAsStream("/loadtest-baseline.properties")) {
+			if (in != null) baseline.load(in);
+		}
+		return baseline;
+	}
+}
@@ -0,0 +1,74 @@
+package com.example.AidLink.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.example.AidLink.service.PasswordHasher;
+
+// Logins per second, in total and per core, for each bcrypt cost, so aidlink.auth.bcrypt-cost can be
+// chosen against the expected login peak. Also shows the rate for repeat logins served from the result cache.
+// Excluded from the default build, run with: mvn test -Pload-test -Dtest=PasswordHashingLoadTest
+@Tag("load")
+class PasswordHashingLoadTest {
+
+	private static final int[] COSTS = { 8, 10, 12 };
+	private static final long RUN_MS = 5_000;
+
+	@Test
+	void loginsPerSecondPerCore() throws Exception {
+		int cores = Runtime.getRuntime().availableProcessors();
+		for (int cost : COSTS) {
+			PasswordHasher hasher = new PasswordHasher(cost, cores, 1024, 60_000, "maximumSize=0");
+			try {
+				String stored = hasher.hash("correct horse battery staple");
+				double perSecond = rate(hasher, stored, cores);
+				System.out.printf("PasswordHashingLoadTest: cost %d: %.1f logins/s on %d cores, %.1f logins/s per core%n",
+						cost, perSecond, cores, perSecond / cores);
+				assertThat(perSecond).isPositive();
+			} finally {
+				hasher.stop();
+			}
+		}
+
+		PasswordHasher cached = new PasswordHasher(COSTS[COSTS.length - 1], cores, 1024, 60_000, "maximumSize=100");
+		try {
+			String stored = cached.hash("correct horse battery staple");
+			double perSecond = rate(cached, stored, cores);
+			System.out.printf("PasswordHashingLoadTest: cost %d, repeat logins from the result cache: %.1f logins/s%n",
+					COSTS[COSTS.length - 1], perSecond);
+		} finally {
+			cached.stop();
+		}
+	}
+
+	// Keeps one caller per core verifying for RUN_MS and returns the completed verifications per second
+	private static double rate(PasswordHasher hasher, String stored, int callers) throws Exception {
+		ExecutorService pool = Executors.newFixedThreadPool(callers);
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(RUN_MS);
+		long started = System.nanoTime();
+		List<Future<Long>> counts = new ArrayList<>();
+		for (int i = 0; i < callers; i++) {
+			counts.add(pool.submit(() -> {
+				long done = 0;
+				while (System.nanoTime() < deadline) {
+					if (!hasher.verify("correct horse battery staple", stored).matches()) throw new AssertionError("no match");
+					done++;
+				}
+				return done;
+			}));
+		}
+		long total = 0;
+		for (Future<Long> count : counts) total += count.get();
+		pool.shutdown();
+		return total / ((System.nanoTime() - started) / 1e9);
+	}
+}
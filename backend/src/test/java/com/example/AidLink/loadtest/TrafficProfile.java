@@ -0,0 +1,20 @@
+package com.example.AidLink.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.List;
+import java.util.SplittableRandom;
+
+// One kind of traffic to replay: the requests it sends, the arrival rates to step through (requests per
+// second), the lowest of them one instance must always sustain, and the p99 latency beyond which a step
+// counts as degraded
+record TrafficProfile(String name, List<Integer> stepRates, int minSustainedRate, long p99TargetMillis, int okStatus,
+		Requests requests) {
+
+	// Builds request number `sequence` of a run. Called from the single scheduling thread in order, so a
+	// fixed seed replays exactly the same requests.
+	@FunctionalInterface
+	interface Requests {
+		HttpRequest next(URI base, long sequence, SplittableRandom random);
+	}
+}
@@ -0,0 +1,109 @@
+package com.example.AidLink.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.query.Query;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.example.AidLink.dto.EventListQuery;
+import com.example.models.Event;
+
+// Every filter combination of the listing should be answered by one index scan, without an in-memory sort
+@DataMongoTest
+@Testcontainers(disabledWithoutDocker = true)
+class EventListingIndexTest {
+
+	@Container
+	@ServiceConnection
+	static MongoDBContainer mongo = new MongoDBContainer("mongo:7.0");
+
+	private static final String[] CATEGORIES = { "flood", "earthquake", "cyclone", "drought" };
+	private static final String[] LEVELS = { "low", "medium", "high" };
+
+	@Autowired
+	private MongoTemplate mongoTemplate;
+
+	@Autowired
+	private MongoMappingContext mappingContext;
+
+	@BeforeEach
+	void setUp() {
+		mongoTemplate.dropCollection(Event.class);
+		IndexOperations indexes = mongoTemplate.indexOps(Event.class);
+		new MongoPersistentEntityIndexResolver(mappingContext).resolveIndexFor(Event.class).forEach(indexes::ensureIndex);
+		// Enough spread that the planner can tell a selective index from one that only matches the sort
+		List<Event> events = new ArrayList<>();
+		for (int i = 1; i <= 400; i++) {
+			Event event = new Event();
+			event.setId(i);
+			event.setCategory(CATEGORIES[i % CATEGORIES.length]);
+			event.setOngoing(i % 2 == 0);
+			event.setSeverity(LEVELS[i % LEVELS.length]);
+			event.setUrgencyLevel(LEVELS[(i / 3) % LEVELS.length]);
+			event.setStartDate(String.format("2024-%02d-%02d", i % 12 + 1, i % 28 + 1));
+			event.setFundingProgress((i * 37 % 100) / 100.0);
+			events.add(event);
+		}
+		mongoTemplate.insertAll(events);
+	}
+
+	@ParameterizedTest
+	@CsvSource({
+			"flood, true, , , startDate, category_ongoing_start",
+			"flood, false, , , fundingProgress, category_ongoing_progress",
+			"flood, , , , startDate, category_start",
+			"flood, , , , fundingProgress, category_progress",
+			", true, , , fundingProgress, ongoing_progress",
+			", , high, , startDate, severity_start",
+			", , high, , fundingProgress, severity_progress",
+			", , , medium, startDate, urgency_start",
+			", , , medium, fundingProgress, urgency_progress",
+			", , , , startDate, start",
+			", , , , fundingProgress, progress" })
+	void listingUsesOneIndexWithoutSorting(String category, Boolean isOngoing, String severity, String urgencyLevel,
+			String sortBy, String index) {
+		Query query = EventRepositoryImpl.pageQuery(
+				new EventListQuery(category, isOngoing, severity, urgencyLevel, sortBy, false, null, 21));
+
+		Document explain = mongoTemplate.getCollection("events")
+				.find(query.getQueryObject())
+				.sort(query.getSortObject())
+				.projection(query.getFieldsObject())
+				.limit(query.getLimit())
+				.explain();
+		Document winningPlan = explain.get("queryPlanner", Document.class).get("winningPlan", Document.class);
+
+		List<String> stages = new ArrayList<>();
+		List<String> indexNames = new ArrayList<>();
+		collect(winningPlan, stages, indexNames);
+		assertThat(stages).contains("IXSCAN").doesNotContain("SORT");
+		assertThat(indexNames).containsExactly(index);
+	}
+
+	// Walks the plan tree, the classic engine nests stages under inputStage, SBE wraps them in queryPlan
+	private static void collect(Object node, List<String> stages, List<String> indexNames) {
+		if (node instanceof Document plan) {
+			if (plan.getString("stage") != null) stages.add(plan.getString("stage"));
+			if (plan.getString("indexName") != null) indexNames.add(plan.getString("indexName"));
+			plan.values().forEach(child -> collect(child, stages, indexNames));
+		} else if (node instanceof List<?> children) {
+			children.forEach(child -> collect(child, stages, indexNames));
+		}
+	}
+}
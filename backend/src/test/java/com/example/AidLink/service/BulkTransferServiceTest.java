@@ -0,0 +1,97 @@
+package com.example.AidLink.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.example.AidLink.dto.BulkWriteFailure;
+import com.example.AidLink.dto.ImportError;
+import com.example.AidLink.dto.ImportReport;
+import com.example.AidLink.event.EventsImportedEvent;
+import com.example.AidLink.repository.EventRepository;
+import com.example.AidLink.repository.OrganizationRepository;
+import com.example.models.Event;
+import com.example.models.Organization;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class BulkTransferServiceTest {
+
+	private final EventRepository eventRepository = mock(EventRepository.class);
+	private final OrganizationRepository organizationRepository = mock(OrganizationRepository.class);
+	private final EventIdAllocator eventIdAllocator = mock(EventIdAllocator.class);
+	private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+	private final BulkTransferService service = new BulkTransferService(eventRepository, organizationRepository,
+			eventIdAllocator, eventPublisher, new ObjectMapper(), 2, 10);
+
+	@Test
+	void badRecordsAreReportedAndTheRestWrittenInBatches() throws Exception {
+		List<List<Integer>> batches = new ArrayList<>();
+		when(eventIdAllocator.reserve(anyInt())).thenReturn(100);
+		when(eventRepository.insertUnordered(any())).thenAnswer(call -> {
+			List<Event> events = call.getArgument(0);
+			batches.add(events.stream().map(Event::getId).toList());
+			// The event with id 7 already exists
+			return events.get(0).getId() == 7 ? List.of(new BulkWriteFailure(0, 11000, "E11000 duplicate key")) : List.of();
+		});
+
+		ImportReport report = service.importEvents(ndjson(
+				"{\"id\": 7, \"title\": \"Flood\"}",
+				"{\"title\": \"Quake\", \"fundingGoal\": 1000, \"currentFunding\": 250}",
+				"",
+				"{\"title\": ",
+				"{\"title\": \"Storm\", \"fundingGoal\": -5}",
+				"{\"title\": \"Fire\"}"), BulkTransferService.Format.NDJSON);
+
+		assertThat(batches).containsExactly(List.of(7, 100), List.of(100));
+		assertThat(report.received()).isEqualTo(5);
+		assertThat(report.imported()).isEqualTo(2);
+		assertThat(report.failed()).isEqualTo(3);
+		assertThat(report.errors()).extracting(ImportError::record).containsExactly(1L, 4L, 5L);
+		assertThat(report.errors().get(0).message()).isEqualTo("id already exists");
+		assertThat(report.errorsTruncated()).isFalse();
+
+		ArgumentCaptor<EventsImportedEvent> imported = ArgumentCaptor.forClass(EventsImportedEvent.class);
+		verify(eventPublisher, times(2)).publishEvent(imported.capture());
+		Event quake = imported.getAllValues().get(0).events().get(0);
+		assertThat(quake.getTitle()).isEqualTo("Quake");
+		assertThat(quake.getFundingProgress()).isEqualTo(0.25);
+		verify(eventIdAllocator).observe(7);
+	}
+
+	@Test
+	void importedOrganizationsAreStoredLikeRegistrations() throws Exception {
+		List<Organization> stored = new ArrayList<>();
+		when(organizationRepository.insertUnordered(any())).thenAnswer(call -> {
+			stored.addAll(call.getArgument(0));
+			return List.of();
+		});
+
+		ImportReport report = service.importOrganizations(ndjson(
+				"{\"id\": \"o1\", \"organizationInfo\": {\"legalName\": \"Relief\", \"email\": \"a@example.com\", \"password\": \"secret\"},"
+						+ " \"registrationStatus\": {\"approvalStatus\": \"approved\"}, \"eventRegistrations\": [{\"eventId\": 3}]}",
+				"{\"id\": \"o2\", \"organizationInfo\": {\"legalName\": \"Care\", \"email\": \"c@example.com\"}}"));
+
+		assertThat(report.imported()).isEqualTo(2);
+		assertThat(stored).extracting(org -> org.getRegistrationStatus().getApprovalStatus()).containsOnly("pending");
+		assertThat(stored.get(0).getEventRegistrations().get(0).getStatus()).isEqualTo("registered");
+		assertThat(stored.get(0).getOrganizationInfo().getPassword()).isEqualTo("secret");
+		assertThat(stored.get(1).getOrganizationInfo().getPassword()).isNull();
+	}
+
+	private static ByteArrayInputStream ndjson(String... lines) {
+		return new ByteArrayInputStream(String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+	}
+}
@@ -0,0 +1,132 @@
+package com.example.AidLink.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.example.AidLink.repository.DonationRepository;
+import com.example.AidLink.repository.EventRepository;
+import com.example.AidLink.repository.UserRepository;
+import com.example.models.Donation;
+import com.example.models.Event;
+import com.example.models.User;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DataMongoTest
+@Testcontainers(disabledWithoutDocker = true)
+class DonationAggregatorTest {
+
+	@Container
+	@ServiceConnection
+	static MongoDBContainer mongo = new MongoDBContainer("mongo:7.0");
+
+	@Autowired
+	private DonationRepository donationRepository;
+
+	@Autowired
+	private EventRepository eventRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private MongoTemplate mongoTemplate;
+
+	@Autowired
+	private ApplicationEventPublisher eventPublisher;
+
+	private DonationService donationService;
+	private DonationAggregator aggregator;
+
+	@BeforeEach
+	void setUp() {
+		donationRepository.deleteAll();
+		eventRepository.deleteAll();
+		userRepository.deleteAll();
+		// Funding raised before the ledger existed
+		Event event = new Event();
+		event.setId(1);
+		event.setTitle("Flood relief");
+		event.setFundingGoal(1_000_000);
+		event.setCurrentFunding(100);
+		eventRepository.save(event);
+		userRepository.save(new User("a@example.com", "secret", "donor"));
+		userRepository.save(new User("b@example.com", "secret", "donor"));
+
+		donationService = new DonationService(donationRepository, eventRepository, Optional.empty(),
+				new DonationMetrics(new SimpleMeterRegistry(), "ledger"));
+		aggregator = new DonationAggregator(donationRepository, eventRepository, userRepository, eventPublisher, 500, 60_000);
+	}
+
+	private int funding() {
+		return eventRepository.findById(1).orElseThrow().getCurrentFunding();
+	}
+
+	private int donated(String email) {
+		return userRepository.findByEmail(email).getDonatedAmount();
+	}
+
+	@Test
+	void donationsReachTheTotalsOnceAggregated() throws Exception {
+		assertThat(donationService.recordDonation(1, 10, "a@example.com").getCurrentFunding()).isEqualTo(110);
+		donationService.recordDonation(1, 15, "a@example.com");
+		donationService.recordDonation(1, 5, "b@example.com");
+		assertThat(donationService.recordDonation(42, 5, "a@example.com")).isNull();
+
+		// Only the ledger is written on the request path
+		assertThat(donationRepository.count()).isEqualTo(3);
+		assertThat(funding()).isEqualTo(100);
+
+		aggregator.aggregatePending();
+
+		assertThat(funding()).isEqualTo(130);
+		assertThat(donated("a@example.com")).isEqualTo(25);
+		assertThat(donated("b@example.com")).isEqualTo(5);
+		assertThat(donationRepository.findAll()).extracting(Donation::getStatus).containsOnly("applied");
+
+		// Nothing left to apply, a second run adds nothing
+		aggregator.aggregatePending();
+		assertThat(funding()).isEqualTo(130);
+	}
+
+	@Test
+	void rebuildRestoresEveryTotalToItsBaselinePlusTheLedger() throws Exception {
+		aggregator.captureBaselines();
+		donationService.recordDonation(1, 10, "a@example.com");
+		donationService.recordDonation(1, 5, "b@example.com");
+		aggregator.aggregatePending();
+		assertThat(funding()).isEqualTo(115);
+
+		// Totals edited by hand, their baselines untouched
+		mongoTemplate.updateFirst(new Query(Criteria.where("_id").is(1)), new Update().set("currentFunding", 999), Event.class);
+		mongoTemplate.updateFirst(new Query(Criteria.where("email").is("a@example.com")), new Update().set("donatedAmount", 7),
+				User.class);
+		// Pending entries are not part of the rebuild, they are added when aggregated
+		donationService.recordDonation(1, 20, "b@example.com");
+
+		aggregator.rebuildTotals();
+
+		assertThat(funding()).isEqualTo(115);
+		assertThat(donated("a@example.com")).isEqualTo(10);
+		assertThat(donated("b@example.com")).isEqualTo(5);
+
+		aggregator.aggregatePending();
+		assertThat(funding()).isEqualTo(135);
+		assertThat(donated("b@example.com")).isEqualTo(25);
+	}
+}
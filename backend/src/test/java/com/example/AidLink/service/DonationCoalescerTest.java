@@ -0,0 +1,152 @@
+package com.example.AidLink.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.AdditionalAnswers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.example.AidLink.repository.DonationRepository;
+import com.example.AidLink.repository.EventRepository;
+import com.example.AidLink.repository.UserRepository;
+import com.example.models.Donation;
+import com.example.models.Event;
+import com.example.models.User;
+
+@DataMongoTest
+@Testcontainers(disabledWithoutDocker = true)
+class DonationCoalescerTest {
+
+	@Container
+	@ServiceConnection
+	static MongoDBContainer mongo = new MongoDBContainer("mongo:7.0");
+
+	@TempDir
+	Path journalDir;
+
+	@TempDir
+	Path backup;
+
+	@Autowired
+	private DonationRepository donationRepository;
+
+	@Autowired
+	private EventRepository eventRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private MongoTemplate mongoTemplate;
+
+	@Autowired
+	private ApplicationEventPublisher eventPublisher;
+
+	@BeforeEach
+	void setUp() {
+		donationRepository.deleteAll();
+		eventRepository.deleteAll();
+		userRepository.deleteAll();
+		Event event = new Event();
+		event.setId(1);
+		event.setTitle("Flood relief");
+		event.setFundingGoal(1_000_000);
+		event.setCurrentFunding(0);
+		eventRepository.save(event);
+		userRepository.save(new User("a@example.com", "secret", "donor"));
+		userRepository.save(new User("b@example.com", "secret", "donor"));
+	}
+
+	// Timed flushes are pushed far out so the test decides when each flush happens
+	private DonationCoalescer coalescer() throws Exception {
+		DonationCoalescer coalescer = new DonationCoalescer(donationRepository, journalDir.toString(), false, 3_600_000, 1_000_000);
+		coalescer.start();
+		return coalescer;
+	}
+
+	private DonationAggregator aggregator(UserRepository users) {
+		return new DonationAggregator(donationRepository, eventRepository, users, eventPublisher, 500, 60_000);
+	}
+
+	private List<Path> segments() throws Exception {
+		try (Stream<Path> files = Files.list(journalDir)) {
+			return files.toList();
+		}
+	}
+
+	@Test
+	void crashAfterTheLedgerWriteIsReplayedWithoutCountingTwice() throws Exception {
+		DonationCoalescer first = coalescer();
+		first.accept(1, "a@example.com", 10);
+		first.accept(1, "a@example.com", 15);
+		first.accept(1, "b@example.com", 5);
+		Path segment = segments().get(0);
+		Files.copy(segment, backup.resolve(segment.getFileName()));
+
+		first.flush();
+		first.stop();
+		// Crash: the ledger entries are in, but the segment file was never deleted and nothing was applied
+		Files.copy(backup.resolve(segment.getFileName()), segment, StandardCopyOption.REPLACE_EXISTING);
+		assertThat(donationRepository.count()).isEqualTo(2);
+		assertThat(eventRepository.findById(1).orElseThrow().getCurrentFunding()).isZero();
+
+		DonationCoalescer restarted = coalescer();
+		assertThat(segments()).isEmpty();
+		assertThat(donationRepository.count()).isEqualTo(2);
+
+		aggregator(userRepository).aggregatePending();
+		assertThat(eventRepository.findById(1).orElseThrow().getCurrentFunding()).isEqualTo(30);
+		assertThat(userRepository.findByEmail("a@example.com").getDonatedAmount()).isEqualTo(25);
+		assertThat(userRepository.findByEmail("b@example.com").getDonatedAmount()).isEqualTo(5);
+		restarted.stop();
+	}
+
+	@Test
+	void batchLeftHalfAppliedIsFinishedOnceAfterItsLeaseExpires() throws Exception {
+		DonationCoalescer coalescer = coalescer();
+		coalescer.accept(1, "a@example.com", 10);
+		coalescer.accept(1, "b@example.com", 5);
+		coalescer.stop();
+
+		// Crash between the event and the user update of one batch
+		UserRepository failingUsers = mock(UserRepository.class, AdditionalAnswers.delegatesTo(userRepository));
+		doThrow(new IllegalStateException("crash")).when(failingUsers).applyDonationBatch(anyString(), any());
+		assertThatThrownBy(() -> aggregator(failingUsers).aggregateBatch()).isInstanceOf(IllegalStateException.class);
+		assertThat(eventRepository.findById(1).orElseThrow().getCurrentFunding()).isEqualTo(15);
+		assertThat(userRepository.findByEmail("a@example.com").getDonatedAmount()).isZero();
+
+		mongoTemplate.updateMulti(new Query(Criteria.where("status").is("claimed")),
+				new Update().set("claimedAt", Instant.now().minusSeconds(3600)), Donation.class);
+		DonationAggregator survivor = aggregator(userRepository);
+		assertThat(survivor.reclaimExpired()).isEqualTo(1);
+
+		assertThat(eventRepository.findById(1).orElseThrow().getCurrentFunding()).isEqualTo(15);
+		assertThat(userRepository.findByEmail("a@example.com").getDonatedAmount()).isEqualTo(10);
+		assertThat(userRepository.findByEmail("b@example.com").getDonatedAmount()).isEqualTo(5);
+		assertThat(donationRepository.findAll()).extracting(Donation::getStatus).containsOnly("applied");
+	}
+}
@@ -0,0 +1,91 @@
+package com.example.AidLink.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class DonationJournalTest {
+
+	@TempDir
+	Path dir;
+
+	@Test
+	void unflushedSegmentsSurviveRestart() throws Exception {
+		DonationJournal journal = new DonationJournal(dir, true);
+		journal.append(1, "a@example.com", 10);
+		journal.append(1, "b@example.com", 5);
+		// Simulate a crash: the segment is never rotated or deleted
+
+		DonationJournal reopened = new DonationJournal(dir, true);
+		List<String> segments = reopened.leftoverSegments();
+		assertThat(segments).hasSize(1);
+		assertThat(reopened.read(segments.get(0))).containsExactly(
+				new DonationJournal.Entry(1, "a@example.com", 10),
+				new DonationJournal.Entry(1, "b@example.com", 5));
+		journal.close();
+	}
+
+	@Test
+	void rotateStartsNewSegmentAndDeleteRemovesOld() throws Exception {
+		DonationJournal journal = new DonationJournal(dir, false);
+		assertThat(journal.rotate()).isNull();
+
+		journal.append(7, "a@example.com", 1);
+		String first = journal.rotate();
+		journal.append(7, "a@example.com", 2);
+		String second = journal.rotate();
+
+		assertThat(first).isNotEqualTo(second);
+		journal.delete(first);
+		assertThat(journal.leftoverSegments()).containsExactly(second);
+		assertThat(journal.read(second)).containsExactly(new DonationJournal.Entry(7, "a@example.com", 2));
+	}
+
+	@Test
+	void oneSyncCoversEverythingWrittenBeforeIt() throws Exception {
+		DonationJournal journal = new DonationJournal(dir, true);
+		long first = journal.write(1, "a@example.com", 10);
+		journal.write(1, "b@example.com", 5);
+		long last = journal.write(2, "a@example.com", 1);
+
+		journal.sync(last);
+		journal.sync(first);
+		assertThat(journal.syncs()).isEqualTo(1);
+
+		// Rotation forces the segment it closes, nothing is left to sync for it
+		long rotated = journal.write(3, "a@example.com", 2);
+		journal.rotate();
+		journal.sync(rotated);
+		assertThat(journal.syncs()).isEqualTo(1);
+		journal.close();
+	}
+
+	@Test
+	void tornRecordsAreSkipped() throws Exception {
+		DonationJournal journal = new DonationJournal(dir, false);
+		journal.append(3, "a@example.com", 4);
+		String segment = journal.rotate();
+		Path file = dir.resolve(segment + ".journal");
+		// Cut inside the email, inside the amount, and a record that parses but isn't a donation
+		Files.writeString(file, "{\"eventId\":3,\"userEmail\":\"b@ex\n{\"eventId\":3,\"amount\":1\n"
+				+ "{\"eventId\":3,\"userEmail\":\"c@example.com\",\"amount\":0}\n{\"eventId\":3,\"am", StandardOpenOption.APPEND);
+
+		assertThat(journal.read(segment)).containsExactly(new DonationJournal.Entry(3, "a@example.com", 4));
+	}
+
+	@Test
+	void anEmailCannotForgeRecords() throws Exception {
+		DonationJournal journal = new DonationJournal(dir, false);
+		String forged = "x@example.com\n{\"eventId\":1,\"userEmail\":\"y@example.com\",\"amount\":1000000}";
+		journal.append(1, forged, 5);
+		String segment = journal.rotate();
+
+		assertThat(journal.read(segment)).containsExactly(new DonationJournal.Entry(1, forged, 5));
+	}
+}
@@ -0,0 +1,75 @@
+package com.example.AidLink.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.example.AidLink.repository.CounterRepository;
+import com.example.AidLink.repository.EventRepository;
+import com.example.models.Event;
+
+@DataMongoTest
+@Testcontainers(disabledWithoutDocker = true)
+@Import({ EventService.class, EventIdAllocator.class })
+class EventServiceConcurrencyTest {
+
+	@Container
+	@ServiceConnection
+	static MongoDBContainer mongo = new MongoDBContainer("mongo:7.0");
+
+	@Autowired
+	private EventService eventService;
+
+	@Autowired
+	private EventRepository eventRepository;
+
+	@Autowired
+	private CounterRepository counterRepository;
+
+	@BeforeEach
+	void setUp() {
+		eventRepository.deleteAll();
+		counterRepository.deleteAll();
+		Event event = new Event();
+		event.setId(1);
+		event.setTitle("Flood relief");
+		eventRepository.save(event);
+	}
+
+	@Test
+	void parallelEventCreationGetsUniqueIdsAboveExistingOnes() throws Exception {
+		ExecutorService pool = Executors.newFixedThreadPool(16);
+		List<Future<Event>> results = new ArrayList<>();
+		try {
+			for (int i = 0; i < 100; i++) {
+				results.add(pool.submit(() -> {
+					Event event = new Event();
+					event.setTitle("Cyclone relief");
+					return eventService.addEvent(event);
+				}));
+			}
+			List<Integer> ids = new ArrayList<>();
+			for (Future<Event> result : results) {
+				ids.add(result.get().getId());
+			}
+			assertThat(ids).doesNotHaveDuplicates().allMatch(id -> id > 1);
+		} finally {
+			pool.shutdown();
+		}
+		assertThat(eventRepository.count()).isEqualTo(101);
+	}
+}
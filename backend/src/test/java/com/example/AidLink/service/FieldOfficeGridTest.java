@@ -0,0 +1,119 @@
+package com.example.AidLink.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.geo.GeoJsonPoint;
+
+import com.example.AidLink.dto.NearbyFieldOffice;
+import com.example.AidLink.event.OrganizationChangedEvent;
+import com.example.AidLink.repository.OrganizationRepository;
+import com.example.models.Organization;
+
+class FieldOfficeGridTest {
+
+	// (latitude, longitude)
+	private static final double[] DHAKA = { 23.8103, 90.4125 };
+	private static final double[] CHITTAGONG = { 22.3569, 91.7832 }; // ~214 km from Dhaka
+	private static final double[] SYLHET = { 24.8949, 91.8687 }; // ~191 km from Dhaka
+
+	private final OrganizationRepository organizationRepository = mock(OrganizationRepository.class);
+
+	private FieldOfficeGrid grid(double maxRadiusKm, Organization... approved) {
+		when(organizationRepository.streamByRegistrationStatus_ApprovalStatus("approved")).thenReturn(Stream.of(approved));
+		FieldOfficeGrid grid = new FieldOfficeGrid(organizationRepository, 0.5, maxRadiusKm);
+		grid.rebuild();
+		return grid;
+	}
+
+	// Coordinates are given as (latitude, longitude)
+	private static Organization organization(String id, double[] headquarters, double[]... fieldOffices) {
+		Organization org = new Organization();
+		org.setId(id);
+		Organization.OrganizationInfo info = new Organization.OrganizationInfo();
+		info.setCommonName(id + " relief");
+		org.setOrganizationInfo(info);
+		Organization.AddressInfo address = new Organization.AddressInfo();
+		if (headquarters != null) {
+			Organization.AddressInfo.Headquarters hq = new Organization.AddressInfo.Headquarters();
+			hq.setCity("HQ");
+			hq.setCoordinates(new GeoJsonPoint(headquarters[1], headquarters[0]));
+			address.setHeadquarters(hq);
+		}
+		List<Organization.AddressInfo.FieldOffice> offices = Stream.of(fieldOffices).map(point -> {
+			Organization.AddressInfo.FieldOffice office = new Organization.AddressInfo.FieldOffice();
+			office.setName("Office " + point[0]);
+			office.setCoordinates(new GeoJsonPoint(point[1], point[0]));
+			return office;
+		}).toList();
+		address.setFieldOffices(offices);
+		org.setAddressInfo(address);
+		return org;
+	}
+
+	@Test
+	void officesWithinTheRadiusComeNearestFirst() {
+		FieldOfficeGrid grid = grid(500, organization("a", DHAKA, CHITTAGONG), organization("b", null, SYLHET));
+
+		List<NearbyFieldOffice> near = grid.near(DHAKA[0], DHAKA[1], 250, 10);
+		assertThat(near).extracting(NearbyFieldOffice::organizationId).containsExactly("a", "b", "a");
+		assertThat(near.get(0).headquarters()).isTrue();
+		assertThat(near.get(1).distanceKm()).isBetween(185.0, 195.0);
+
+		assertThat(grid.near(DHAKA[0], DHAKA[1], 200, 10)).hasSize(2);
+		assertThat(grid.near(DHAKA[0], DHAKA[1], 250, 1)).extracting(NearbyFieldOffice::headquarters).containsExactly(true);
+	}
+
+	@Test
+	void radiusIsCappedAtTheConfiguredMaximum() {
+		FieldOfficeGrid grid = grid(100, organization("a", DHAKA, CHITTAGONG));
+
+		assertThat(grid.near(DHAKA[0], DHAKA[1], 5_000, 10)).extracting(NearbyFieldOffice::headquarters).containsExactly(true);
+	}
+
+	@Test
+	void searchWrapsAroundTheAntimeridian() {
+		FieldOfficeGrid grid = grid(500, organization("fiji", null, new double[] { -16.8, 179.95 }));
+
+		List<NearbyFieldOffice> near = grid.near(-16.8, -179.9, 50, 10);
+		assertThat(near).extracting(NearbyFieldOffice::organizationId).containsExactly("fiji");
+		assertThat(near.get(0).distanceKm()).isBetween(10.0, 20.0);
+	}
+
+	@Test
+	void approvalMovesOfficesAndRejectionRemovesThem() {
+		FieldOfficeGrid grid = grid(500, organization("a", DHAKA));
+
+		when(organizationRepository.findByIdIn(List.of("a"))).thenReturn(List.of(organization("a", CHITTAGONG)));
+		grid.onOrganizationChanged(new OrganizationChangedEvent("a", OrganizationChangedEvent.Change.APPROVED));
+		assertThat(grid.near(DHAKA[0], DHAKA[1], 50, 10)).isEmpty();
+		assertThat(grid.near(CHITTAGONG[0], CHITTAGONG[1], 50, 10)).hasSize(1);
+
+		grid.onOrganizationChanged(new OrganizationChangedEvent("a", OrganizationChangedEvent.Change.REJECTED));
+		assertThat(grid.near(CHITTAGONG[0], CHITTAGONG[1], 50, 10)).isEmpty();
+	}
+
+	@Test
+	void aReviewIsReloadedWithOneQuery() {
+		FieldOfficeGrid grid = grid(500, organization("gone", SYLHET));
+		when(organizationRepository.findByIdIn(List.of("a", "b")))
+				.thenReturn(List.of(organization("a", DHAKA), organization("b", CHITTAGONG)));
+
+		grid.onOrganizationChanged(new OrganizationChangedEvent(Map.of(
+				OrganizationChangedEvent.Change.APPROVED, List.of("a", "b"),
+				OrganizationChangedEvent.Change.REJECTED, List.of("gone"))));
+
+		verify(organizationRepository, times(1)).findByIdIn(any());
+		assertThat(grid.near(DHAKA[0], DHAKA[1], 500, 10)).extracting(NearbyFieldOffice::organizationId)
+				.containsExactly("a", "b");
+	}
+}
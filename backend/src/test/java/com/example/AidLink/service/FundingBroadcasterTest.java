@@ -0,0 +1,92 @@
+package com.example.AidLink.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.AidLink.dto.FundingUpdate;
+import com.example.AidLink.event.FundingChangedEvent;
+import com.example.AidLink.repository.EventRepository;
+import com.example.models.Event;
+
+class FundingBroadcasterTest {
+
+	private final EventRepository eventRepository = mock(EventRepository.class);
+	private final FundingBroadcaster broadcaster = new FundingBroadcaster(eventRepository, 10);
+
+	@AfterEach
+	void stop() {
+		broadcaster.stop();
+	}
+
+	@Test
+	void changesWithinOneTickArriveAsOneDelta() throws Exception {
+		BlockingQueue<List<FundingUpdate>> received = new LinkedBlockingQueue<>();
+		broadcaster.subscribe(Set.of(1), updates -> received.add(updates));
+
+		funding(1, 100);
+		broadcaster.refreshFollowed();
+		broadcaster.publishChanges();
+		assertThat(received.poll(5, TimeUnit.SECONDS)).containsExactly(new FundingUpdate(1, 100, 1000, 0.1, 0));
+
+		// Three donations between ticks, one update carrying their sum
+		broadcaster.onFundingChanged(FundingChangedEvent.of(1, 5));
+		broadcaster.onFundingChanged(FundingChangedEvent.of(1, 10));
+		broadcaster.onFundingChanged(FundingChangedEvent.of(1, 15));
+		funding(1, 130);
+		broadcaster.publishChanges();
+		assertThat(received.poll(5, TimeUnit.SECONDS)).containsExactly(new FundingUpdate(1, 130, 1000, 0.13, 30));
+	}
+
+	@Test
+	void refusedUpdatesAreMergedUntilResume() throws Exception {
+		BlockingQueue<List<FundingUpdate>> received = new LinkedBlockingQueue<>();
+		AtomicBoolean ready = new AtomicBoolean(false);
+		FundingBroadcaster.Subscription subscription = broadcaster.subscribe(Set.of(1), updates -> {
+			if (!ready.get()) return false;
+			received.add(updates);
+			return true;
+		});
+
+		funding(1, 100);
+		broadcaster.refreshFollowed();
+		broadcaster.publishChanges();
+		funding(1, 120);
+		broadcaster.onFundingChanged(FundingChangedEvent.of(1, 20));
+		broadcaster.publishChanges();
+		Thread.sleep(200);
+		assertThat(received).isEmpty();
+
+		ready.set(true);
+		subscription.resume();
+		assertThat(received.poll(5, TimeUnit.SECONDS)).containsExactly(new FundingUpdate(1, 120, 1000, 0.12, 20));
+	}
+
+	@Test
+	void cancelledSubscriptionsFreeTheirSlot() {
+		FundingBroadcaster.Subscription subscription = broadcaster.subscribe(Set.of(1, 2), updates -> true);
+		assertThat(broadcaster.subscriberCount()).isEqualTo(1);
+		subscription.cancel();
+		assertThat(broadcaster.subscriberCount()).isZero();
+	}
+
+	private void funding(Integer eventId, int currentFunding) {
+		Event event = new Event();
+		event.setId(eventId);
+		event.setFundingGoal(1000);
+		event.setCurrentFunding(currentFunding);
+		event.setFundingProgress(currentFunding / 1000.0);
+		when(eventRepository.findFundingByIdIn(anyCollection())).thenReturn(List.of(event));
+	}
+}
@@ -0,0 +1,139 @@
+package com.example.AidLink.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.awt.image.BufferedImage;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ImageVariantServiceTest {
+
+	@TempDir
+	Path originals;
+
+	@TempDir
+	Path cache;
+
+	private final AtomicInteger fetches = new AtomicInteger();
+	private ImageSource source;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		Path root = Files.createDirectories(originals.resolve("public/demo")).getParent();
+		ImageIO.write(new BufferedImage(2000, 1000, BufferedImage.TYPE_INT_RGB), "jpg", root.resolve("demo/flood.jpg").toFile());
+		ImageIO.write(new BufferedImage(200, 200, BufferedImage.TYPE_INT_ARGB), "png", root.resolve("demo/logo.png").toFile());
+		ImageIO.write(new BufferedImage(200, 200, BufferedImage.TYPE_INT_RGB), "jpg", originals.resolve("secret.jpg").toFile());
+		FileImageSource files = new FileImageSource(root.toString());
+		source = (url, maxBytes) -> {
+			fetches.incrementAndGet();
+			return files.fetch(url, maxBytes);
+		};
+	}
+
+	private ImageVariantService service(long maxCacheBytes) throws Exception {
+		return service(maxCacheBytes, 60_000);
+	}
+
+	private ImageVariantService service(long maxCacheBytes, long evictedGraceMs) throws Exception {
+		return new ImageVariantService(source, cache.toString(), maxCacheBytes, 10_000_000, 10_000_000, 2, evictedGraceMs);
+	}
+
+	@Test
+	void widthIsRoundedUpToABucketAndServedFromDiskAfterwards() throws Exception {
+		ImageVariantService images = service(10_000_000);
+
+		ImageVariantService.Variant variant = images.variant("https://res.cloudinary.com/demo/flood.jpg", 300, "image/*").orElseThrow();
+		assertThat(variant.format()).isEqualTo(ImageVariantService.Format.JPEG);
+		BufferedImage resized = ImageIO.read(variant.file().toFile());
+		assertThat(resized.getWidth()).isEqualTo(320);
+		assertThat(resized.getHeight()).isEqualTo(160);
+
+		assertThat(images.variant("https://res.cloudinary.com/demo/flood.jpg", 320, "image/*")).contains(variant);
+		assertThat(fetches).hasValue(1);
+
+		// A restart picks the file up again without fetching
+		ImageVariantService restarted = service(10_000_000);
+		assertThat(restarted.variant("https://res.cloudinary.com/demo/flood.jpg", 301, "image/*")).contains(variant);
+		assertThat(fetches).hasValue(1);
+	}
+
+	@Test
+	void neverUpscalesAndKeepsTransparency() throws Exception {
+		ImageVariantService.Variant variant = service(10_000_000)
+				.variant("/demo/logo.png", 1280, null).orElseThrow();
+
+		assertThat(variant.format()).isEqualTo(ImageVariantService.Format.PNG);
+		assertThat(ImageIO.read(variant.file().toFile()).getWidth()).isEqualTo(200);
+	}
+
+	private long oneSmallVariant() throws Exception {
+		Path small = service(Long.MAX_VALUE).variant("/demo/flood.jpg", 160, null).orElseThrow().file();
+		long size = Files.size(small);
+		Files.delete(small);
+		return size;
+	}
+
+	@Test
+	void leastRecentlyUsedVariantsAreDeletedPastTheBoundAfterTheGracePeriod() throws Exception {
+		// Room for the 160px variant only
+		ImageVariantService images = service(oneSmallVariant(), 0);
+		ImageVariantService.Variant first = images.variant("/demo/flood.jpg", 160, null).orElseThrow();
+		ImageVariantService.Variant second = images.variant("/demo/flood.jpg", 320, null).orElseThrow();
+
+		// Evicted, but a response handed the file a moment ago may not have opened it yet
+		assertThat(images.cachedBytes()).isEqualTo(second.size());
+		assertThat(first.file()).exists();
+
+		assertThat(images.sweepEvicted()).isEqualTo(1);
+		assertThat(first.file()).doesNotExist();
+		assertThat(second.file()).exists();
+	}
+
+	@Test
+	void recentlyEvictedFilesSurviveTheSweep() throws Exception {
+		ImageVariantService images = service(oneSmallVariant(), 60_000);
+		ImageVariantService.Variant first = images.variant("/demo/flood.jpg", 160, null).orElseThrow();
+		images.variant("/demo/flood.jpg", 320, null).orElseThrow();
+
+		assertThat(images.sweepEvicted()).isZero();
+		assertThat(first.file()).exists();
+	}
+
+	@Test
+	void aFileRenderedAgainBeforeTheSweepIsKept() throws Exception {
+		ImageVariantService images = service(oneSmallVariant(), 0);
+		ImageVariantService.Variant first = images.variant("/demo/flood.jpg", 160, null).orElseThrow();
+		images.variant("/demo/flood.jpg", 320, null).orElseThrow();
+
+		// Back in use under the same name
+		assertThat(images.variant("/demo/flood.jpg", 160, null)).contains(first);
+		images.sweepEvicted();
+		assertThat(first.file()).exists();
+	}
+
+	@Test
+	void missingAndEscapingUrlsAreNotFound() throws Exception {
+		ImageVariantService images = service(10_000_000);
+
+		assertThat(images.variant("/demo/missing.jpg", 320, null)).isEqualTo(Optional.empty());
+		assertThat(images.variant("/../secret.jpg", 320, null)).isEqualTo(Optional.empty());
+		assertThat(fetches).hasValue(2);
+	}
+
+	@Test
+	void oversizedOriginalsAreRefused() throws Exception {
+		ImageVariantService images = new ImageVariantService(source, cache.toString(), 10_000_000, 10_000_000, 1_000_000, 2, 60_000);
+
+		assertThatThrownBy(() -> images.variant("/demo/flood.jpg", 320, null))
+				.isInstanceOf(ImageSource.ImageTooLargeException.class);
+	}
+}
@@ -0,0 +1,72 @@
+package com.example.AidLink.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Base64;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+class JwtServiceTest {
+
+	private static final String SECRET = Base64.getEncoder().encodeToString("0123456789abcdef0123456789abcdef".getBytes());
+
+	// Stands in for the sessions collection every instance shares
+	private final SessionStore sessions = new InMemorySessionStore(60_000);
+	private final MockEnvironment environment = new MockEnvironment();
+	private final JwtService jwtService = new JwtService(sessions, environment, SECRET, 60_000, "maximumSize=100,expireAfterWrite=60s");
+
+	@Test
+	void issuedTokensVerifyOnEveryInstanceSharingTheSecret() {
+		String token = jwtService.issue("donor@example.org", JwtService.ROLE_USER);
+		JwtService otherInstance = new JwtService(sessions, environment, SECRET, 60_000, "maximumSize=100");
+
+		assertThat(otherInstance.verify(token)).hasValueSatisfying(claims -> {
+			assertThat(claims.subject()).isEqualTo("donor@example.org");
+			assertThat(claims.role()).isEqualTo(JwtService.ROLE_USER);
+		});
+		// Later checks are answered from the verified-token cache
+		assertThat(otherInstance.verify(token)).isPresent();
+		assertThat(otherInstance.verify(token)).isPresent();
+		assertThat(otherInstance.signatureChecks()).isEqualTo(1);
+	}
+
+	@Test
+	void aMissingSecretOnlyStartsWithTheDevProfile() {
+		assertThatThrownBy(() -> new JwtService(sessions, environment, "", 60_000, "maximumSize=100"))
+				.isInstanceOf(IllegalStateException.class);
+
+		environment.setActiveProfiles(JwtService.DEV_PROFILE);
+		JwtService randomKey = new JwtService(sessions, environment, "", 60_000, "maximumSize=100");
+		assertThat(randomKey.verify(randomKey.issue("donor@example.org", JwtService.ROLE_USER))).isPresent();
+	}
+
+	@Test
+	void forgedAndExpiredTokensAreRejected() {
+		String token = jwtService.issue("admin1", JwtService.ROLE_ADMIN);
+		String forged = token.substring(0, token.lastIndexOf('.') + 1) + "c2lnbmF0dXJl";
+		assertThat(jwtService.verify(forged)).isEmpty();
+		assertThat(jwtService.verify("not a token")).isEmpty();
+
+		String otherSecret = Base64.getEncoder().encodeToString("fedcba9876543210fedcba9876543210".getBytes());
+		JwtService otherKey = new JwtService(sessions, environment, otherSecret, 60_000, "maximumSize=100");
+		assertThat(otherKey.verify(token)).isEmpty();
+
+		JwtService expiring = new JwtService(sessions, environment, SECRET, -1_000, "maximumSize=100");
+		assertThat(jwtService.verify(expiring.issue("admin1", JwtService.ROLE_ADMIN))).isEmpty();
+	}
+
+	@Test
+	void revokedSessionsStopVerifyingEverywhere() {
+		String token = jwtService.issue("donor@example.org", JwtService.ROLE_USER);
+		JwtService otherInstance = new JwtService(sessions, environment, SECRET, 60_000, "maximumSize=100");
+		String sessionId = otherInstance.verify(token).orElseThrow().sessionId();
+
+		jwtService.revoke(sessionId);
+
+		// Even though both instances still hold the token in their verified caches
+		assertThat(jwtService.verify(token)).isEmpty();
+		assertThat(otherInstance.verify(token)).isEmpty();
+	}
+}
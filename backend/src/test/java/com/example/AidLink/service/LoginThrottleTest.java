@@ -0,0 +1,47 @@
+package com.example.AidLink.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class LoginThrottleTest {
+
+	private static final long MINUTE = 60_000;
+
+	// Delays are minutes long so nothing expires while the test runs
+	private final LoginThrottle throttle = new LoginThrottle(3, 10, 60 * MINUTE, MINUTE, 4 * MINUTE);
+
+	private void fail(String account, int times) {
+		for (int i = 0; i < times; i++) throttle.failed(account, "10.0.0.1");
+	}
+
+	@Test
+	void accountsWaitLongerWithEveryFailureInsteadOfBeingLockedOut() {
+		fail("user:a", 2);
+		assertThat(throttle.allows("user:a", "10.0.0.1")).isTrue();
+
+		fail("user:a", 1);
+		assertThat(throttle.allows("user:a", "10.0.0.1")).isFalse();
+		assertThat(throttle.retryAfterMs("user:a")).isBetween(MINUTE - 1_000, MINUTE);
+
+		fail("user:a", 1);
+		assertThat(throttle.retryAfterMs("user:a")).isBetween(2 * MINUTE - 1_000, 2 * MINUTE);
+
+		// Capped at the maximum
+		fail("user:a", 5);
+		assertThat(throttle.retryAfterMs("user:a")).isBetween(4 * MINUTE - 1_000, 4 * MINUTE);
+
+		// Other accounts are not slowed down, a success starts over
+		assertThat(throttle.retryAfterMs("user:b")).isZero();
+		throttle.succeeded("user:a");
+		assertThat(throttle.retryAfterMs("user:a")).isZero();
+	}
+
+	@Test
+	void anAddressAtItsLimitIsRefusedForEveryAccount() {
+		for (int i = 0; i < 10; i++) throttle.failed("user:" + i, "10.0.0.2");
+
+		assertThat(throttle.allows("user:new", "10.0.0.2")).isFalse();
+		assertThat(throttle.allows("user:new", "10.0.0.3")).isTrue();
+	}
+}
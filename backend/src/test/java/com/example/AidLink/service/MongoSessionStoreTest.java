@@ -0,0 +1,64 @@
+package com.example.AidLink.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import com.example.AidLink.repository.AuthSessionRepository;
+import com.example.models.AuthSession;
+
+class MongoSessionStoreTest {
+
+	private final AuthSessionRepository repository = mock(AuthSessionRepository.class);
+	private final MongoSessionStore store = new MongoSessionStore(repository, 60_000, 60_000);
+
+	@Test
+	void lookupsAreCachedAndActivityIsWrittenInOneBatch() {
+		AuthSession session = new AuthSession("s1", "donor@example.org", JwtService.ROLE_USER, Instant.now(),
+				Instant.now().plusSeconds(3600));
+		when(repository.findById("s1")).thenReturn(Optional.of(session));
+
+		for (int i = 0; i < 50; i++) {
+			assertThat(store.find("s1")).isPresent();
+			store.touch("s1");
+		}
+		verify(repository, times(1)).findById("s1");
+		verify(repository, never()).touchAll(any());
+
+		store.flush();
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<Map<String, Instant>> batch = ArgumentCaptor.forClass(Map.class);
+		verify(repository).touchAll(batch.capture());
+		assertThat(batch.getValue()).containsOnlyKeys("s1");
+	}
+
+	@Test
+	void deletedAndIdleSessionsAreNotFound() {
+		Instant now = Instant.now();
+		AuthSession idle = new AuthSession("idle", "admin1", JwtService.ROLE_ADMIN, now.minusSeconds(120),
+				now.plusSeconds(3600));
+		when(repository.findById("idle")).thenReturn(Optional.of(idle));
+		when(repository.findById("gone")).thenReturn(Optional.empty());
+
+		assertThat(store.find("idle")).isEmpty();
+		assertThat(store.find("gone")).isEmpty();
+
+		AuthSession live = new AuthSession("live", "admin1", JwtService.ROLE_ADMIN, now, now.plusSeconds(3600));
+		when(repository.insert(any(AuthSession.class))).thenReturn(live);
+		String id = store.create("admin1", JwtService.ROLE_ADMIN, now.plusSeconds(3600)).getId();
+		store.delete(id);
+		assertThat(store.find(id)).isEmpty();
+		verify(repository).deleteById(id);
+	}
+}
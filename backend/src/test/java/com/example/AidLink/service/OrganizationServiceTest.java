@@ -0,0 +1,133 @@
+package com.example.AidLink.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.example.AidLink.dto.EventRegistrationResult;
+import com.example.AidLink.dto.ReviewResult;
+import com.example.AidLink.event.OrganizationChangedEvent;
+import com.example.AidLink.repository.EventRepository;
+import com.example.AidLink.repository.OrganizationRepository;
+import com.example.models.Event;
+import com.example.models.Organization;
+
+class OrganizationServiceTest {
+
+	private final OrganizationRepository organizationRepository = mock(OrganizationRepository.class);
+	private final EventRepository eventRepository = mock(EventRepository.class);
+	private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+	private final OrganizationService service = new OrganizationService(organizationRepository, eventRepository, eventPublisher);
+
+	private static List<Organization.EventRegistration> registrations(Integer... eventIds) {
+		return Stream.of(eventIds).map(eventId -> {
+			Organization.EventRegistration registration = new Organization.EventRegistration();
+			registration.setEventId(eventId);
+			return registration;
+		}).toList();
+	}
+
+	private void existingEvents(Integer... ids) {
+		when(eventRepository.findIdsByIdIn(any())).thenReturn(Stream.of(ids).map(id -> {
+			Event event = new Event();
+			event.setId(id);
+			return event;
+		}).toList());
+	}
+
+	@Test
+	void onlyNewRegistrationsForExistingEventsArePushed() {
+		existingEvents(1, 2, 3);
+		when(organizationRepository.findRegisteredEventIds("org")).thenReturn(Optional.of(Set.of(2)));
+		when(organizationRepository.pushEventRegistrations(eq("org"), anyList())).thenReturn(true);
+
+		// Event 1 twice, event 9 doesn't exist
+		EventRegistrationResult result = service.registerForEvents("org", registrations(1, 2, 1, 3, 9)).orElseThrow();
+
+		assertThat(result.registered()).containsExactly(1, 3);
+		assertThat(result.alreadyRegistered()).containsExactly(2);
+		assertThat(result.unknownEvents()).containsExactly(9);
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<List<Organization.EventRegistration>> pushed = ArgumentCaptor.forClass(List.class);
+		verify(organizationRepository).pushEventRegistrations(eq("org"), pushed.capture());
+		assertThat(pushed.getValue()).extracting(Organization.EventRegistration::getStatus).containsOnly("registered");
+		verify(eventPublisher).publishEvent(new OrganizationChangedEvent("org", OrganizationChangedEvent.Change.EVENT_REGISTRATION));
+	}
+
+	@Test
+	void repeatingARegistrationWritesNothing() {
+		existingEvents(1);
+		when(organizationRepository.findRegisteredEventIds("org")).thenReturn(Optional.of(Set.of(1)));
+
+		EventRegistrationResult result = service.registerForEvents("org", registrations(1)).orElseThrow();
+
+		assertThat(result.registered()).isEmpty();
+		assertThat(result.alreadyRegistered()).containsExactly(1);
+		verify(organizationRepository, never()).pushEventRegistrations(any(), anyList());
+		verify(eventPublisher, never()).publishEvent(any(Object.class));
+	}
+
+	@Test
+	void aConcurrentRegistrationIsReadBackAndSkippedOnRetry() {
+		existingEvents(1, 2);
+		// Another request registers event 2 between the read and the guarded push
+		when(organizationRepository.findRegisteredEventIds("org")).thenReturn(Optional.of(Set.of()), Optional.of(Set.of(2)));
+		when(organizationRepository.pushEventRegistrations(eq("org"), anyList())).thenReturn(false, true);
+
+		EventRegistrationResult result = service.registerForEvents("org", registrations(1, 2)).orElseThrow();
+
+		assertThat(result.registered()).containsExactly(1);
+		assertThat(result.alreadyRegistered()).containsExactly(2);
+		verify(organizationRepository, times(2)).pushEventRegistrations(eq("org"), anyList());
+	}
+
+	@Test
+	void aReviewPublishesOneEventForEveryOrganizationItChanged() {
+		when(organizationRepository.findExistingIds(List.of("a", "b", "gone"))).thenReturn(List.of("a", "b"));
+		when(organizationRepository.findExistingIds(List.of("c"))).thenReturn(List.of("c"));
+
+		ReviewResult result = service.review(List.of("a", "b", "gone"), List.of("c"));
+
+		assertThat(result.notFound()).containsExactly("gone");
+		ArgumentCaptor<OrganizationChangedEvent> published = ArgumentCaptor.forClass(OrganizationChangedEvent.class);
+		verify(eventPublisher, times(1)).publishEvent(published.capture());
+		assertThat(published.getValue().ids(OrganizationChangedEvent.Change.APPROVED)).containsExactly("a", "b");
+		assertThat(published.getValue().ids(OrganizationChangedEvent.Change.REJECTED)).containsExactly("c");
+	}
+
+	@Test
+	void aReviewThatChangesNothingPublishesNothing() {
+		when(organizationRepository.findExistingIds(any())).thenReturn(List.of());
+
+		service.review(List.of("gone"), List.of());
+
+		verify(eventPublisher, never()).publishEvent(any(Object.class));
+	}
+
+	@Test
+	void missingOrganizationIsEmptyAndContentionGivesUp() {
+		existingEvents(1);
+		when(organizationRepository.findRegisteredEventIds("missing")).thenReturn(Optional.empty());
+		assertThat(service.registerForEvents("missing", registrations(1))).isEmpty();
+
+		when(organizationRepository.findRegisteredEventIds("busy")).thenReturn(Optional.of(Set.of()));
+		when(organizationRepository.pushEventRegistrations(eq("busy"), anyList())).thenReturn(false);
+		assertThatThrownBy(() -> service.registerForEvents("busy", registrations(1))).isInstanceOf(IllegalStateException.class);
+	}
+}
@@ -0,0 +1,66 @@
+package com.example.AidLink.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class PasswordHasherTest {
+
+	private final PasswordHasher hasher = new PasswordHasher(4, 1, 1, 5000, "maximumSize=100");
+
+	@AfterEach
+	void stop() {
+		hasher.stop();
+	}
+
+	@Test
+	void legacyPlaintextMatchesOnceAndIsUpgraded() {
+		PasswordHasher.Verification verification = hasher.verify("secret", "secret");
+		assertThat(verification.matches()).isTrue();
+		assertThat(verification.upgradedHash()).startsWith("$2a$04$");
+		assertThat(hasher.verify("secret", verification.upgradedHash())).isEqualTo(new PasswordHasher.Verification(true, null));
+
+		assertThat(hasher.verify("wrong", "secret").matches()).isFalse();
+		assertThat(hasher.verify("wrong", verification.upgradedHash()).matches()).isFalse();
+	}
+
+	@Test
+	void hashesBelowTheConfiguredCostAreUpgraded() {
+		PasswordHasher cheaper = new PasswordHasher(4, 1, 1, 5000, "maximumSize=100");
+		PasswordHasher current = new PasswordHasher(5, 1, 1, 5000, "maximumSize=100");
+		try {
+			PasswordHasher.Verification verification = current.verify("secret", cheaper.hash("secret"));
+			assertThat(verification.matches()).isTrue();
+			assertThat(verification.upgradedHash()).startsWith("$2a$05$");
+		} finally {
+			cheaper.stop();
+			current.stop();
+		}
+	}
+
+	@Test
+	void refusesWorkWhenThePoolIsFull() throws Exception {
+		// One thread and one queue slot: hold the thread and fill the slot, the next hash must be refused
+		CountDownLatch running = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		Future<Boolean> busy = hasher.submit(() -> {
+			running.countDown();
+			return release.await(10, TimeUnit.SECONDS);
+		});
+		running.await();
+		Future<String> queued = hasher.submit(() -> "queued");
+
+		assertThatThrownBy(() -> hasher.hash("secret")).isInstanceOf(PasswordHasher.BusyException.class);
+
+		release.countDown();
+		assertThat(busy.get()).isTrue();
+		assertThat(queued.get()).isEqualTo("queued");
+		assertThat(hasher.verify("secret", hasher.hash("secret")).matches()).isTrue();
+	}
+}
@@ -0,0 +1,163 @@
+package com.example.AidLink.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.AidLink.dto.SearchHit;
+import com.example.AidLink.dto.SearchQuery;
+import com.example.AidLink.dto.SearchResults;
+import com.example.AidLink.event.EventChangedEvent;
+import com.example.AidLink.event.OrganizationChangedEvent;
+import com.example.AidLink.repository.EventRepository;
+import com.example.AidLink.repository.OrganizationRepository;
+import com.example.models.Event;
+import com.example.models.Organization;
+
+class SearchIndexTest {
+
+	private final EventRepository eventRepository = mock(EventRepository.class);
+	private final OrganizationRepository organizationRepository = mock(OrganizationRepository.class);
+	private SearchIndex index;
+
+	@AfterEach
+	void close() throws IOException {
+		if (index != null) index.close();
+	}
+
+	private SearchIndex index(List<Event> events, List<Organization> approved) throws IOException {
+		when(eventRepository.streamAllBy()).thenAnswer(invocation -> events.stream());
+		when(organizationRepository.streamByRegistrationStatus_ApprovalStatus("approved"))
+				.thenAnswer(invocation -> approved.stream());
+		index = new SearchIndex(eventRepository, organizationRepository);
+		index.rebuild();
+		return index;
+	}
+
+	private static Event event(int id, String title, String description, String category, String severity) {
+		Event event = new Event();
+		event.setId(id);
+		event.setTitle(title);
+		event.setDescription(description);
+		event.setCategory(category);
+		event.setSeverity(severity);
+		event.setLocation("Dhaka");
+		return event;
+	}
+
+	private static Organization organization(String id, String legalName, String organizationType) {
+		Organization org = new Organization();
+		org.setId(id);
+		Organization.OrganizationInfo info = new Organization.OrganizationInfo();
+		info.setLegalName(legalName);
+		info.setOrganizationType(organizationType);
+		org.setOrganizationInfo(info);
+		return org;
+	}
+
+	private static SearchQuery query(String text) {
+		return new SearchQuery(text, null, null, null, null, 0, 10);
+	}
+
+	private static long total(SearchIndex index, String text) {
+		try {
+			return index.search(query(text)).total();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	@Test
+	void namesOutrankFreeText() throws IOException {
+		SearchIndex index = index(
+				List.of(event(1, "Drought", "Crops lost after the flood receded", "drought", "high"),
+						event(2, "Flood in the delta", "Villages cut off", "flood", "high")),
+				List.of(organization("a", "Flood Response Network", "NGO")));
+
+		List<SearchHit> hits = index.search(query("flood")).hits();
+
+		assertThat(hits).extracting(SearchHit::id).hasSize(3).endsWith("1");
+		assertThat(hits.get(0).score()).isGreaterThan(hits.get(2).score());
+		assertThat(index.search(new SearchQuery("flood", SearchQuery.TYPE_ORGANIZATION, null, null, null, 0, 10)).hits())
+				.extracting(SearchHit::id).containsExactly("a");
+	}
+
+	@Test
+	void facetsCountAllMatchesAndDrillDownNarrowsThem() throws IOException {
+		SearchIndex index = index(
+				List.of(event(1, "Flood north", null, "flood", "high"),
+						event(2, "Flood south", null, "flood", "low"),
+						event(3, "Earthquake", null, "earthquake", "high")),
+				List.of(organization("a", "Relief Works", "NGO")));
+
+		SearchResults all = index.search(query(""));
+		assertThat(all.total()).isEqualTo(4);
+		assertThat(all.facets().get("category")).isEqualTo(Map.of("flood", 2, "earthquake", 1));
+		assertThat(all.facets().get("severity")).isEqualTo(Map.of("high", 2, "low", 1));
+		assertThat(all.facets().get("organizationType")).isEqualTo(Map.of("NGO", 1));
+
+		SearchResults floods = index.search(new SearchQuery(null, null, "flood", null, null, 0, 10));
+		assertThat(floods.hits()).extracting(SearchHit::id).containsExactlyInAnyOrder("1", "2");
+		assertThat(floods.facets().get("severity")).isEqualTo(Map.of("high", 1, "low", 1));
+
+		SearchResults severeFloods = index.search(new SearchQuery(null, null, "flood", "high", null, 0, 10));
+		assertThat(severeFloods.hits()).extracting(SearchHit::id).containsExactly("1");
+	}
+
+	@Test
+	void organizationsFollowTheirReview() throws IOException {
+		SearchIndex index = index(List.of(), List.of());
+		when(organizationRepository.findByIdIn(List.of("a"))).thenReturn(List.of(organization("a", "Relief Works", "NGO")));
+
+		index.onOrganizationChanged(new OrganizationChangedEvent("a", OrganizationChangedEvent.Change.APPROVED));
+		assertThat(total(index, "relief")).isEqualTo(1);
+
+		index.onOrganizationChanged(new OrganizationChangedEvent("a", OrganizationChangedEvent.Change.REJECTED));
+		assertThat(total(index, "relief")).isZero();
+
+		// Registering again saves over the approved organization as pending
+		index.onOrganizationChanged(new OrganizationChangedEvent("a", OrganizationChangedEvent.Change.APPROVED));
+		index.onOrganizationChanged(new OrganizationChangedEvent("a", OrganizationChangedEvent.Change.REGISTERED));
+		assertThat(total(index, "relief")).isZero();
+	}
+
+	@Test
+	void eventChangesAreSearchableOnceTheListenerReturns() throws IOException {
+		SearchIndex index = index(List.of(event(1, "Flood", null, "flood", "high")), List.of());
+
+		Event renamed = event(1, "Cyclone", null, "cyclone", "high");
+		index.onEventChanged(new EventChangedEvent(1, null, renamed));
+
+		assertThat(total(index, "flood")).isZero();
+		assertThat(total(index, "cyclone")).isEqualTo(1);
+	}
+
+	@Test
+	void searchesSeeThePreviousContentsInFullUntilARebuildCompletes() throws IOException {
+		SearchIndex index = index(List.of(event(1, "Flood", null, "flood", "high"), event(2, "Flood", null, "flood", "low")),
+				List.of());
+
+		// The rebuild searches between every document it reads, the old index must answer each time
+		List<Event> rebuilt = List.of(event(1, "Flood", null, "flood", "high"), event(3, "Wildfire", null, "fire", "high"));
+		when(eventRepository.streamAllBy()).thenAnswer(invocation -> rebuilt.stream()
+				.peek(event -> assertThat(total(index, "flood")).isEqualTo(2)));
+		when(organizationRepository.streamByRegistrationStatus_ApprovalStatus("approved")).thenAnswer(invocation -> Stream.of());
+
+		assertThat(index.rebuild()).isEqualTo(2);
+		assertThat(total(index, "flood")).isEqualTo(1);
+		assertThat(total(index, "wildfire")).isEqualTo(1);
+
+		// Changes after the swap go to the rebuilt index
+		index.onEventChanged(new EventChangedEvent(3, null, event(3, "Landslide", null, "landslide", "high")));
+		assertThat(total(index, "landslide")).isEqualTo(1);
+	}
+}
@@ -1,6 +1,6 @@
 import { useState } from 'react';
 import { Link } from 'react-router';
-import { signOut } from '../utils/auth';
+import { authHeaders, signOut } from '../utils/auth';
 
 const Navbar = () => {
   const [isAboutDropdownOpen, setIsAboutDropdownOpen] = useState(false);
@@ -141,7 +141,7 @@ const Navbar = () => {
                   <button
                     onClick={() => {
                       // Call backend logout endpoint
-                      fetch('https://aidlink-trial.onrender.com/api/user/logout', { method: 'POST', credentials: 'include' });
+                      fetch('https://aidlink-trial.onrender.com/api/user/logout', { method: 'POST', headers: authHeaders() });
                       signOut();
                       window.location.href = '/login';
                     }}
@@ -37,6 +37,7 @@ const Login = () => {
         toast.success('Login successful!');
         localStorage.setItem('isSignedIn', 'true');
         localStorage.setItem('userEmail', formData.email); // Store user email for donation tracking
+        localStorage.setItem('authToken', JSON.parse(text).token); // Sent as a bearer token, the API keeps no session
         
         // Check if there's a redirect path after login
         const redirectPath = getRedirectAfterLogin();
@@ -312,7 +312,9 @@ const Registration = () => {
       if (!customId || customId.trim() === '') {
         customId = `NGO${Date.now()}`;
       }
-      const submitData = { ...formData, id: customId };
+      // Event registrations go in one batched call after the organization exists
+      const { eventRegistrations, ...orgFields } = formData;
+      const submitData = { ...orgFields, id: customId };
       // 1. Register the organization
       const orgRes = await fetch('https://aidlink-trial.onrender.com/api/admin/register-organization', {
         method: 'POST',
@@ -323,11 +325,14 @@ const Registration = () => {
       const orgData = await orgRes.json();
       const orgId = orgData.id || orgData._id;
 
-      // 2. Register for selected events
-      for (const reg of formData.eventRegistrations) {
-        await fetch(`https://aidlink-trial.onrender.com/api/admin/organizations/${orgId}/register-event/${reg.eventId}`, {
-          method: 'POST'
+      // 2. Register for all selected events at once
+      if (eventRegistrations.length > 0) {
+        const regRes = await fetch(`https://aidlink-trial.onrender.com/api/admin/organizations/${orgId}/register-events`, {
+          method: 'POST',
+          headers: { 'Content-Type': 'application/json' },
+          body: JSON.stringify(eventRegistrations)
         });
+        if (!regRes.ok) throw new Error('Event registration failed');
       }
 
       alert('Registration submitted successfully! You will receive an email confirmation shortly.');
@@ -19,6 +19,8 @@ export default function AdminLogin() {
         body: JSON.stringify(form)
       });
       if (res.ok) {
+        const data = await res.json();
+        localStorage.setItem('adminToken', data.token);
         setMessage('Login successful!');
         setTimeout(() => {
           navigate('/admin-dashboard');
@@ -84,9 +84,44 @@ export default function ReviewOrganizations() {
     }
   };
 
-  const openOrgDetails = (org) => {
+  // Approves every organization in the pending list with a single request
+  const approveAll = async () => {
+    if (!window.confirm(`Approve all ${orgs.length} pending organizations?`)) {
+      return;
+    }
+    try {
+      const response = await fetch('https://aidlink-trial.onrender.com/api/admin/organizations/approval-status', {
+        method: 'PATCH',
+        headers: { 'Content-Type': 'application/json' },
+        body: JSON.stringify({ approve: orgs.map(org => org.id) })
+      });
+      if (response.ok) {
+        const result = await response.json();
+        setOrgs(orgs.filter(org => !result.approved.includes(org.id) && !result.notFound.includes(org.id)));
+        alert(`${result.approved.length} organizations approved successfully!`);
+      } else {
+        alert('Failed to approve organizations');
+      }
+    } catch (error) {
+      console.error('Error approving organizations:', error);
+      alert('Error approving organizations');
+    }
+  };
+
+  // The pending list only carries summaries, load the full record for the review modal
+  const openOrgDetails = async (org) => {
     setSelectedOrg(org);
     setShowModal(true);
+    try {
+      const response = await fetch(`https://aidlink-trial.onrender.com/api/admin/organizations/${org.id}`);
+      if (response.ok) {
+        setSelectedOrg(await response.json());
+      } else {
+        console.error('Failed to fetch organization details');
+      }
+    } catch (error) {
+      console.error('Error fetching organization details:', error);
+    }
   };
 
   const closeModal = () => {
@@ -164,9 +199,20 @@ export default function ReviewOrganizations() {
     <div className="min-h-screen bg-gray-50 py-8">
       <div className="max-w-7xl mx-auto px-4">
         {/* Header */}
-        <div className="mb-8">
-          <h1 className="text-3xl font-bold text-gray-900 mb-2">Pending Organizations</h1>
-          <p className="text-gray-600">Review and approve organization registrations</p>
+        <div className="mb-8 flex items-start justify-between">
+          <div>
+            <h1 className="text-3xl font-bold text-gray-900 mb-2">Pending Organizations</h1>
+            <p className="text-gray-600">Review and approve organization registrations</p>
+          </div>
+          {orgs.length > 1 && (
+            <button
+              onClick={approveAll}
+              className="px-6 py-2 bg-green-600 text-white rounded-md hover:bg-green-700 transition-colors flex items-center gap-2"
+            >
+              <FiCheck className="h-4 w-4" />
+              Approve All
+            </button>
+          )}
         </div>
 
         {/* Organizations List */}
@@ -1,7 +1,7 @@
 import { FiHeart, FiCalendar, FiMapPin, FiUsers } from "react-icons/fi";
 import PropTypes from "prop-types";
 import { Link, useNavigate } from "react-router";
-import getImgUrl from "../../utils/getImgURL";
+import { getThumbUrl } from "../../utils/getImgURL";
 import { handleDonationAuth } from "../../utils/auth";
 
 const EventCard = ({ event }) => {
@@ -37,7 +37,10 @@ const EventCard = ({ event }) => {
         {/* Event Image */}
         <div className="h-48 flex justify-center items-center mb-4 overflow-hidden rounded-md relative">
           <img
-            src={getImgUrl(event.coverImage)}
+            src={getThumbUrl(event.coverImage, 640)}
+            srcSet={`${getThumbUrl(event.coverImage, 320)} 320w, ${getThumbUrl(event.coverImage, 640)} 640w`}
+            sizes="(max-width: 640px) 100vw, 400px"
+            loading="lazy"
             alt={event.title}
             className="object-cover w-full h-full hover:scale-105 transition-transform duration-200"
           />
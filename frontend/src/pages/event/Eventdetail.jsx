@@ -35,14 +35,21 @@ const Eventdetail = () => {
       fetchEventDetails();
     }
     
-    // Set up event polling to update the funding progress bar
-    const pollInterval = setInterval(() => {
-      if (eventId) {
-        fetchEventDetails();
-      }
-    }, 10000); // Poll every 10 seconds
-    
-    return () => clearInterval(pollInterval);
+    if (!eventId) return;
+
+    // Funding updates are pushed by the server instead of polling the event
+    const source = new EventSource(`/api/admin/events/funding/stream?ids=${eventId}`);
+    source.addEventListener('funding', (message) => {
+      const update = JSON.parse(message.data).find((u) => String(u.eventId) === String(eventId));
+      if (!update) return;
+      setEvent((prev) => prev && {
+        ...prev,
+        currentFunding: update.currentFunding,
+        fundingGoal: update.fundingGoal ?? prev.fundingGoal,
+      });
+    });
+
+    return () => source.close();
   }, [eventId]);
 
   const formatNumber = (num) => {
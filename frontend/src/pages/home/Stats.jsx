@@ -1,4 +1,22 @@
+import { useEffect, useState } from 'react';
+
+const formatNumber = (num) => {
+  if (num >= 10000000) return (num / 10000000).toFixed(1) + ' crore';
+  if (num >= 100000) return (num / 100000).toFixed(1) + ' lakh';
+  return num.toLocaleString();
+};
+
 const Stats = () => {
+  const [stats, setStats] = useState(null);
+
+  useEffect(() => {
+    // Totals are maintained on the server, one small request instead of downloading every event
+    fetch('/api/stats')
+      .then((res) => (res.ok ? res.json() : null))
+      .then(setStats)
+      .catch(() => setStats(null));
+  }, []);
+
   return (
     <section className="bg-white py-16">
       <div className="max-w-7xl mx-auto px-4">
@@ -6,10 +24,12 @@ const Stats = () => {
           {/* Stats */}
           <div>
             <h3 className="text-2xl md:text-3xl font-bold text-black mb-2">
-              More than 35 lakhs tk is raised
+              {stats ? `${formatNumber(stats.moneyRaised)} tk raised` : 'More than 35 lakhs tk is raised'}
             </h3>
             <p className="text-lg text-gray-text">
-              every week on AIDLink.*
+              {stats
+                ? `${stats.activeDisasters} active disasters, ${formatNumber(stats.peopleAffected)} people affected, ${stats.approvedOrganizations} approved organizations on AIDLink.`
+                : 'every week on AIDLink.*'}
             </p>
           </div>
           
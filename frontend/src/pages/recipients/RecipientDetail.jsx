@@ -1,7 +1,7 @@
 import { useState, useEffect } from 'react';
 import { useParams, Link, useNavigate } from 'react-router';
 import getImgUrl, { getOrgFallbackImg } from '../../utils/getImgURL';
-import { handleDonationAuth } from '../../utils/auth';
+import { authHeaders, handleDonationAuth } from '../../utils/auth';
 import { 
   FiArrowLeft, 
   FiMapPin, 
@@ -164,6 +164,7 @@ const RecipientDetail = () => {
         method: 'POST',
         headers: {
           'Content-Type': 'application/json',
+          ...authHeaders(),
         },
         body: JSON.stringify({ amount: parseInt(donationAmount), userEmail }),
       });
@@ -16,6 +16,15 @@ export const getCurrentUserEmail = () => {
   return localStorage.getItem('userEmail');
 };
 
+/**
+ * Authorization header for API calls made as the signed-in user
+ * @returns {Object} Header object, empty if there is no token
+ */
+export const authHeaders = () => {
+  const token = localStorage.getItem('authToken');
+  return token ? { Authorization: `Bearer ${token}` } : {};
+};
+
 /**
  * Check if user can donate (must be signed in)
  * @returns {boolean} True if user can donate, false otherwise
@@ -66,5 +75,6 @@ export const getRedirectAfterLogin = () => {
 export const signOut = () => {
   localStorage.removeItem('isSignedIn');
   localStorage.removeItem('userEmail');
+  localStorage.removeItem('authToken');
   localStorage.removeItem('redirectAfterLogin');
 };
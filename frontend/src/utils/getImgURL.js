@@ -74,4 +74,26 @@ export const getOrgFallbackImg = (orgType) => {
   return fallbackMap[orgType] || handsImg;
 };
 
+// Hosts the backend image proxy fetches from, keep in step with aidlink.images.allowed-hosts
+const THUMB_HOSTS = ['res.cloudinary.com'];
+
+const isProxied = (url) => {
+  try {
+    const { protocol, hostname } = new URL(url);
+    return protocol === 'https:' && THUMB_HOSTS.includes(hostname);
+  } catch {
+    return false;
+  }
+};
+
+// Resized copy of an uploaded image from the backend image proxy, for thumbnails.
+// Other remote images are used as they are, the proxy would refuse them.
+// Bundled images are already small and are returned as they are.
+export const getThumbUrl = (imageName, width) => {
+  if (typeof imageName === 'string' && (imageName.startsWith('http://') || imageName.startsWith('https://'))) {
+    return isProxied(imageName) ? `/api/images?url=${encodeURIComponent(imageName)}&w=${width}` : imageName;
+  }
+  return getImgUrl(imageName);
+};
+
 export default getImgUrl;